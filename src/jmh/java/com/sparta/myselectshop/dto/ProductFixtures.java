@@ -0,0 +1,55 @@
+package com.sparta.myselectshop.dto;
+
+import com.sparta.myselectshop.entity.Folder;
+import com.sparta.myselectshop.entity.Product;
+import com.sparta.myselectshop.entity.ProductFolder;
+import com.sparta.myselectshop.entity.User;
+import com.sparta.myselectshop.entity.UserRoleEnum;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ✅ ProductFixtures 클래스는 벤치마크에서 사용할 상품과 폴더를 메모리에 만드는 클래스입니다.
+ *
+ *    ➡️ 데이터베이스 없이 엔티티를 직접 생성하므로, 측정 결과에는 변환/직렬화 비용만 포함됩니다.
+ */
+final class ProductFixtures {
+
+    private ProductFixtures() {
+    }
+
+    /**
+     * ✅ 각각 `folderCount`개의 폴더에 담긴 상품 `productCount`개를 만듭니다.
+     *
+     * @param productCount 만들 상품 수입니다.
+     * @param folderCount 상품마다 연결할 폴더 수입니다.
+     * @return 폴더가 연결된 상품 목록
+     */
+    static List<Product> products(int productCount, int folderCount) {
+        User user = new User("sollertia4351", "robbie1234", "sollertia@sparta.com", UserRoleEnum.USER);
+        user.setId(1L);
+
+        List<Folder> folders = new ArrayList<>();
+        for (int i = 0; i < folderCount; i++) {
+            Folder folder = new Folder("폴더 " + i, user);
+            folder.setId((long) i + 1);
+            folders.add(folder);
+        }
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            Product product = new Product(new ProductRequestDto(
+                "Apple <b>아이폰</b> 14 프로 256GB [자급제] " + i,
+                "https://shopping-phinf.pstatic.net/main_3456175/34561756621.20220929142551.jpg",
+                "https://search.shopping.naver.com/gate.nhn?id=" + (34561756621L + i),
+                959000 + i), user);
+            product.setId((long) i + 1);
+            product.setMyprice(900000);
+            for (Folder folder : folders) {
+                product.getProductFolderList().add(new ProductFolder(product, folder));
+            }
+            products.add(product);
+        }
+        return products;
+    }
+}
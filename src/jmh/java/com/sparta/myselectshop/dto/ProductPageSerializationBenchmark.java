@@ -0,0 +1,52 @@
+package com.sparta.myselectshop.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * ✅ ProductPageSerializationBenchmark 클래스는 `Page<ProductResponseDto>`를 JSON으로 직렬화하는 비용을 측정합니다.
+ *
+ *    ➡️ `GET /api/products` 응답과 같은 형태(페이지 정보 + 상품 목록)를 Jackson으로 직렬화합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductPageSerializationBenchmark {
+
+    @Param({"10", "100"})
+    int pageSize; // 한 페이지의 상품 수
+
+    @Param({"0", "5"})
+    int folderCount; // 상품마다 속한 폴더 수
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private Page<ProductResponseDto> page;
+
+    @Setup
+    public void setup() {
+        List<ProductResponseDto> content = ProductFixtures.products(pageSize, folderCount).stream()
+            .map(ProductResponseDto::new)
+            .toList();
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "id")), 1000);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,38 @@
+package com.sparta.myselectshop.dto;
+
+import com.sparta.myselectshop.entity.Product;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * ✅ ProductResponseDtoBenchmark 클래스는 상품 엔티티를 `ProductResponseDto`로 변환하는 비용을 측정합니다.
+ *
+ *    ➡️ 상품 목록 API는 상품마다 이 변환을 수행하며, 비용은 상품이 속한 폴더 수에 비례합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductResponseDtoBenchmark {
+
+    @Param({"0", "5", "50"})
+    int folderCount; // 상품이 속한 폴더 수
+
+    private Product product;
+
+    @Setup
+    public void setup() {
+        product = ProductFixtures.products(1, folderCount).get(0);
+    }
+
+    @Benchmark
+    public ProductResponseDto toResponseDto() {
+        return new ProductResponseDto(product);
+    }
+}
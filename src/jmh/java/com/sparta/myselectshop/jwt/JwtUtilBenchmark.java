@@ -0,0 +1,53 @@
+package com.sparta.myselectshop.jwt;
+
+import com.sparta.myselectshop.entity.UserRoleEnum;
+import java.lang.reflect.Field;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * ✅ JwtUtilBenchmark 클래스는 JWT 토큰 생성과 검증 비용을 측정합니다.
+ *
+ *    ➡️ 인증이 필요한 모든 요청은 토큰을 검증하므로, 요청마다 고정적으로 더해지는 비용입니다.
+ *    ➡️ 비밀키는 실행할 때마다 임의로 만들며, 설정 파일의 키는 사용하지 않습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token; // "Bearer " 접두사를 제거한 토큰
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        jwtUtil = new JwtUtil();
+        Field secretKey = JwtUtil.class.getDeclaredField("secretKey"); // @Value로 주입되는 필드입니다.
+        secretKey.setAccessible(true);
+        secretKey.set(jwtUtil, Base64.getEncoder().encodeToString(secret));
+        jwtUtil.init();
+
+        token = jwtUtil.createToken("sollertia4351", UserRoleEnum.USER).substring(JwtUtil.BEARER_PREFIX.length());
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken("sollertia4351", UserRoleEnum.USER);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+}
@@ -0,0 +1,46 @@
+package com.sparta.myselectshop.naver.service;
+
+import com.sparta.myselectshop.naver.dto.ItemDto;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+/**
+ * ✅ NaverApiServiceBenchmark 클래스는 네이버 쇼핑 검색 응답을 `ItemDto` 목록으로 변환하는 비용을 측정합니다.
+ *
+ *    ➡️ 실제 API를 호출하지 않고, 기록해 둔 응답(`naver/shop-search.json`, 상품 15개)을 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NaverApiServiceBenchmark {
+
+    private NaverApiService naverApiService;
+    private String response; // 기록해 둔 검색 응답 본문
+
+    @Setup
+    public void setup() throws IOException {
+        naverApiService = new NaverApiService(new RestTemplateBuilder());
+        try (InputStream in = getClass().getResourceAsStream("/naver/shop-search.json")) {
+            if (in == null) {
+                throw new IllegalStateException("naver/shop-search.json 리소스를 찾을 수 없습니다.");
+            }
+            response = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public List<ItemDto> fromJSONtoItems() {
+        return naverApiService.fromJSONtoItems(response);
+    }
+}
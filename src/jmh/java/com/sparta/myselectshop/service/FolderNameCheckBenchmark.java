@@ -0,0 +1,76 @@
+package com.sparta.myselectshop.service;
+
+import com.sparta.myselectshop.entity.Folder;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * ✅ FolderNameCheckBenchmark 클래스는 폴더 추가 시 폴더 이름 중복 확인 비용을 측정합니다.
+ *
+ *    ➡️ `nestedLoop`는 이전 `FolderService.isExistFolderName` 방식(새 이름마다 기존 폴더 목록 전체를 비교)을 그대로 옮긴 기준값입니다.
+ *    ➡️ `normalizedHashSet`은 현재 `FolderService.addFolders` 방식(정규화 + 해시 맵/집합)입니다.
+ *    ➡️ 기존 폴더 수와 새 폴더 수를 같게 두며, 중복은 없다고 가정하여 모든 이름을 끝까지 비교하게 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FolderNameCheckBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int size; // 기존 폴더 수이자 새로 추가하는 폴더 수
+
+    private List<String> newNames;
+    private List<Folder> existFolders;
+    private Set<String> existNormalizedNames;
+
+    @Setup
+    public void setup() {
+        newNames = new ArrayList<>();
+        existFolders = new ArrayList<>();
+        existNormalizedNames = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            newNames.add("New Folder " + i);
+            Folder folder = new Folder("Existing Folder " + i, null);
+            existFolders.add(folder);
+            existNormalizedNames.add(folder.getNormalizedName());
+        }
+    }
+
+    @Benchmark
+    public int nestedLoop() {
+        int duplicates = 0;
+        for (String folderName : newNames) {
+            for (Folder existFolder : existFolders) {
+                if (folderName.equals(existFolder.getName())) {
+                    duplicates++;
+                    break;
+                }
+            }
+        }
+        return duplicates;
+    }
+
+    @Benchmark
+    public int normalizedHashSet() {
+        int duplicates = 0;
+        Map<String, String> namesByNormalized = FolderService.normalizeDistinct(newNames);
+        for (String normalizedName : namesByNormalized.keySet()) {
+            if (existNormalizedNames.contains(normalizedName)) {
+                duplicates++;
+            }
+        }
+        return duplicates;
+    }
+}
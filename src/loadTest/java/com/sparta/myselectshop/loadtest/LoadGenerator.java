@@ -0,0 +1,304 @@
+package com.sparta.myselectshop.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ✅ LoadGenerator 클래스는 실행 중인 애플리케이션에 부하를 주고 처리량과 지연 시간 분포를 보고하는 도구입니다.
+ *
+ *    ➡️ 부하 테스트용 사용자를 가입/로그인시킨 뒤, 여러 스레드가 `/api/search`, `/api/products`, `/api/folders`를
+ *       가중치에 따라 무작위로 호출합니다.
+ *    ➡️ 워밍업 구간의 요청은 집계하지 않으며, 엔드포인트별 처리량과 p50/p90/p95/p99/최대 지연 시간을 출력합니다.
+ *    ➡️ 검색은 네이버 API를 호출하므로, 애플리케이션을 StubApiServer에 연결한 상태에서 실행해야 합니다.
+ *
+ *    ➡️ 실행: `./gradlew loadTest -PloadTestArgs="--base-url=http://localhost:8080 --users=20 --concurrency=32 --duration-seconds=60"`
+ */
+public class LoadGenerator {
+
+    private static final String PASSWORD = "loadtest1234";
+    private static final String[] QUERIES = {"아이폰", "갤럭시", "맥북", "에어팟", "모니터", "청소기"};
+
+    /**
+     * ✅ 부하를 주는 엔드포인트입니다.
+     */
+    enum Endpoint {
+        SEARCH, // GET /api/search
+        PRODUCTS, // GET /api/products
+        FOLDERS // GET /api/folders
+    }
+
+    private final HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .followRedirects(HttpClient.Redirect.NEVER)
+        .build();
+    private final String baseUrl;
+    private final Map<Endpoint, Integer> weights;
+
+    LoadGenerator(String baseUrl, Map<Endpoint, Integer> weights) {
+        this.baseUrl = baseUrl;
+        this.weights = weights;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTestOptions.parse(args);
+        int users = Integer.parseInt(options.getOrDefault("users", "10"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "16"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-seconds", "10"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration-seconds", "60"));
+
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        weights.put(Endpoint.SEARCH, Integer.parseInt(options.getOrDefault("weight-search", "1")));
+        weights.put(Endpoint.PRODUCTS, Integer.parseInt(options.getOrDefault("weight-products", "6")));
+        weights.put(Endpoint.FOLDERS, Integer.parseInt(options.getOrDefault("weight-folders", "3")));
+
+        LoadGenerator generator = new LoadGenerator(options.getOrDefault("base-url", "http://localhost:8080"), weights);
+        List<String> tokens = generator.login(users);
+        System.out.println(tokens.size() + " users logged in; warming up for " + warmupSeconds + "s, measuring for "
+            + durationSeconds + "s with " + concurrency + " threads");
+
+        Report report = generator.run(tokens, concurrency, warmupSeconds, durationSeconds);
+        System.out.println(report.toTable());
+
+        String reportFile = options.get("report");
+        if (reportFile != null) {
+            Files.writeString(Path.of(reportFile), report.toJson());
+            System.out.println("Report written to " + reportFile);
+        }
+    }
+
+    /**
+     * ✅ 부하 테스트용 사용자를 가입시키고 로그인하여 JWT 토큰을 받아옵니다.
+     *
+     *    ➡️ 이전 실행에서 가입한 사용자는 가입이 실패하지만, 로그인은 그대로 진행합니다.
+     *    ➡️ 사용자마다 폴더를 하나 만들어 폴더 목록이 비어 있지 않도록 합니다.
+     *
+     * @return `Authorization` 헤더에 그대로 넣을 수 있는 "Bearer ..." 토큰 목록
+     */
+    List<String> login(int users) throws IOException, InterruptedException {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            String username = "loadtest" + i;
+            String form = "username=" + username + "&password=" + PASSWORD + "&email=" + username + "%40loadtest.local";
+            send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/user/signup"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form)));
+
+            HttpResponse<Void> login = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/user/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                    "{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}")));
+            String token = login.headers().firstValue("Authorization").orElseThrow(() ->
+                new IllegalStateException(username + " 로그인에 실패했습니다. (status " + login.statusCode() + ")"));
+            tokens.add(token);
+
+            send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/folders"))
+                .header("Authorization", token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"folderNames\":[\"loadtest\"]}")));
+        }
+        return tokens;
+    }
+
+    /**
+     * ✅ 지정한 시간 동안 부하를 주고 측정 구간의 결과를 집계합니다.
+     */
+    Report run(List<String> tokens, int concurrency, int warmupSeconds, int durationSeconds) throws Exception {
+        long start = System.nanoTime();
+        long measureFrom = start + Duration.ofSeconds(warmupSeconds).toNanos();
+        long measureUntil = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        List<Future<Recorder>> futures = new ArrayList<>();
+        for (int t = 0; t < concurrency; t++) {
+            int worker = t;
+            futures.add(executor.submit(() -> {
+                Recorder recorder = new Recorder();
+                for (long i = worker; System.nanoTime() < measureUntil; i += concurrency) {
+                    String token = tokens.get((int) (i % tokens.size()));
+                    Endpoint endpoint = pick();
+                    long sentAt = System.nanoTime();
+                    boolean ok = call(endpoint, token);
+                    long receivedAt = System.nanoTime();
+                    if (sentAt >= measureFrom && receivedAt <= measureUntil) {
+                        recorder.record(endpoint, receivedAt - sentAt, ok);
+                    }
+                }
+                return recorder;
+            }));
+        }
+
+        Recorder total = new Recorder();
+        for (Future<Recorder> future : futures) {
+            total.merge(future.get());
+        }
+        executor.shutdown();
+        return new Report(total, durationSeconds);
+    }
+
+    private Endpoint pick() {
+        int sum = weights.values().stream().mapToInt(Integer::intValue).sum();
+        int r = ThreadLocalRandom.current().nextInt(sum);
+        for (Map.Entry<Endpoint, Integer> entry : weights.entrySet()) {
+            r -= entry.getValue();
+            if (r < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("가중치의 합은 0보다 커야 합니다.");
+    }
+
+    /**
+     * ✅ 엔드포인트를 한 번 호출하고, 2xx 또는 304 응답이면 성공으로 봅니다.
+     */
+    private boolean call(Endpoint endpoint, String token) {
+        String path = switch (endpoint) {
+            case SEARCH -> "/api/search?query="
+                + URLEncoder.encode(QUERIES[ThreadLocalRandom.current().nextInt(QUERIES.length)], StandardCharsets.UTF_8);
+            case PRODUCTS -> "/api/products?page=1&size=10&sortBy=id&isAsc=false";
+            case FOLDERS -> "/api/folders";
+        };
+        try {
+            HttpResponse<Void> response = send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", token)
+                .GET());
+            int status = response.statusCode();
+            return (status >= 200 && status < 300) || status == 304;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private HttpResponse<Void> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    /**
+     * ✅ 엔드포인트별 지연 시간과 오류 수를 기록합니다. 스레드마다 하나씩 사용하고, 끝난 뒤 합칩니다.
+     */
+    static class Recorder {
+
+        private final Map<Endpoint, long[]> latencies = new EnumMap<>(Endpoint.class); // 나노초 단위 지연 시간
+        private final Map<Endpoint, Integer> counts = new EnumMap<>(Endpoint.class);
+        private final Map<Endpoint, Integer> errors = new EnumMap<>(Endpoint.class);
+
+        void record(Endpoint endpoint, long latencyNanos, boolean ok) {
+            int count = counts.getOrDefault(endpoint, 0);
+            long[] values = latencies.computeIfAbsent(endpoint, e -> new long[1024]);
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+                latencies.put(endpoint, values);
+            }
+            values[count] = latencyNanos;
+            counts.put(endpoint, count + 1);
+            if (!ok) {
+                errors.merge(endpoint, 1, Integer::sum);
+            }
+        }
+
+        void merge(Recorder other) {
+            for (Endpoint endpoint : Endpoint.values()) {
+                int count = other.counts.getOrDefault(endpoint, 0);
+                long[] values = other.latencies.get(endpoint);
+                for (int i = 0; i < count; i++) {
+                    record(endpoint, values[i], true);
+                }
+                errors.merge(endpoint, other.errors.getOrDefault(endpoint, 0), Integer::sum);
+            }
+        }
+
+        long[] sorted(Endpoint endpoint) {
+            long[] values = Arrays.copyOf(latencies.getOrDefault(endpoint, new long[0]), counts.getOrDefault(endpoint, 0));
+            Arrays.sort(values);
+            return values;
+        }
+
+        int errors(Endpoint endpoint) {
+            return errors.getOrDefault(endpoint, 0);
+        }
+    }
+
+    /**
+     * ✅ 측정 구간의 엔드포인트별 처리량과 지연 시간 백분위수입니다.
+     */
+    static class Report {
+
+        private static final double[] PERCENTILES = {50, 90, 95, 99};
+
+        private final Recorder recorder;
+        private final int durationSeconds;
+
+        Report(Recorder recorder, int durationSeconds) {
+            this.recorder = recorder;
+            this.durationSeconds = durationSeconds;
+        }
+
+        String toTable() {
+            StringBuilder table = new StringBuilder(String.format("%-10s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+            for (Endpoint endpoint : Endpoint.values()) {
+                long[] values = recorder.sorted(endpoint);
+                table.append(String.format("%-10s %9d %7d %9.1f", endpoint.name().toLowerCase(), values.length,
+                    recorder.errors(endpoint), (double) values.length / durationSeconds));
+                for (double percentile : PERCENTILES) {
+                    table.append(String.format(" %9.1f", millis(percentile(values, percentile))));
+                }
+                table.append(String.format(" %9.1f%n", millis(values.length == 0 ? 0 : values[values.length - 1])));
+            }
+            return table.toString();
+        }
+
+        String toJson() {
+            StringBuilder json = new StringBuilder("{\"durationSeconds\":" + durationSeconds + ",\"endpoints\":{");
+            for (Endpoint endpoint : Endpoint.values()) {
+                long[] values = recorder.sorted(endpoint);
+                if (endpoint.ordinal() > 0) {
+                    json.append(',');
+                }
+                json.append('"').append(endpoint.name().toLowerCase()).append("\":{")
+                    .append("\"requests\":").append(values.length)
+                    .append(",\"errors\":").append(recorder.errors(endpoint))
+                    .append(",\"throughput\":").append((double) values.length / durationSeconds);
+                for (double percentile : PERCENTILES) {
+                    json.append(",\"p").append((int) percentile).append("Ms\":").append(millis(percentile(values, percentile)));
+                }
+                json.append(",\"maxMs\":").append(millis(values.length == 0 ? 0 : values[values.length - 1])).append('}');
+            }
+            return json.append("}}\n").toString();
+        }
+
+        /**
+         * ✅ 정렬된 값에서 nearest-rank 방식으로 백분위수를 구합니다.
+         */
+        private static long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+            return sorted[Math.max(rank, 1) - 1];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
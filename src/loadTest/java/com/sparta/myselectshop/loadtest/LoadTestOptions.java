@@ -0,0 +1,30 @@
+package com.sparta.myselectshop.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ✅ LoadTestOptions 클래스는 부하 테스트 도구의 `--key=value` 형식 인자를 읽는 유틸리티입니다.
+ */
+final class LoadTestOptions {
+
+    private LoadTestOptions() {
+    }
+
+    /**
+     * ✅ `--key=value` 형식의 인자를 맵으로 변환합니다.
+     *
+     * @throws IllegalArgumentException 형식에 맞지 않는 인자가 있는 경우 발생하는 예외입니다.
+     */
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다 : " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,139 @@
+package com.sparta.myselectshop.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ StubApiServer 클래스는 부하 테스트에서 네이버 검색 API와 카카오 로그인 API를 대신하는 로컬 스텁 서버입니다.
+ *
+ *    ➡️ 네이버 쇼핑 검색(`/v1/search/shop.json`)은 기록해 둔 응답(`stub/naver/shop-search-*.json`)을 차례로 돌려줍니다.
+ *    ➡️ 카카오 토큰 발급(`/oauth/token`)과 사용자 정보(`/v2/user/me`)는 요청마다 새 사용자를 만들어 응답합니다.
+ *    ➡️ 모든 응답에 지연 시간(평균 + 무작위 편차)을 더하고, 지정한 비율만큼 500 오류를 돌려줍니다.
+ *
+ *    ➡️ 실행: `./gradlew stubServer -PloadTestArgs="--port=18080 --latency-ms=80 --jitter-ms=40 --error-rate=0.01"`
+ *       애플리케이션은 `NAVER_API_BASE_URL`, `KAKAO_AUTH_BASE_URL`, `KAKAO_API_BASE_URL`을 `http://localhost:18080`으로 설정하여 실행합니다.
+ */
+public class StubApiServer {
+
+    private static final String[] RECORDED_SEARCHES = {
+        "/stub/naver/shop-search-1.json",
+        "/stub/naver/shop-search-2.json"
+    };
+
+    private final int latencyMs; // 평균 지연 시간 (밀리초)
+    private final int jitterMs; // 지연 시간의 무작위 편차 (밀리초)
+    private final double errorRate; // 500 오류로 응답할 비율 (0 ~ 1)
+    private final List<byte[]> searchResponses = new ArrayList<>(); // 기록해 둔 검색 응답
+    private final AtomicLong requestCount = new AtomicLong(); // 처리한 요청 수 (응답 선택과 사용자 번호에 사용)
+
+    public StubApiServer(int latencyMs, int jitterMs, double errorRate) throws IOException {
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.errorRate = errorRate;
+        for (String resource : RECORDED_SEARCHES) {
+            try (InputStream in = StubApiServer.class.getResourceAsStream(resource)) {
+                if (in == null) {
+                    throw new IllegalStateException(resource + " 리소스를 찾을 수 없습니다.");
+                }
+                searchResponses.add(in.readAllBytes());
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = LoadTestOptions.parse(args);
+        int port = Integer.parseInt(options.getOrDefault("port", "18080"));
+        StubApiServer stub = new StubApiServer(
+            Integer.parseInt(options.getOrDefault("latency-ms", "80")),
+            Integer.parseInt(options.getOrDefault("jitter-ms", "40")),
+            Double.parseDouble(options.getOrDefault("error-rate", "0")));
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/v1/search/shop.json", stub.handler(stub::search));
+        server.createContext("/oauth/token", stub.handler(stub::kakaoToken));
+        server.createContext("/v2/user/me", stub.handler(stub::kakaoUser));
+        server.setExecutor(Executors.newCachedThreadPool()); // 지연 중인 요청이 다른 요청을 막지 않도록 합니다.
+        server.start();
+
+        System.out.println("Stub API server listening on http://localhost:" + port
+            + " (latency " + stub.latencyMs + "±" + stub.jitterMs + "ms, error rate " + stub.errorRate + ")");
+    }
+
+    /**
+     * ✅ 지연 시간과 오류율을 적용한 뒤 응답 본문을 기록하는 핸들러를 만듭니다.
+     */
+    private HttpHandler handler(ResponseBody body) {
+        return exchange -> {
+            try {
+                exchange.getRequestBody().readAllBytes(); // 요청 본문은 사용하지 않습니다.
+                long n = requestCount.incrementAndGet();
+                sleep();
+
+                if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                    send(exchange, 500, "{\"errorMessage\":\"stub failure\",\"errorCode\":\"SE99\"}".getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                send(exchange, 200, body.create(n));
+            } finally {
+                exchange.close();
+            }
+        };
+    }
+
+    private byte[] search(long n) {
+        return searchResponses.get((int) (n % searchResponses.size()));
+    }
+
+    private byte[] kakaoToken(long n) {
+        return ("{\"token_type\":\"bearer\",\"access_token\":\"stub-" + n + "\",\"expires_in\":21599,"
+            + "\"refresh_token\":\"stub-refresh-" + n + "\",\"refresh_token_expires_in\":5183999}")
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] kakaoUser(long n) {
+        return ("{\"id\":" + (9_000_000_000L + n) + ","
+            + "\"properties\":{\"nickname\":\"stub" + n + "\"},"
+            + "\"kakao_account\":{\"email\":\"stub" + n + "@stub.local\"}}")
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void sleep() {
+        int delay = latencyMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextInt(-jitterMs, jitterMs + 1) : 0);
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * ✅ n번째 요청의 응답 본문을 만드는 함수형 인터페이스입니다.
+     */
+    @FunctionalInterface
+    private interface ResponseBody {
+        byte[] create(long n);
+    }
+}
@@ -0,0 +1,34 @@
+package com.sparta.myselectshop.alert.event;
+
+import lombok.Getter;
+
+/**
+ * ✅ PriceDropEvent 클래스는 가격 갱신 결과 최저가가 사용자가 설정한 희망가 이하로 내려갔음을 나타내는 도메인 이벤트입니다.
+ *
+ *    ➡️ 가격 갱신 트랜잭션이 커밋된 뒤 알림 큐에 들어가며, 이후 사용자별 다이제스트로 묶여 전송됩니다.
+ */
+@Getter // 각 필드에 대한 Getter 메서드를 자동으로 생성합니다.
+public class PriceDropEvent {
+    private final Long userId; // 상품을 등록한 사용자 ID
+    private final Long productId; // 가격이 내려간 상품 ID
+    private final String title; // 상품명
+    private final int lprice; // 갱신된 최저가
+    private final int myprice; // 사용자가 설정한 희망가
+
+    /**
+     * ✅ 가격 하락 이벤트를 생성합니다.
+     *
+     * @param userId 상품을 등록한 사용자 ID입니다.
+     * @param productId 가격이 내려간 상품 ID입니다.
+     * @param title 상품명입니다.
+     * @param lprice 갱신된 최저가입니다.
+     * @param myprice 사용자가 설정한 희망가입니다.
+     */
+    public PriceDropEvent(Long userId, Long productId, String title, int lprice, int myprice) {
+        this.userId = userId;
+        this.productId = productId;
+        this.title = title;
+        this.lprice = lprice;
+        this.myprice = myprice;
+    }
+}
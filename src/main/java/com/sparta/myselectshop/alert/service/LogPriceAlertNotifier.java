@@ -0,0 +1,27 @@
+package com.sparta.myselectshop.alert.service;
+
+import com.sparta.myselectshop.alert.event.PriceDropEvent;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ LogPriceAlertNotifier 클래스는 가격 하락 다이제스트를 로그로 기록하는 기본(stub) 알림 채널입니다.
+ *
+ *    ➡️ 실제 전송 수단이 준비되기 전까지 다이제스트 내용을 확인하는 용도로 사용됩니다.
+ */
+@Slf4j(topic = "PriceAlert")
+@Component // Spring의 컴포넌트로 등록됩니다.
+public class LogPriceAlertNotifier implements PriceAlertNotifier {
+
+    @Override
+    public void notify(Long userId, List<PriceDropEvent> drops) {
+        StringBuilder digest = new StringBuilder();
+        digest.append("[Price Alert] userId: ").append(userId).append(", ").append(drops.size()).append("건");
+        for (PriceDropEvent drop : drops) {
+            digest.append("\n  - ").append(drop.getTitle())
+                .append(" : ").append(drop.getLprice()).append("원 (희망가 ").append(drop.getMyprice()).append("원)");
+        }
+        log.info(digest.toString());
+    }
+}
@@ -0,0 +1,20 @@
+package com.sparta.myselectshop.alert.service;
+
+import com.sparta.myselectshop.alert.event.PriceDropEvent;
+import java.util.List;
+
+/**
+ * ✅ PriceAlertNotifier는 사용자별 가격 하락 다이제스트를 실제로 전달하는 알림 채널입니다.
+ *
+ *    ➡️ 메일, 푸시 등 전송 수단에 따라 구현체를 교체할 수 있습니다.
+ */
+public interface PriceAlertNotifier {
+
+    /**
+     * ✅ 한 사용자에게 가격 하락 다이제스트를 전달합니다.
+     *
+     * @param userId 알림을 받을 사용자 ID입니다.
+     * @param drops 이번 다이제스트에 포함될 가격 하락 이벤트 목록입니다.
+     */
+    void notify(Long userId, List<PriceDropEvent> drops);
+}
@@ -0,0 +1,112 @@
+package com.sparta.myselectshop.alert.service;
+
+import com.sparta.myselectshop.alert.event.PriceDropEvent;
+import com.sparta.myselectshop.aop.UseWorkload;
+import com.sparta.myselectshop.config.WorkloadRoutingDataSource.Workload;
+import com.sparta.myselectshop.repository.ProductRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * ✅ PriceAlertService 클래스는 가격 하락 이벤트를 모아 사용자별 다이제스트로 전송하는 서비스 클래스입니다.
+ *
+ *    ➡️ 가격 갱신 트랜잭션이 커밋되면 이벤트를 크기가 제한된 큐에 넣고, 주기적으로 큐를 비우며 사용자별로 묶어 전송합니다.
+ *    ➡️ 중복 알림 여부는 이벤트를 발행하기 전에 상품의 알림 기록(`Product.alertedPrice`)으로 판단하므로,
+ *       이 클래스에 도착한 이벤트는 모두 새 알림입니다.
+ */
+@Slf4j(topic = "PriceAlert")
+@Service // 이 클래스가 Spring의 서비스 컴포넌트임을 나타냅니다.
+public class PriceAlertService {
+
+    private final PriceAlertNotifier priceAlertNotifier; // 다이제스트를 전달하는 알림 채널
+    private final ProductRepository productRepository; // 버리거나 전송하지 못한 이벤트의 알림 기록을 지우기 위한 리포지토리
+    private final BlockingQueue<PriceDropEvent> queue; // 전송 대기 중인 가격 하락 이벤트
+
+    /**
+     * ✅ PriceAlertService의 생성자입니다.
+     *
+     * @param priceAlertNotifier 다이제스트를 전달하는 알림 채널입니다.
+     * @param productRepository 버리거나 전송하지 못한 이벤트의 알림 기록을 지우기 위한 리포지토리입니다.
+     * @param queueCapacity 전송 대기 큐의 최대 크기입니다. 가득 차면 새 이벤트는 버려집니다.
+     */
+    public PriceAlertService(PriceAlertNotifier priceAlertNotifier, ProductRepository productRepository,
+        @Value("${price-alert.queue-capacity:10000}") int queueCapacity) {
+        this.priceAlertNotifier = priceAlertNotifier;
+        this.productRepository = productRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * ✅ 가격 갱신 트랜잭션이 커밋된 뒤 가격 하락 이벤트를 큐에 추가합니다.
+     *
+     *    ➡️ 큐가 가득 차 있으면 이벤트를 버리고, 다음 갱신 때 다시 알림 대상이 되도록 상품의 알림 기록을 지웁니다.
+     *
+     * @param event 가격 하락 이벤트입니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPriceDrop(PriceDropEvent event) {
+        if (!queue.offer(event)) {
+            productRepository.clearAlertedPrice(event.getProductId(), event.getLprice());
+            log.warn("가격 알림 큐가 가득 차 이벤트를 버립니다. productId: " + event.getProductId());
+        }
+    }
+
+    /**
+     * ✅ 전송하지 못한 이벤트의 알림 기록을 지워, 다음 갱신 때 다시 알림 대상이 되도록 합니다.
+     *
+     *    ➡️ 한 상품의 기록을 지우지 못해도 나머지 상품의 기록은 계속 지웁니다.
+     *
+     * @param events 전송하지 못한 가격 하락 이벤트입니다.
+     */
+    private void clearAlertedPrices(List<PriceDropEvent> events) {
+        for (PriceDropEvent event : events) {
+            try {
+                productRepository.clearAlertedPrice(event.getProductId(), event.getLprice());
+            } catch (Exception e) {
+                log.error("가격 알림 기록을 지우지 못했습니다. productId: " + event.getProductId(), e);
+            }
+        }
+    }
+
+    /**
+     * ✅ 큐에 쌓인 가격 하락 이벤트를 사용자별 다이제스트로 묶어 전송합니다.
+     *
+     *    ➡️ 주기적으로 실행되며, 한 번에 큐에 쌓인 모든 이벤트를 꺼내 처리합니다.
+     *    ➡️ 전송에 실패한 사용자의 이벤트는 알림 기록을 지워, 다음 갱신 때 다시 알림을 보냅니다.
+     */
+    @Scheduled(fixedDelayString = "${price-alert.digest-interval-ms:60000}")
+    @UseWorkload(Workload.BACKGROUND) // 사용자 요청과 커넥션 풀을 나누어 사용합니다.
+    public void sendDigests() {
+        List<PriceDropEvent> batch = new ArrayList<>();
+        queue.drainTo(batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // 사용자별로 이벤트를 묶습니다.
+        Map<Long, List<PriceDropEvent>> digests = new LinkedHashMap<>();
+        for (PriceDropEvent event : batch) {
+            digests.computeIfAbsent(event.getUserId(), userId -> new ArrayList<>()).add(event);
+        }
+
+        for (Map.Entry<Long, List<PriceDropEvent>> digest : digests.entrySet()) {
+            try {
+                priceAlertNotifier.notify(digest.getKey(), digest.getValue());
+            } catch (Exception e) {
+                // 한 사용자의 전송 실패가 다른 사용자에게 영향을 주지 않도록 합니다.
+                log.error("가격 알림 다이제스트 전송 실패. userId: " + digest.getKey(), e);
+                clearAlertedPrices(digest.getValue());
+            }
+        }
+    }
+}
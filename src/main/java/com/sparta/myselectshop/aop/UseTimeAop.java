@@ -1,5 +1,7 @@
 package com.sparta.myselectshop.aop;
 
+import com.sparta.myselectshop.config.WorkloadRoutingDataSource;
+import com.sparta.myselectshop.config.WorkloadRoutingDataSource.Workload;
 import com.sparta.myselectshop.entity.ApiUseTime;
 import com.sparta.myselectshop.entity.User;
 import com.sparta.myselectshop.repository.ApiUseTimeRepository;
@@ -10,14 +12,17 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.dao.DataAccessException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
 
 /**
  * ✅ UseTimeAop 클래스는 API 호출의 실행 시간을 측정하고 기록하는 AOP (Aspect-Oriented Programming) 클래스입니다.
  *
  *    ➡️ 주어진 포인트컷에 해당하는 메서드 호출의 실행 시간을 측정하고, 로그인한 사용자에 대한 API 사용 시간을 데이터베이스에 저장합니다.
+ *    ➡️ 기록은 별도의 METRICS 커넥션 풀을 사용하며, 커넥션을 얻지 못하면 기록을 건너뜁니다.
  */
 @Slf4j(topic = "UseTimeAop") // 로그 출력을 위한 Lombok 어노테이션입니다.
 @Aspect // AOP의 Aspect를 정의하는 어노테이션입니다.
@@ -76,21 +81,37 @@ public class UseTimeAop {
                 UserDetailsImpl userDetails = (UserDetailsImpl) auth.getPrincipal();
                 User loginUser = userDetails.getUser();
 
-                // 사용자에 대한 API 사용 시간 조회 및 업데이트
-                ApiUseTime apiUseTime = apiUseTimeRepository.findByUser(loginUser).orElse(null);
-                if (apiUseTime == null) {
-                    // 기록이 없으면 새로 생성
-                    apiUseTime = new ApiUseTime(loginUser, runTime);
-                } else {
-                    // 기록이 있으면 사용 시간을 추가
-                    apiUseTime.addUseTime(runTime);
+                try {
+                    // 사용자 요청과 나누어진 기록용 커넥션 풀을 사용합니다.
+                    WorkloadRoutingDataSource.run(Workload.METRICS, () -> recordUseTime(loginUser, runTime));
+                } catch (DataAccessException | TransactionException e) {
+                    // 기록용 커넥션 풀이 밀리면 기록을 건너뛰고, 요청은 정상적으로 응답합니다.
+                    log.warn("[API Use Time] 기록을 건너뜁니다. Username: " + loginUser.getUsername() + ", " + e.getMessage());
                 }
-
-                // 로그에 API 사용 시간 기록
-                log.info("[API Use Time] Username: " + loginUser.getUsername() + ", Total Time: " + apiUseTime.getTotalTime() + " ms");
-                // 데이터베이스에 API 사용 시간 저장
-                apiUseTimeRepository.save(apiUseTime);
             }
         }
     }
+
+    /**
+     * ✅ 사용자의 API 사용 시간을 누적하여 저장합니다.
+     *
+     * @param loginUser 로그인한 사용자입니다.
+     * @param runTime 이번 요청의 수행 시간(ms)입니다.
+     */
+    private void recordUseTime(User loginUser, long runTime) {
+        // 사용자에 대한 API 사용 시간 조회 및 업데이트
+        ApiUseTime apiUseTime = apiUseTimeRepository.findByUser(loginUser).orElse(null);
+        if (apiUseTime == null) {
+            // 기록이 없으면 새로 생성
+            apiUseTime = new ApiUseTime(loginUser, runTime);
+        } else {
+            // 기록이 있으면 사용 시간을 추가
+            apiUseTime.addUseTime(runTime);
+        }
+
+        // 로그에 API 사용 시간 기록
+        log.info("[API Use Time] Username: " + loginUser.getUsername() + ", Total Time: " + apiUseTime.getTotalTime() + " ms");
+        // 데이터베이스에 API 사용 시간 저장
+        apiUseTimeRepository.save(apiUseTime);
+    }
 }
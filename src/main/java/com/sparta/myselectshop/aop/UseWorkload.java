@@ -0,0 +1,20 @@
+package com.sparta.myselectshop.aop;
+
+import com.sparta.myselectshop.config.WorkloadRoutingDataSource.Workload;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * ✅ UseWorkload 어노테이션은 메서드가 실행되는 동안 사용할 커넥션 풀(작업 종류)을 지정합니다.
+ *
+ *    ➡️ 클래스에 붙이면 해당 클래스의 모든 public 메서드에 적용됩니다.
+ *    ➡️ `@Transactional`보다 먼저 적용되므로, 같은 메서드에 함께 붙여도 트랜잭션이 지정한 풀의 커넥션을 사용합니다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UseWorkload {
+
+    Workload value(); // 사용할 작업 종류
+}
@@ -0,0 +1,45 @@
+package com.sparta.myselectshop.aop;
+
+import com.sparta.myselectshop.config.WorkloadRoutingDataSource;
+import com.sparta.myselectshop.config.WorkloadRoutingDataSource.Workload;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ WorkloadRoutingAop 클래스는 `@UseWorkload`가 붙은 메서드를 지정한 커넥션 풀에서 실행하는 AOP 클래스입니다.
+ *
+ *    ➡️ 트랜잭션이 시작되기 전에 작업 종류를 지정해야 하므로, 트랜잭션 어드바이스보다 먼저 실행됩니다.
+ */
+@Aspect // AOP의 Aspect를 정의하는 어노테이션입니다.
+@Component // Spring의 컴포넌트로 등록됩니다.
+@Order(Ordered.HIGHEST_PRECEDENCE) // 트랜잭션 어드바이스보다 먼저 실행됩니다.
+public class WorkloadRoutingAop {
+
+    /**
+     * ✅ 메서드 또는 클래스에 지정된 작업 종류로 메서드를 실행합니다.
+     *
+     *    ➡️ 메서드에 지정된 작업 종류가 클래스에 지정된 작업 종류보다 우선합니다.
+     *    ➡️ 메서드가 끝나면 이전 작업 종류로 되돌립니다.
+     */
+    @Around("@annotation(com.sparta.myselectshop.aop.UseWorkload) || @within(com.sparta.myselectshop.aop.UseWorkload)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        UseWorkload useWorkload = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), UseWorkload.class);
+        if (useWorkload == null) {
+            useWorkload = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), UseWorkload.class);
+        }
+
+        Workload previous = WorkloadRoutingDataSource.enter(useWorkload.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadRoutingDataSource.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.sparta.myselectshop.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.myselectshop.cache.UserVersionTracker.Scope;
+import com.sparta.myselectshop.dto.FolderResponseDto;
+import com.sparta.myselectshop.entity.User;
+import com.sparta.myselectshop.repository.FolderRepository;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+/**
+ * ✅ FolderFragmentCache 클래스는 사용자별 폴더 탭(`index :: #fragment`)의 렌더링 결과 HTML을 보관하는 캐시입니다.
+ *
+ *    ➡️ 렌더링 결과는 폴더 목록의 버전과 함께 저장하며, 버전이 바뀌면 다시 렌더링합니다.
+ *    ➡️ 폴더 목록은 `FolderService`의 캐시를 거치지 않고 데이터베이스에서 직접 읽습니다.
+ *       버전을 먼저 읽은 뒤 조회하므로, 새 버전에 커밋 전의 폴더 목록이 저장되는 일이 없습니다.
+ */
+@Component // Spring의 컴포넌트로 등록됩니다.
+public class FolderFragmentCache {
+
+    private static final String TEMPLATE = "index"; // 폴더 탭이 포함된 템플릿
+    private static final Set<String> SELECTORS = Set.of("#fragment"); // 렌더링할 템플릿 조각
+
+    private final FolderRepository folderRepository; // 폴더 목록을 조회하는 리포지토리
+    private final UserVersionTracker versionTracker; // 사용자별 폴더 목록 버전
+    private final ITemplateEngine templateEngine; // Thymeleaf 템플릿 엔진
+    private final Cache<Long, Fragment> fragments; // 사용자 ID -> 렌더링 결과
+
+    /**
+     * ✅ FolderFragmentCache의 생성자입니다.
+     *
+     * @param folderRepository 폴더 목록을 조회하는 리포지토리입니다.
+     * @param versionTracker 사용자별 폴더 목록 버전을 관리하는 컴포넌트입니다.
+     * @param templateEngine 템플릿 조각을 렌더링하는 Thymeleaf 템플릿 엔진입니다.
+     * @param maximumSize 캐시에 보관할 최대 사용자 수입니다.
+     */
+    public FolderFragmentCache(FolderRepository folderRepository, UserVersionTracker versionTracker,
+        ITemplateEngine templateEngine,
+        @Value("${cache.folder-fragment.maximum-size:10000}") long maximumSize) {
+        this.folderRepository = folderRepository;
+        this.versionTracker = versionTracker;
+        this.templateEngine = templateEngine;
+        this.fragments = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    /**
+     * ✅ 사용자의 폴더 탭 HTML을 반환합니다.
+     *
+     *    ➡️ 캐시된 HTML의 버전이 현재 버전과 같으면 그대로 반환하고, 다르면 다시 렌더링하여 저장합니다.
+     *
+     * @param user 폴더 탭을 조회하는 사용자입니다.
+     * @return 렌더링된 폴더 탭 HTML
+     */
+    public String render(User user) {
+        long version = versionTracker.version(Scope.FOLDERS, user.getId());
+        Fragment cached = fragments.getIfPresent(user.getId());
+        if (cached != null && cached.version() == version) {
+            return cached.html();
+        }
+
+        List<FolderResponseDto> folders = folderRepository.findAllByUser(user).stream()
+            .map(FolderResponseDto::new)
+            .toList();
+        Context context = new Context(LocaleContextHolder.getLocale());
+        context.setVariable("folders", folders);
+        String html = templateEngine.process(TEMPLATE, SELECTORS, context);
+
+        fragments.put(user.getId(), new Fragment(version, html));
+        return html;
+    }
+
+    private record Fragment(long version, String html) {} // 폴더 목록 버전과 렌더링 결과
+}
@@ -0,0 +1,56 @@
+package com.sparta.myselectshop.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.myselectshop.naver.dto.ItemDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ ItemFingerprintCache 클래스는 상품별로 마지막으로 반영한 아이템 정보의 지문(fingerprint)을 보관하는 캐시입니다.
+ *
+ *    ➡️ 가격 갱신 시 새로 검색한 아이템 정보가 이전과 같다면, 상품 조회(SELECT)와 갱신(UPDATE)을 모두 생략할 수 있게 합니다.
+ *    ➡️ 상품 ID당 64비트 값 하나만 저장하며, 최대 크기를 넘으면 사용 빈도가 낮은 항목부터 제거됩니다.
+ */
+@Component // Spring의 컴포넌트로 등록됩니다.
+public class ItemFingerprintCache {
+
+    private final Cache<Long, Long> fingerprints; // 상품 ID -> 마지막으로 반영한 아이템 지문
+
+    /**
+     * ✅ ItemFingerprintCache의 생성자입니다.
+     *
+     * @param maximumSize 캐시에 보관할 최대 상품 수입니다.
+     */
+    public ItemFingerprintCache(@Value("${product.refresh.fingerprint-cache-size:500000}") long maximumSize) {
+        this.fingerprints = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    /**
+     * ✅ 주어진 아이템 정보가 해당 상품에 마지막으로 반영한 정보와 같은지 확인합니다.
+     *
+     *    ➡️ 캐시에 기록이 없으면 (애플리케이션 재시작 직후 등) 변경된 것으로 간주합니다.
+     *
+     * @param productId 확인할 상품의 ID입니다.
+     * @param itemDto 새로 검색한 아이템 정보입니다.
+     * @return 이전에 반영한 정보와 같으면 `true`를 반환합니다.
+     */
+    public boolean isUnchanged(Long productId, ItemDto itemDto) {
+        Long fingerprint = fingerprints.getIfPresent(productId);
+        return fingerprint != null && fingerprint == itemDto.fingerprint();
+    }
+
+    /**
+     * ✅ 상품에 반영한 아이템 정보의 지문을 기록합니다.
+     *
+     *    ➡️ 갱신 트랜잭션이 커밋된 뒤에 호출해야, 실패한 갱신이 다음 비교에서 생략되지 않습니다.
+     *
+     * @param productId 아이템 정보를 반영한 상품의 ID입니다.
+     * @param itemDto 반영한 아이템 정보입니다.
+     */
+    public void put(Long productId, ItemDto itemDto) {
+        fingerprints.put(productId, itemDto.fingerprint());
+    }
+}
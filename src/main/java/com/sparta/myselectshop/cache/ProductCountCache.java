@@ -0,0 +1,128 @@
+package com.sparta.myselectshop.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.myselectshop.entity.User;
+import com.sparta.myselectshop.repository.ProductRepository;
+import com.sparta.myselectshop.util.AfterCommit;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ ProductCountCache 클래스는 페이지네이션된 상품 목록의 전체 건수를 보관하는 캐시입니다.
+ *
+ *    ➡️ 사용자별, 폴더별, 전체(관리자용) 상품 수를 캐시하여 목록을 조회할 때마다 COUNT 쿼리를 실행하지 않도록 합니다.
+ *    ➡️ 캐시에 없는 건수는 처음 조회할 때 데이터베이스에서 한 번 세고, 이후에는 상품 등록/폴더 추가 시 캐시 값을 직접 증가시킵니다.
+ *    ➡️ 다른 경로로 데이터가 바뀌어도 오래 어긋나지 않도록, 일정 시간이 지나면 다시 데이터베이스에서 셉니다.
+ */
+@Component // Spring의 컴포넌트로 등록됩니다.
+public class ProductCountCache {
+
+    private static final Object TOTAL = "total"; // 전체 상품 수를 나타내는 키
+
+    private final ProductRepository productRepository; // 캐시에 없는 건수를 조회하는 리포지토리
+    private final Cache<Object, Long> counts; // 키(사용자/폴더/전체) -> 상품 수
+
+    /**
+     * ✅ ProductCountCache의 생성자입니다.
+     *
+     * @param productRepository 캐시에 없는 건수를 조회하는 리포지토리입니다.
+     * @param maximumSize 캐시에 보관할 최대 건수 항목 수입니다.
+     * @param expireMinutes 건수를 다시 데이터베이스에서 세기까지의 시간(분)입니다.
+     */
+    public ProductCountCache(ProductRepository productRepository,
+        @Value("${product.count-cache.maximum-size:100000}") long maximumSize,
+        @Value("${product.count-cache.expire-minutes:10}") long expireMinutes) {
+        this.productRepository = productRepository;
+        this.counts = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+            .build();
+    }
+
+    /**
+     * ✅ 사용자가 등록한 상품 수를 반환합니다.
+     *
+     * @param user 상품의 소유자(User)입니다.
+     * @return 사용자가 등록한 상품 수
+     */
+    public long countByUser(User user) {
+        return counts.get(new UserKey(user.getId()), key -> productRepository.countByUser(user));
+    }
+
+    /**
+     * ✅ 사용자가 소유한 상품 중에서 지정된 폴더에 등록된 상품 수를 반환합니다.
+     *
+     * @param user 상품의 소유자(User)입니다.
+     * @param folderId 폴더의 고유 ID입니다.
+     * @return 폴더에 등록된 상품 수
+     */
+    public long countInFolder(User user, Long folderId) {
+        return counts.get(new FolderKey(user.getId(), folderId),
+            key -> productRepository.countByUserAndProductFolderList_FolderId(user, folderId));
+    }
+
+    /**
+     * ✅ 전체 상품 수를 반환합니다. (관리자용)
+     *
+     * @return 전체 상품 수
+     */
+    public long countAll() {
+        return counts.get(TOTAL, key -> productRepository.count());
+    }
+
+    /**
+     * ✅ 사용자가 상품을 등록했음을 반영합니다.
+     *
+     *    ➡️ 진행 중인 트랜잭션이 있으면 커밋된 뒤에 반영하여, 롤백된 등록이 건수에 포함되지 않도록 합니다.
+     *
+     * @param userId 상품을 등록한 사용자 ID입니다.
+     * @param added 등록한 상품 수입니다.
+     */
+    public void productsAdded(Long userId, int added) {
+        AfterCommit.run(() -> {
+            increment(new UserKey(userId), added);
+            increment(TOTAL, added);
+        });
+    }
+
+    /**
+     * ✅ 사용자가 폴더에 상품을 추가했음을 반영합니다.
+     *
+     *    ➡️ 진행 중인 트랜잭션이 있으면 커밋된 뒤에 반영합니다.
+     *
+     * @param userId 폴더의 소유자 ID입니다.
+     * @param folderId 상품을 추가한 폴더의 ID입니다.
+     * @param added 추가한 상품 수입니다.
+     */
+    public void productsAddedToFolder(Long userId, Long folderId, int added) {
+        AfterCommit.run(() -> increment(new FolderKey(userId, folderId), added));
+    }
+
+    /**
+     * ✅ 사용자가 폴더에서 상품을 뺐음을 반영합니다.
+     *
+     *    ➡️ 진행 중인 트랜잭션이 있으면 커밋된 뒤에 반영합니다.
+     *
+     * @param userId 폴더의 소유자 ID입니다.
+     * @param folderId 상품을 뺀 폴더의 ID입니다.
+     * @param removed 뺀 상품 수입니다.
+     */
+    public void productsRemovedFromFolder(Long userId, Long folderId, int removed) {
+        AfterCommit.run(() -> increment(new FolderKey(userId, folderId), -removed));
+    }
+
+    /**
+     * ✅ 캐시에 건수가 있는 경우에만 값을 증가시킵니다.
+     *
+     *    ➡️ 캐시에 없는 건수는 다음 조회 때 데이터베이스에서 새로 세므로 그대로 둡니다.
+     */
+    private void increment(Object key, int added) {
+        counts.asMap().computeIfPresent(key, (k, count) -> count + added);
+    }
+
+    private record UserKey(Long userId) {} // 사용자별 상품 수 키
+
+    private record FolderKey(Long userId, Long folderId) {} // 폴더별 상품 수 키
+}
@@ -0,0 +1,100 @@
+package com.sparta.myselectshop.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.myselectshop.util.AfterCommit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ UserVersionTracker 클래스는 사용자별 데이터의 버전을 관리하여 ETag를 만드는 컴포넌트입니다.
+ *
+ *    ➡️ 사용자의 데이터(예: 폴더 목록)가 바뀔 때마다 버전을 올리며, 버전이 같으면 응답 내용도 같다고 판단합니다.
+ *    ➡️ 사용자별 버전과 함께 범위 전체의 버전도 올리므로, 모든 사용자의 데이터를 보여주는 (관리자) 목록에도 사용할 수 있습니다.
+ *    ➡️ 버전은 애플리케이션 전체에서 증가하는 값에서 발급하므로, 캐시에서 밀려난 사용자도 이전에 발급된 적 없는 새 버전을 받습니다.
+ *       (새 버전은 캐시 미스일 뿐, 이전 ETag와 잘못 일치하는 일은 없습니다.)
+ *    ➡️ ETag에는 애플리케이션 기동 시각이 포함되므로, 재시작 후에는 이전 ETag와 일치하지 않습니다.
+ *    ➡️ 버전은 인스턴스 메모리에만 보관하므로, 서버를 여러 대로 늘리는 경우에는 공유 저장소로 옮겨야 합니다.
+ */
+@Component // Spring의 컴포넌트로 등록됩니다.
+public class UserVersionTracker {
+
+    /**
+     * ✅ 버전을 관리하는 데이터의 범위입니다.
+     */
+    public enum Scope {
+        FOLDERS, // 사용자의 폴더 목록
+        PRODUCTS // 사용자의 관심상품 목록 (폴더별 목록 포함)
+    }
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36); // 애플리케이션 기동 시각
+    private final AtomicLong sequence = new AtomicLong(); // 버전 발급에 사용하는 증가 값
+    private final Cache<ScopeKey, Long> versions; // (범위, 사용자 ID) -> 현재 버전 (사용자 ID가 null이면 범위 전체)
+
+    /**
+     * ✅ UserVersionTracker의 생성자입니다.
+     *
+     * @param maximumSize 보관할 최대 버전 항목 수입니다.
+     */
+    public UserVersionTracker(@Value("${cache.user-version.maximum-size:100000}") long maximumSize) {
+        this.versions = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    /**
+     * ✅ 사용자 데이터의 현재 버전을 반환합니다.
+     *
+     *    ➡️ 아직 버전이 없으면 새 버전을 발급합니다.
+     *
+     * @param scope 데이터의 범위입니다.
+     * @param userId 사용자 ID입니다. `null`이면 모든 사용자의 데이터를 기준으로 합니다.
+     * @return 현재 버전
+     */
+    public long version(Scope scope, Long userId) {
+        return versions.get(new ScopeKey(scope, userId), key -> sequence.incrementAndGet());
+    }
+
+    /**
+     * ✅ 사용자 데이터의 현재 버전으로 만든 ETag를 반환합니다.
+     *
+     * @param scope 데이터의 범위입니다.
+     * @param userId 사용자 ID입니다. `null`이면 모든 사용자의 데이터를 기준으로 합니다.
+     * @return 큰따옴표로 감싼 강한(strong) ETag 값
+     */
+    public String etag(Scope scope, Long userId) {
+        return "\"" + scope.name().toLowerCase() + "-" + epoch + "-" + version(scope, userId) + "\"";
+    }
+
+    /**
+     * ✅ 사용자 데이터의 현재 버전으로 만든 약한(weak) ETag를 반환합니다.
+     *
+     *    ➡️ JSON 목록처럼 같은 버전이라도 직렬화 결과가 바이트 단위로 같다고 보장하지 않는 응답에 사용합니다.
+     *
+     * @param scope 데이터의 범위입니다.
+     * @param userId 사용자 ID입니다. `null`이면 모든 사용자의 데이터를 기준으로 합니다.
+     * @return `W/`로 시작하는 약한 ETag 값
+     */
+    public String weakEtag(Scope scope, Long userId) {
+        return "W/" + etag(scope, userId);
+    }
+
+    /**
+     * ✅ 사용자 데이터가 바뀌었음을 반영하여 버전을 올립니다.
+     *
+     *    ➡️ 진행 중인 트랜잭션이 있으면 커밋된 뒤에 올려서, 커밋 전의 데이터가 새 버전으로 캐시되지 않도록 합니다.
+     *    ➡️ 범위 전체의 버전도 함께 올립니다.
+     *
+     * @param scope 데이터의 범위입니다.
+     * @param userId 사용자 ID입니다.
+     */
+    public void bump(Scope scope, Long userId) {
+        AfterCommit.run(() -> {
+            versions.put(new ScopeKey(scope, userId), sequence.incrementAndGet());
+            versions.put(new ScopeKey(scope, null), sequence.incrementAndGet());
+        });
+    }
+
+    private record ScopeKey(Scope scope, Long userId) {} // 범위별 사용자 버전 키
+}
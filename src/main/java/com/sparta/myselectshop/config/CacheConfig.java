@@ -0,0 +1,49 @@
+package com.sparta.myselectshop.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ✅ CacheConfig 클래스는 Spring Cache 추상화에서 사용하는 캐시를 설정하는 클래스입니다.
+ *
+ *    ➡️ Caffeine 기반의 로컬 캐시를 사용하며, 캐시마다 최대 크기와 만료 시간을 지정합니다.
+ *    ➡️ 적중/실패/제거 통계를 기록하므로, actuator의 `/actuator/metrics/cache.gets` 등으로 캐시 효율을 확인할 수 있습니다.
+ */
+@Configuration // Spring의 설정 클래스를 정의하는 어노테이션입니다.
+@EnableCaching // @Cacheable, @CacheEvict 어노테이션을 활성화합니다.
+public class CacheConfig {
+
+    public static final String USER_FOLDERS = "userFolders"; // 사용자 ID -> 폴더 목록 캐시
+
+    /**
+     * ✅ CacheManager 빈을 생성합니다.
+     *
+     *    ➡️ 캐시 이름을 미리 등록하여, 애플리케이션 시작 시점에 캐시 메트릭이 등록되도록 합니다.
+     *    ➡️ 트랜잭션 안에서 캐시를 비우는 경우 커밋된 뒤에 비우도록 하여, 커밋 전의 이전 데이터가 다시 캐시되지 않도록 합니다.
+     *
+     * @param maximumSize 캐시마다 보관할 최대 항목 수입니다.
+     * @param expireMinutes 항목이 저장된 뒤 만료되기까지의 시간(분)입니다.
+     * @return CacheManager 트랜잭션을 인식하는 Caffeine 캐시 매니저
+     */
+    @Bean
+    public CacheManager cacheManager(
+        @Value("${cache.user-folders.maximum-size:10000}") long maximumSize,
+        @Value("${cache.user-folders.expire-minutes:30}") long expireMinutes) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+            .recordStats());
+        cacheManager.setCacheNames(List.of(USER_FOLDERS));
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
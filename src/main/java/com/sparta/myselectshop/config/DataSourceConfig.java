@@ -0,0 +1,168 @@
+package com.sparta.myselectshop.config;
+
+import com.sparta.myselectshop.config.WorkloadRoutingDataSource.Workload;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * ✅ DataSourceConfig 클래스는 작업 종류별 Hikari 커넥션 풀과, 이를 고르는 라우팅 DataSource를 설정하는 클래스입니다.
+ *
+ *    ➡️ 접속 정보는 `spring.datasource.*`를 공유하고, 풀 크기와 커넥션 대기 시간은 `datasource.pools.<작업 종류>.*`로 풀마다 지정합니다.
+ *    ➡️ 사용자 요청 풀은 대기 시간을 짧게 두어 빠르게 실패하고, 백그라운드 풀은 작게 두되 오래 기다립니다.
+ *       API 사용 시간 기록 풀은 가장 작고 대기 시간도 가장 짧아, 기록이 밀리면 기록을 건너뜁니다.
+ *    ➡️ `datasource.replica.url`을 지정하면 읽기 복제본 풀을 추가로 만들고, `@UseWorkload(Workload.REPLICA_READ)`로 지정된
+ *       읽기 전용 트랜잭션을 복제본으로 보냅니다. 복제 지연이 허용 범위를 넘었거나, 사용자가 방금 상품을 변경했다면 주 데이터베이스를 읽습니다.
+ *    ➡️ 각 풀은 빈으로 등록되므로 actuator가 풀 이름(`pool` 태그)별로 `hikaricp.connections.acquire`(커넥션 대기 시간),
+ *       `hikaricp.connections.pending`(대기 중인 요청 수) 등의 메트릭을 기록합니다.
+ */
+@Configuration // Spring의 설정 클래스를 정의하는 어노테이션입니다.
+public class DataSourceConfig {
+
+    /**
+     * ✅ 사용자 요청용 커넥션 풀을 생성합니다.
+     */
+    @Bean
+    public HikariDataSource interactiveDataSource(DataSourceProperties properties,
+        @Value("${datasource.pools.interactive.maximum-pool-size:20}") int maximumPoolSize,
+        @Value("${datasource.pools.interactive.connection-timeout-ms:3000}") long connectionTimeoutMs) {
+        return pool(primary(properties), "interactive", maximumPoolSize, connectionTimeoutMs);
+    }
+
+    /**
+     * ✅ 스케줄러 등 백그라운드 작업용 커넥션 풀을 생성합니다.
+     */
+    @Bean
+    public HikariDataSource backgroundDataSource(DataSourceProperties properties,
+        @Value("${datasource.pools.background.maximum-pool-size:4}") int maximumPoolSize,
+        @Value("${datasource.pools.background.connection-timeout-ms:30000}") long connectionTimeoutMs) {
+        return pool(primary(properties), "background", maximumPoolSize, connectionTimeoutMs);
+    }
+
+    /**
+     * ✅ API 사용 시간 기록용 커넥션 풀을 생성합니다.
+     */
+    @Bean
+    public HikariDataSource metricsDataSource(DataSourceProperties properties,
+        @Value("${datasource.pools.metrics.maximum-pool-size:2}") int maximumPoolSize,
+        @Value("${datasource.pools.metrics.connection-timeout-ms:1000}") long connectionTimeoutMs) {
+        return pool(primary(properties), "metrics", maximumPoolSize, connectionTimeoutMs);
+    }
+
+    /**
+     * ✅ 읽기 복제본용 커넥션 풀을 생성합니다.
+     *
+     *    ➡️ 계정 정보를 따로 지정하지 않으면 주 데이터베이스의 계정 정보를 사용합니다.
+     *    ➡️ 복제본에 쓰지 않도록 읽기 전용 커넥션을 사용합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "datasource.replica.url") // 복제본이 설정된 경우에만 생성합니다.
+    public HikariDataSource replicaDataSource(
+        @Value("${datasource.replica.url}") String url,
+        @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+        @Value("${datasource.replica.password:${spring.datasource.password:}}") String password,
+        @Value("${datasource.pools.replica.maximum-pool-size:20}") int maximumPoolSize,
+        @Value("${datasource.pools.replica.connection-timeout-ms:3000}") long connectionTimeoutMs) {
+        HikariDataSource dataSource = new HikariDataSource(); // 드라이버는 URL로 판단합니다.
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setReadOnly(true); // 복제본에는 쓰지 않습니다.
+        return pool(dataSource, "replica", maximumPoolSize, connectionTimeoutMs);
+    }
+
+    /**
+     * ✅ 읽기 복제본의 복제 지연을 확인하는 컴포넌트를 생성합니다.
+     *
+     * @param maxLagSeconds 허용하는 복제 지연(초)입니다. 이보다 늦어지면 복제본을 읽지 않습니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "datasource.replica.url") // 복제본이 설정된 경우에만 생성합니다.
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+        @Value("${datasource.replica.max-lag-seconds:2}") long maxLagSeconds) {
+        return new ReplicaLagMonitor(replica, maxLagSeconds);
+    }
+
+    /**
+     * ✅ JPA, JdbcTemplate 등 애플리케이션 전체가 사용하는 DataSource를 생성합니다.
+     *
+     *    ➡️ 현재 스레드의 작업 종류에 따라 위의 풀 중 하나에서 커넥션을 얻습니다.
+     *    ➡️ 트랜잭션이 시작된 뒤 첫 SQL 문을 실행할 때 커넥션을 얻도록 `LazyConnectionDataSourceProxy`로 감쌉니다.
+     *       이때는 트랜잭션의 읽기 전용 여부가 정해져 있으므로, 복제본으로 보낼지 판단할 수 있습니다.
+     *       캐시만 읽고 끝나는 트랜잭션은 커넥션을 얻지 않는다는 장점도 있습니다.
+     */
+    @Bean
+    @Primary // JPA와 JdbcTemplate은 이 DataSource를 사용합니다.
+    public DataSource dataSource(
+        @Qualifier("interactiveDataSource") DataSource interactive,
+        @Qualifier("backgroundDataSource") DataSource background,
+        @Qualifier("metricsDataSource") DataSource metrics,
+        @Qualifier("replicaDataSource") ObjectProvider<DataSource> replica,
+        ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+        ReadYourWritesTracker readYourWritesTracker) {
+        Map<Workload, DataSource> pools = new EnumMap<>(Workload.class);
+        pools.put(Workload.INTERACTIVE, interactive);
+        pools.put(Workload.BACKGROUND, background);
+        pools.put(Workload.METRICS, metrics);
+        DataSource replicaDataSource = replica.getIfAvailable();
+        if (replicaDataSource != null) {
+            pools.put(Workload.REPLICA_READ, replicaDataSource);
+        }
+        return routingDataSource(pools, replicaLagMonitor.getIfAvailable(), readYourWritesTracker);
+    }
+
+    /**
+     * ✅ 작업 종류별 풀을 고르는 라우팅 DataSource를 만들고, `LazyConnectionDataSourceProxy`로 감쌉니다.
+     *
+     *    ➡️ 복제본 풀과 복제 지연 확인 컴포넌트가 모두 있을 때만 REPLICA_READ를 복제본으로 보냅니다.
+     *       복제 지연이 허용 범위 안이고, 현재 사용자가 최근에 변경하지 않았을 때만 복제본을 읽습니다.
+     *
+     * @param pools 작업 종류 -> 커넥션 풀입니다. INTERACTIVE 풀은 반드시 있어야 합니다.
+     * @param lagMonitor 복제 지연 확인 컴포넌트입니다. 복제본이 없으면 `null`입니다.
+     * @param readYourWritesTracker 최근에 변경한 사용자를 기억하는 컴포넌트입니다.
+     * @return 애플리케이션 전체가 사용하는 DataSource입니다.
+     */
+    static DataSource routingDataSource(Map<Workload, DataSource> pools, ReplicaLagMonitor lagMonitor,
+        ReadYourWritesTracker readYourWritesTracker) {
+        Map<Object, Object> targetDataSources = new HashMap<>(pools);
+        WorkloadRoutingDataSource routingDataSource = new WorkloadRoutingDataSource();
+        if (pools.containsKey(Workload.REPLICA_READ) && lagMonitor != null) {
+            routingDataSource.setReplicaReadable(
+                () -> lagMonitor.isReadable() && !readYourWritesTracker.isCurrentUserSticky());
+        } else {
+            targetDataSources.remove(Workload.REPLICA_READ);
+        }
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(pools.get(Workload.INTERACTIVE));
+        routingDataSource.afterPropertiesSet(); // 빈이 아니므로 직접 초기화합니다.
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * ✅ 주 데이터베이스에 접속하는 커넥션 풀을 `spring.datasource.*` 접속 정보로 생성합니다.
+     */
+    private static HikariDataSource primary(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+
+    private static HikariDataSource pool(HikariDataSource dataSource, String poolName, int maximumPoolSize,
+        long connectionTimeoutMs) {
+        dataSource.setPoolName(poolName); // 메트릭과 로그에서 풀을 구분하는 이름입니다.
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setConnectionTimeout(connectionTimeoutMs); // 커넥션을 기다리는 최대 시간입니다.
+        return dataSource;
+    }
+}
@@ -0,0 +1,83 @@
+package com.sparta.myselectshop.config;
+
+import com.sparta.myselectshop.entity.Folder;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ FolderNameBackfill 클래스는 `normalized_name` 컬럼이 추가되기 전에 생성된 폴더의 정규화된 이름을 채우는 컴포넌트입니다.
+ *
+ *    ➡️ 정규화 규칙은 `Folder.normalize`와 같아야 하므로, SQL 함수 대신 애플리케이션에서 계산하여 갱신합니다.
+ *    ➡️ 정규화하면 같은 이름이 되는 기존 폴더가 이미 있으면 유니크 제약 조건에 걸리므로, 해당 폴더는 비워 둡니다.
+ *       NULL은 유니크 인덱스에서 서로 다른 값으로 취급되어 이 폴더들은 중복 보장 밖에 남으므로,
+ *       시작할 때마다 남아 있는 폴더 ID를 모아 경고 로그로 알립니다. (이름을 바꾸거나 합친 뒤 재시작하면 채워집니다.)
+ *    ➡️ 채울 폴더가 없으면 조회 한 번으로 끝나므로, 재시작할 때마다 실행해도 안전합니다.
+ */
+@Slf4j(topic = "FolderNameBackfill")
+@Component // Spring의 컴포넌트로 등록됩니다.
+public class FolderNameBackfill {
+
+    private static final int BATCH_SIZE = 500; // 한 번에 조회하고 갱신할 폴더 수
+
+    private final JdbcTemplate jdbcTemplate; // 폴더 테이블을 갱신하기 위한 JdbcTemplate
+    private final EntityManagerFactory entityManagerFactory; // 갱신한 폴더를 2차 캐시에서 비우기 위한 EntityManagerFactory
+
+    /**
+     * ✅ FolderNameBackfill의 생성자입니다.
+     *
+     * @param jdbcTemplate 폴더 테이블을 갱신하기 위한 JdbcTemplate입니다.
+     * @param entityManagerFactory 스키마(컬럼과 인덱스) 갱신이 끝난 뒤에 실행되도록 주입받으며, 갱신한 폴더를 2차 캐시에서 비우는 데 사용합니다.
+     */
+    public FolderNameBackfill(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * ✅ 정규화된 이름이 없는 폴더를 ID 순으로 나누어 채웁니다.
+     */
+    @PostConstruct
+    public void backfill() {
+        long lastId = 0; // 이미 처리한 마지막 폴더 ID
+        int updated = 0;
+        List<Long> skippedIds = new ArrayList<>(); // 정규화된 이름이 중복되어 비워 둔 폴더 ID
+
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, name FROM folder WHERE normalized_name IS NULL AND id > ? ORDER BY id LIMIT ?",
+                lastId, BATCH_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            for (Map<String, Object> row : rows) {
+                long id = ((Number) row.get("id")).longValue();
+                String name = (String) row.get("name");
+                try {
+                    jdbcTemplate.update("UPDATE folder SET normalized_name = ? WHERE id = ?", Folder.normalize(name), id);
+                    updated++;
+                } catch (DataIntegrityViolationException e) {
+                    log.warn("정규화된 이름이 같은 폴더가 이미 있어 건너뜁니다. (폴더 ID: " + id + ", 폴더명: " + name + ")");
+                    skippedIds.add(id);
+                }
+                lastId = id;
+            }
+        }
+
+        if (updated > 0) {
+            entityManagerFactory.getCache().evict(Folder.class); // JDBC로 갱신했으므로 2차 캐시를 직접 비웁니다.
+            log.info("폴더 " + updated + "개의 정규화된 이름을 채웠습니다.");
+        }
+        if (!skippedIds.isEmpty()) {
+            log.warn("폴더 " + skippedIds.size() + "개는 같은 사용자의 다른 폴더와 정규화된 이름이 같아 중복 검사 대상에서 빠져 있습니다."
+                + " 이름을 바꾸거나 합친 뒤 재시작하세요. 폴더 ID: " + skippedIds);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.sparta.myselectshop.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ✅ HibernateCacheConfig 클래스는 Hibernate 2차 캐시(JCache + Caffeine)의 캐시 영역을 설정하는 클래스입니다.
+ *
+ *    ➡️ 자주 읽히고 거의 바뀌지 않는 `User`, `Folder` 엔티티와 사용자별 폴더 목록 쿼리 결과를 트랜잭션 사이에 캐시합니다.
+ *       `Product.user`, `Folder.user`, `ProductFolder.folder` 같은 지연 로딩 연관관계를 풀 때 데이터베이스를 다시 조회하지 않습니다.
+ *    ➡️ 캐시 영역마다 최대 크기와 만료 시간을 지정하며, 이 설정으로 만든 JCache CacheManager를 Hibernate에 그대로 전달합니다.
+ *    ➡️ 엔티티를 통한 변경(서비스의 저장, 수정, 삭제, JPQL 벌크 연산)은 Hibernate가 해당 캐시 영역을 자동으로 무효화합니다.
+ *       JDBC로 직접 테이블을 변경하는 경우에는 변경한 쪽에서 캐시를 비워야 합니다.
+ */
+@Configuration // Spring의 설정 클래스를 정의하는 어노테이션입니다.
+public class HibernateCacheConfig {
+
+    public static final String USER_REGION = "users"; // User 엔티티 캐시 영역
+    public static final String FOLDER_REGION = "folders"; // Folder 엔티티 캐시 영역
+    public static final String USER_FOLDERS_QUERY_REGION = "user-folders-query"; // 사용자별 폴더 목록 쿼리 결과 캐시 영역
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region"; // 테이블별 마지막 변경 시각 (쿼리 캐시 무효화에 사용)
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region"; // 영역을 지정하지 않은 쿼리 결과
+
+    /**
+     * ✅ 2차 캐시 영역을 미리 만든 JCache CacheManager 빈을 생성합니다.
+     *
+     *    ➡️ 변경 시각 영역은 쿼리 결과보다 먼저 제거되면 오래된 쿼리 결과가 사용될 수 있으므로, 크기와 만료 시간을 제한하지 않습니다.
+     *       테이블 수만큼만 항목이 생기므로 크기가 커지지 않습니다.
+     *    ➡️ 같은 클래스 로더의 기본 CacheManager를 공유하므로, 이미 만들어진 영역은 다시 만들지 않고, 닫지도 않습니다.
+     *
+     * @param userMaximumSize User 캐시 영역의 최대 항목 수입니다.
+     * @param folderMaximumSize Folder 캐시 영역의 최대 항목 수입니다.
+     * @param queryMaximumSize 쿼리 결과 캐시 영역의 최대 항목 수입니다.
+     * @param expireMinutes 항목이 저장된 뒤 만료되기까지의 시간(분)입니다.
+     * @return Hibernate에 전달할 JCache CacheManager
+     */
+    @Bean(destroyMethod = "")
+    public CacheManager hibernateCacheManager(
+        @Value("${hibernate-cache.users.maximum-size:10000}") long userMaximumSize,
+        @Value("${hibernate-cache.folders.maximum-size:100000}") long folderMaximumSize,
+        @Value("${hibernate-cache.queries.maximum-size:10000}") long queryMaximumSize,
+        @Value("${hibernate-cache.expire-minutes:30}") long expireMinutes) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        createRegion(cacheManager, USER_REGION, OptionalLong.of(userMaximumSize), expireMinutes);
+        createRegion(cacheManager, FOLDER_REGION, OptionalLong.of(folderMaximumSize), expireMinutes);
+        createRegion(cacheManager, USER_FOLDERS_QUERY_REGION, OptionalLong.of(queryMaximumSize), expireMinutes);
+        createRegion(cacheManager, QUERY_RESULTS_REGION, OptionalLong.of(queryMaximumSize), expireMinutes);
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, OptionalLong.empty(), 0);
+        return cacheManager;
+    }
+
+    /**
+     * ✅ Hibernate가 위에서 만든 CacheManager를 사용하도록 설정합니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, OptionalLong maximumSize, long expireMinutes) {
+        if (cacheManager.getCache(region) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maximumSize);
+        if (expireMinutes > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MINUTES.toNanos(expireMinutes)));
+        }
+        configuration.setStatisticsEnabled(true); // Hibernate 통계와 별도로 JCache 통계(JMX)도 기록합니다.
+        cacheManager.createCache(region, configuration);
+    }
+}
@@ -0,0 +1,62 @@
+package com.sparta.myselectshop.config;
+
+import com.sparta.myselectshop.entity.Folder;
+import com.sparta.myselectshop.entity.Product;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ IdSequenceAligner 클래스는 IDENTITY 전략에서 시퀀스 전략으로 바꾼 엔티티의 시퀀스 값을 기존 ID에 맞추는 컴포넌트입니다.
+ *
+ *    ➡️ MySQL에는 시퀀스가 없으므로 Hibernate는 `<시퀀스 이름>` 테이블의 `next_val` 컬럼으로 시퀀스를 흉내 내며, 이 값은 1부터 시작합니다.
+ *    ➡️ 이미 AUTO_INCREMENT로 생성된 행이 있다면 새로 할당하는 ID가 기존 ID와 겹치므로,
+ *       애플리케이션이 요청을 받기 전에 `next_val`을 기존 최대 ID 뒤로 옮겨 둡니다.
+ *    ➡️ pooled 옵티마이저는 조회한 값을 할당 구간의 끝으로 사용하므로, `최대 ID + 할당 크기`로 맞춥니다.
+ */
+@Slf4j(topic = "IdSequenceAligner")
+@Component // Spring의 컴포넌트로 등록됩니다.
+public class IdSequenceAligner {
+
+    private final JdbcTemplate jdbcTemplate; // 시퀀스 테이블을 갱신하기 위한 JdbcTemplate
+
+    /**
+     * ✅ IdSequenceAligner의 생성자입니다.
+     *
+     * @param jdbcTemplate 시퀀스 테이블을 갱신하기 위한 JdbcTemplate입니다.
+     * @param entityManagerFactory 스키마(시퀀스 테이블) 생성이 끝난 뒤에 실행되도록 의존성으로만 주입받습니다.
+     */
+    public IdSequenceAligner(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * ✅ 시퀀스로 ID를 생성하는 테이블의 시퀀스 값을 기존 최대 ID 뒤로 옮깁니다.
+     */
+    @PostConstruct
+    public void align() {
+        align("product", "product_seq", Product.ID_ALLOCATION_SIZE);
+        align("folder", "folder_seq", Folder.ID_ALLOCATION_SIZE);
+    }
+
+    /**
+     * ✅ 하나의 테이블에 대해 시퀀스 값을 맞춥니다.
+     *
+     *    ➡️ 시퀀스 값이 이미 충분히 크면 아무것도 하지 않으므로, 재시작할 때마다 실행해도 안전합니다.
+     *
+     * @param table ID를 생성하는 테이블 이름입니다.
+     * @param sequence 시퀀스(테이블) 이름입니다.
+     * @param allocationSize 시퀀스의 할당 크기입니다.
+     */
+    private void align(String table, String sequence, int allocationSize) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        long target = maxId + allocationSize;
+        int updated = jdbcTemplate.update(
+            "UPDATE " + sequence + " SET next_val = ? WHERE next_val < ?", target, target);
+        if (updated > 0) {
+            log.info(sequence + " 시퀀스를 " + target + "(으)로 맞췄습니다. (기존 최대 ID: " + maxId + ")");
+        }
+    }
+}
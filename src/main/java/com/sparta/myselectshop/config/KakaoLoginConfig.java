@@ -0,0 +1,42 @@
+package com.sparta.myselectshop.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * ✅ KakaoLoginConfig 클래스는 카카오 로그인을 처리하는 전용 스레드 풀을 설정하는 클래스입니다.
+ *
+ *    ➡️ 카카오 API 호출과 회원 조회/저장은 웹 요청 스레드가 아닌 이 스레드 풀에서 실행됩니다. (`KakaoService` 참고)
+ *    ➡️ Spring이 스레드 풀의 생성과 종료를 관리하며, 애플리케이션 종료 시 스레드 풀도 함께 종료됩니다.
+ */
+@Configuration // Spring의 설정 클래스를 정의하는 어노테이션입니다.
+public class KakaoLoginConfig {
+
+    public static final String KAKAO_LOGIN_EXECUTOR = "kakaoLoginExecutor"; // 카카오 로그인 스레드 풀의 빈 이름
+
+    /**
+     * ✅ 카카오 로그인 전용 스레드 풀 빈을 생성합니다.
+     *
+     *    ➡️ 대기열이 가득 차면 새 로그인 요청을 바로 거절(`TaskRejectedException`)하여, 밀린 요청이 끝없이 쌓이지 않도록 합니다.
+     *    ➡️ 로그인이 없으면 스레드를 정리합니다.
+     *
+     * @param poolSize 카카오 로그인 전용 스레드 수입니다.
+     * @param queueCapacity 스레드가 모두 사용 중일 때 대기할 수 있는 로그인 요청 수입니다.
+     * @return ThreadPoolTaskExecutor 카카오 로그인 전용 스레드 풀
+     */
+    @Bean(KAKAO_LOGIN_EXECUTOR)
+    public ThreadPoolTaskExecutor kakaoLoginExecutor(
+        @Value("${kakao.login.pool-size:16}") int poolSize,
+        @Value("${kakao.login.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setKeepAliveSeconds(60);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("kakao-login-");
+        return executor;
+    }
+}
@@ -0,0 +1,34 @@
+package com.sparta.myselectshop.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * ✅ PriceHistoryConfig 클래스는 가격 이력 버퍼를 저장하는 전용 스레드를 설정하는 클래스입니다.
+ *
+ *    ➡️ 버퍼가 가득 차면 가격을 변경한 요청 스레드가 직접 저장하지 않고, 이 스레드에 저장을 맡깁니다. (`PriceHistoryService` 참고)
+ *    ➡️ Spring이 스레드의 생성과 종료를 관리하며, 애플리케이션 종료 시 함께 종료됩니다.
+ */
+@Configuration // Spring의 설정 클래스를 정의하는 어노테이션입니다.
+public class PriceHistoryConfig {
+
+    public static final String PRICE_HISTORY_FLUSH_EXECUTOR = "priceHistoryFlushExecutor"; // 가격 이력 저장 스레드의 빈 이름
+
+    /**
+     * ✅ 가격 이력 저장 전용 스레드 빈을 생성합니다.
+     *
+     *    ➡️ 저장 작업은 한 번에 하나만 예약되므로, 스레드 1개와 대기열 1칸이면 충분합니다.
+     *
+     * @return ThreadPoolTaskExecutor 가격 이력 저장 전용 스레드
+     */
+    @Bean(PRICE_HISTORY_FLUSH_EXECUTOR)
+    public ThreadPoolTaskExecutor priceHistoryFlushExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("price-history-flush-");
+        return executor;
+    }
+}
@@ -0,0 +1,57 @@
+package com.sparta.myselectshop.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ PriceReachedBackfill 클래스는 `price_reached` 컬럼이 추가되기 전에 등록된 상품의 희망가 도달 여부를 채우는 컴포넌트입니다.
+ *
+ *    ➡️ 컬럼이 추가되면 기존 상품은 모두 0(false)이므로, 최저가가 이미 희망가 이하인 상품이
+ *       다시 저장되기 전까지 "희망가 이하" 목록에서 빠지는 것을 막습니다.
+ *    ➡️ 계산식은 `Product.refreshPriceReached`와 같으며, 기본 키 구간으로 나누어 갱신하므로 한 번에 많은 행을 잠그지 않습니다.
+ *    ➡️ 값이 이미 맞는 상품은 갱신하지 않으므로, 재시작할 때마다 실행해도 안전합니다.
+ */
+@Slf4j(topic = "PriceReachedBackfill")
+@Component // Spring의 컴포넌트로 등록됩니다.
+public class PriceReachedBackfill {
+
+    private static final int BATCH_SIZE = 5000; // 한 번에 갱신할 상품 ID 구간의 크기
+
+    private final JdbcTemplate jdbcTemplate; // 상품 테이블을 갱신하기 위한 JdbcTemplate
+
+    /**
+     * ✅ PriceReachedBackfill의 생성자입니다.
+     *
+     * @param jdbcTemplate 상품 테이블을 갱신하기 위한 JdbcTemplate입니다.
+     * @param entityManagerFactory 스키마(컬럼) 갱신이 끝난 뒤에 실행되도록 주입받습니다.
+     */
+    public PriceReachedBackfill(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * ✅ 희망가 도달 여부가 계산식과 다른 상품을 ID 구간별로 갱신합니다.
+     */
+    @PostConstruct
+    public void backfill() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM product", Long.class);
+        if (maxId == null) {
+            return; // 상품이 없습니다.
+        }
+
+        int updated = 0;
+        for (long fromId = 0; fromId < maxId; fromId += BATCH_SIZE) {
+            updated += jdbcTemplate.update(
+                "UPDATE product SET price_reached = (myprice > 0 AND lprice <= myprice)"
+                    + " WHERE id > ? AND id <= ? AND price_reached <> (myprice > 0 AND lprice <= myprice)",
+                fromId, fromId + BATCH_SIZE);
+        }
+
+        if (updated > 0) {
+            log.info("상품 " + updated + "개의 희망가 도달 여부를 채웠습니다.");
+        }
+    }
+}
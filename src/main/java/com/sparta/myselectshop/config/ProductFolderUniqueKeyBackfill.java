@@ -0,0 +1,67 @@
+package com.sparta.myselectshop.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ ProductFolderUniqueKeyBackfill 클래스는 `product_folder`의 `(product_id, folder_id)` 유니크 키가 없으면 만들어 주는 컴포넌트입니다.
+ *
+ *    ➡️ 유니크 키가 추가되기 전에 중복 연결이 저장된 데이터베이스에서는 `ddl-auto=update`가 경고만 남기고 키를 만들지 않습니다.
+ *       키가 없으면 `INSERT IGNORE`가 항상 행을 저장하므로, 폴더 추가 시 중복 확인이 동작하지 않습니다.
+ *    ➡️ 같은 연결 중 ID가 가장 작은 행만 남기고 나머지 중복 행을 지운 뒤, 유니크 키를 추가합니다.
+ *    ➡️ 키를 추가하지 못하면 애플리케이션을 시작하지 않습니다. 키가 이미 있으면 아무것도 하지 않으므로, 재시작할 때마다 실행해도 안전합니다.
+ */
+@Slf4j(topic = "ProductFolderUniqueKeyBackfill")
+@Component // Spring의 컴포넌트로 등록됩니다.
+public class ProductFolderUniqueKeyBackfill {
+
+    public static final String UNIQUE_KEY = "uk_product_folder_product_folder"; // `ProductFolder`에 선언된 유니크 키 이름
+
+    private final JdbcTemplate jdbcTemplate; // 상품-폴더 테이블을 정리하기 위한 JdbcTemplate
+
+    /**
+     * ✅ ProductFolderUniqueKeyBackfill의 생성자입니다.
+     *
+     * @param jdbcTemplate 상품-폴더 테이블을 정리하기 위한 JdbcTemplate입니다.
+     * @param entityManagerFactory 스키마 갱신이 끝난 뒤에 실행되도록 주입받습니다.
+     */
+    public ProductFolderUniqueKeyBackfill(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * ✅ 유니크 키가 없으면 중복 연결을 지우고 유니크 키를 추가합니다.
+     *
+     * @throws IllegalStateException 중복을 지운 뒤에도 유니크 키를 추가하지 못한 경우 발생하는 예외입니다.
+     */
+    @PostConstruct
+    public void backfill() {
+        Integer keys = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.statistics"
+                + " WHERE table_schema = DATABASE() AND table_name = 'product_folder' AND index_name = ?",
+            Integer.class, UNIQUE_KEY);
+        if (keys != null && keys > 0) {
+            return; // 유니크 키가 이미 있습니다.
+        }
+
+        int deleted = jdbcTemplate.update(
+            "DELETE duplicate FROM product_folder duplicate"
+                + " JOIN product_folder kept ON kept.product_id = duplicate.product_id"
+                + " AND kept.folder_id = duplicate.folder_id AND kept.id < duplicate.id");
+        if (deleted > 0) {
+            log.warn("중복된 상품-폴더 연결 " + deleted + "개를 지웠습니다.");
+        }
+
+        try {
+            jdbcTemplate.execute("ALTER TABLE product_folder ADD CONSTRAINT " + UNIQUE_KEY
+                + " UNIQUE (product_id, folder_id)");
+        } catch (RuntimeException e) {
+            // 키가 없으면 폴더 추가 시 중복을 막을 수 없으므로 시작하지 않습니다.
+            throw new IllegalStateException("상품-폴더 유니크 키(" + UNIQUE_KEY + ")를 추가하지 못했습니다.", e);
+        }
+        log.info("상품-폴더 유니크 키(" + UNIQUE_KEY + ")를 추가했습니다.");
+    }
+}
@@ -0,0 +1,62 @@
+package com.sparta.myselectshop.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.myselectshop.security.UserDetailsImpl;
+import com.sparta.myselectshop.util.AfterCommit;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ ReadYourWritesTracker 클래스는 최근에 상품이나 폴더를 변경한 사용자를 기억하여, 그 사용자의 조회를 주 데이터베이스로 보내는 컴포넌트입니다.
+ *
+ *    ➡️ 사용자가 상품이나 폴더를 등록하거나 수정한 직후 목록을 조회하면, 복제 지연 때문에 방금 변경한 내용이 보이지 않을 수 있습니다.
+ *       변경 후 일정 시간 동안은 해당 사용자의 조회가 복제본 대신 주 데이터베이스를 읽습니다.
+ *    ➡️ 진행 중인 트랜잭션이 있으면 커밋된 시점부터 다시 시간을 잽니다.
+ *    ➡️ 서버 인스턴스별로 기억하므로, 여러 인스턴스로 운영할 때는 같은 사용자의 요청이 같은 인스턴스로 가야 합니다.
+ */
+@Component // Spring의 컴포넌트로 등록됩니다.
+public class ReadYourWritesTracker {
+
+    private final Cache<Long, Boolean> recentWriters; // 최근에 변경한 사용자 ID
+
+    /**
+     * ✅ ReadYourWritesTracker의 생성자입니다.
+     *
+     * @param stickySeconds 변경 후 주 데이터베이스를 읽는 시간(초)입니다. 허용하는 복제 지연보다 길어야 합니다.
+     * @param maximumSize 기억할 최대 사용자 수입니다.
+     */
+    public ReadYourWritesTracker(@Value("${datasource.replica.sticky-seconds:5}") long stickySeconds,
+        @Value("${datasource.replica.sticky-maximum-size:100000}") long maximumSize) {
+        this.recentWriters = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(stickySeconds))
+            .build();
+    }
+
+    /**
+     * ✅ 사용자가 상품이나 폴더를 변경했음을 기록합니다.
+     *
+     * @param userId 변경한 사용자의 ID입니다.
+     */
+    public void markWritten(Long userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+        AfterCommit.run(() -> recentWriters.put(userId, Boolean.TRUE)); // 커밋된 시점부터 다시 시간을 잽니다.
+    }
+
+    /**
+     * ✅ 현재 요청의 로그인 사용자가 최근에 상품이나 폴더를 변경했는지 확인합니다.
+     *
+     * @return 로그인하지 않은 요청이면 `false`를 반환합니다.
+     */
+    public boolean isCurrentUserSticky() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof UserDetailsImpl userDetails) {
+            return recentWriters.getIfPresent(userDetails.getUser().getId()) != null;
+        }
+        return false;
+    }
+}
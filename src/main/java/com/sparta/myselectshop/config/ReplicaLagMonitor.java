@@ -0,0 +1,88 @@
+package com.sparta.myselectshop.config;
+
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * ✅ ReplicaLagMonitor 클래스는 읽기 복제본의 복제 지연을 주기적으로 확인하는 컴포넌트입니다.
+ *
+ *    ➡️ `SHOW REPLICA STATUS`의 `Seconds_Behind_Source`가 허용 지연 이하일 때만 복제본을 읽을 수 있다고 판단합니다.
+ *       복제가 멈추었거나(값이 없음) 복제본에 접속할 수 없으면 복제본을 읽지 않습니다.
+ *    ➡️ 복제 지연을 잴 수 없으면(일시적인 오류, 이전 버전의 MySQL, `REPLICATION CLIENT` 권한이 없는 계정 등) 복제본을 읽지 않고,
+ *       다음 확인 때 복제 상태를 다시 조회합니다. 지연을 모르는 복제본을 읽으면 허용 지연을 지킬 수 없기 때문입니다.
+ *    ➡️ 복제본이 설정된 경우에만 `DataSourceConfig`에서 등록됩니다.
+ */
+@Slf4j(topic = "ReplicaLagMonitor")
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate jdbcTemplate; // 복제본에 접속하는 JdbcTemplate
+    private final long maxLagSeconds; // 허용하는 복제 지연(초)
+    private volatile boolean readable; // 복제본을 읽어도 되는지 여부 (첫 확인 전에는 읽지 않습니다.)
+    private volatile long lagSeconds = -1; // 마지막으로 확인한 복제 지연(초), 알 수 없으면 -1
+    private boolean failing; // 마지막 확인에서 복제 상태를 조회하지 못했는지 여부 (오류 로그를 한 번만 남깁니다.)
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds) {
+        this(new JdbcTemplate(replicaDataSource), maxLagSeconds);
+    }
+
+    ReplicaLagMonitor(JdbcTemplate jdbcTemplate, long maxLagSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    /**
+     * ✅ 복제 지연을 확인하여 복제본을 읽을 수 있는지 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        long lag;
+        try {
+            lag = replicationLag();
+            failing = false;
+        } catch (DataAccessException e) {
+            lag = -1;
+            if (!failing) {
+                log.warn("복제 상태를 조회하지 못했습니다. 조회에 성공할 때까지 복제본을 읽지 않습니다.", e);
+            }
+            failing = true;
+        }
+
+        boolean nowReadable = lag >= 0 && lag <= maxLagSeconds;
+        if (nowReadable != readable) {
+            log.info(nowReadable
+                ? "복제본 읽기를 시작합니다. (복제 지연: " + lag + "초)"
+                : lag < 0
+                    ? "복제 지연을 알 수 없어 복제본 읽기를 중단합니다."
+                    : "복제 지연이 허용 범위를 넘어 복제본 읽기를 중단합니다. (복제 지연: " + lag + "초, 허용: " + maxLagSeconds + "초)");
+        }
+        lagSeconds = lag;
+        readable = nowReadable;
+    }
+
+    /**
+     * ✅ 복제 상태에서 복제 지연(초)을 조회합니다.
+     *
+     * @return 복제 지연(초). 복제가 멈추었으면 -1, 복제 중이 아니면 0을 반환합니다.
+     */
+    private long replicationLag() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("SHOW REPLICA STATUS");
+        if (rows.isEmpty()) {
+            return 0; // 복제 중이 아닌 데이터베이스입니다.
+        }
+        Object seconds = rows.get(0).get("Seconds_Behind_Source");
+        return seconds instanceof Number number ? number.longValue() : -1;
+    }
+
+    public boolean isReadable() {
+        return readable;
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+}
@@ -3,6 +3,7 @@ package com.sparta.myselectshop.config;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Duration;
@@ -21,6 +22,8 @@ public class RestTemplateConfig {
      *
      *    ➡️ RestTemplateBuilder를 사용하여 RestTemplate의 타임아웃 설정을 지정한 후, RestTemplate 객체를 생성합니다.
      *    ➡️ 생성된 RestTemplate은 애플리케이션의 다른 부분에서 외부 API 호출에 사용됩니다.
+     *    ➡️ JDK HttpClient를 사용하므로, 호출한 스레드가 인터럽트되면 진행 중인 요청을 중단하고 스레드를 반환합니다.
+     *       (카카오 로그인 단계가 제한 시간을 넘겨 취소될 때 사용됩니다.)
      *
      * @param restTemplateBuilder RestTemplate을 빌드하기 위한 빌더 객체입니다.
      * @return RestTemplate 외부 API 호출을 위한 RestTemplate 객체입니다.
@@ -28,6 +31,7 @@ public class RestTemplateConfig {
     @Bean // 이 메서드에서 반환된 객체가 Spring의 빈으로 등록됩니다.
     public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
         return restTemplateBuilder
+            .requestFactory(JdkClientHttpRequestFactory.class) // 인터럽트로 중단할 수 있는 JDK HttpClient를 사용합니다.
             // RestTemplate으로 외부 API 호출 시 일정 시간이 지나도 응답이 없을 경우
             // 무한 대기 상태를 방지하기 위해 강제 종료 시간을 설정합니다.
             .setConnectTimeout(Duration.ofSeconds(5)) // 연결 타임아웃을 5초로 설정합니다.
@@ -0,0 +1,46 @@
+package com.sparta.myselectshop.config;
+
+import com.sparta.myselectshop.monitoring.SqlStatementInspector;
+import com.sparta.myselectshop.monitoring.SqlStatisticsFilter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * ✅ SqlStatisticsConfig 클래스는 SQL 실행 통계를 수집하는 설정 클래스입니다.
+ *
+ *    ➡️ `SqlStatementInspector`를 Hibernate의 StatementInspector로 등록하여, 실행되는 모든 SQL 문을 요청별로 집계합니다.
+ *    ➡️ `SqlStatisticsFilter`를 가장 바깥쪽 필터로 등록하여, 인증 필터에서 실행되는 SQL 문까지 요청에 포함합니다.
+ *    ➡️ 쿼리별 실행 시간과 느린 쿼리 로그는 Hibernate 통계(`hibernate.generate_statistics`, `hibernate.log_slow_query`)를 사용합니다.
+ */
+@Configuration // Spring의 설정 클래스를 정의하는 어노테이션입니다.
+public class SqlStatisticsConfig {
+
+    /**
+     * ✅ Hibernate가 SQL 문을 실행하기 전에 `SqlStatementInspector`를 거치도록 설정합니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementInspectorCustomizer(SqlStatementInspector sqlStatementInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementInspector);
+    }
+
+    /**
+     * ✅ 요청별 SQL 문 집계 필터를 등록합니다.
+     *
+     * @param requestWarnThreshold 한 요청의 SQL 문 수가 이 값을 넘으면 경고 로그를 남깁니다.
+     * @param responseHeaders 집계 결과를 응답 헤더로 노출할지 여부입니다. (개발 환경 전용)
+     */
+    @Bean
+    public FilterRegistrationBean<SqlStatisticsFilter> sqlStatisticsFilter(
+        @Value("${sql-stats.request-warn-threshold:50}") int requestWarnThreshold,
+        @Value("${sql-stats.response-headers:false}") boolean responseHeaders) {
+        FilterRegistrationBean<SqlStatisticsFilter> registration =
+            new FilterRegistrationBean<>(new SqlStatisticsFilter(requestWarnThreshold, responseHeaders));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE); // 보안 필터보다 먼저 실행됩니다.
+        return registration;
+    }
+}
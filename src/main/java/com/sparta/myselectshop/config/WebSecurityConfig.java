@@ -1,15 +1,19 @@
 package com.sparta.myselectshop.config;
 
+import com.sparta.myselectshop.entity.UserRoleEnum;
 import com.sparta.myselectshop.jwt.JwtUtil;
 import com.sparta.myselectshop.security.JwtAuthenticationFilter;
 import com.sparta.myselectshop.security.JwtAuthorizationFilter;
 import com.sparta.myselectshop.security.UserDetailsServiceImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -25,6 +29,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  */
 @Configuration
 @EnableWebSecurity // Spring Security를 활성화 시킵니다.
+@EnableMethodSecurity(securedEnabled = true) // @Secured 어노테이션으로 메서드별 권한을 검사합니다.
 @RequiredArgsConstructor
 public class WebSecurityConfig {
 
@@ -100,6 +105,9 @@ public class WebSecurityConfig {
                 .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll() // 리소스(static resources) 접근을 허용
                 .requestMatchers("/").permitAll() // 메인 페이지 접근을 허용
                 .requestMatchers("/api/user/**").permitAll() // '/api/user/'로 시작하는 요청을 모두 허용
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll() // 헬스 체크는 로드 밸런서 등에서 인증 없이 호출
+                // 캐시 비우기(DELETE /actuator/caches), 커넥션 풀/SQL 지표 등 나머지 actuator 엔드포인트는 관리자만 접근
+                .requestMatchers(EndpointRequest.toAnyEndpoint()).hasAuthority(UserRoleEnum.Authority.ADMIN)
                 .anyRequest().authenticated() // 그 외의 모든 요청은 인증 필요
         );
 
@@ -0,0 +1,92 @@
+package com.sparta.myselectshop.config;
+
+import java.util.function.BooleanSupplier;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * ✅ WorkloadRoutingDataSource 클래스는 현재 스레드의 작업 종류(Workload)에 따라 커넥션 풀을 고르는 DataSource입니다.
+ *
+ *    ➡️ 사용자 요청(INTERACTIVE), 스케줄러 등 백그라운드 작업(BACKGROUND), API 사용 시간 기록(METRICS)이 서로 다른 풀을 사용하므로,
+ *       백그라운드 작업이 몰려도 사용자 요청이 커넥션을 기다리지 않습니다.
+ *    ➡️ 작업 종류를 지정하지 않은 스레드는 INTERACTIVE 풀을 사용합니다.
+ *    ➡️ REPLICA_READ로 지정된 읽기 전용 트랜잭션은, 복제본을 읽을 수 있는 경우(`replicaReadable`)에만 복제본 풀을 사용하고
+ *       그렇지 않으면 INTERACTIVE 풀을 사용합니다. 트랜잭션의 읽기 전용 여부를 알 수 있도록 `LazyConnectionDataSourceProxy`로 감싸서 사용합니다.
+ *    ➡️ 풀은 커넥션을 얻는 시점에 결정됩니다. 이미 트랜잭션이 진행 중이면 그 트랜잭션의 커넥션을 계속 사용하므로,
+ *       작업 종류는 트랜잭션이 시작되기 전에 지정해야 합니다. (`@UseWorkload`는 트랜잭션보다 먼저 적용됩니다.)
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * ✅ 커넥션 풀을 나누는 작업 종류입니다.
+     */
+    public enum Workload {
+        INTERACTIVE, // 사용자 요청
+        BACKGROUND, // 스케줄러, 내보내기 등 오래 걸리는 백그라운드 작업
+        METRICS, // API 사용 시간 등 부가 기록
+        REPLICA_READ // 복제본에서 읽어도 되는 사용자 요청의 조회
+    }
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private BooleanSupplier replicaReadable = () -> false; // 지금 복제본을 읽어도 되는지 (복제 지연, 사용자의 최근 쓰기 여부)
+
+    /**
+     * ✅ 복제본을 읽어도 되는지 판단하는 조건을 지정합니다.
+     *
+     *    ➡️ 지정하지 않으면 REPLICA_READ도 INTERACTIVE 풀을 사용합니다.
+     */
+    public void setReplicaReadable(BooleanSupplier replicaReadable) {
+        this.replicaReadable = replicaReadable;
+    }
+
+    /**
+     * ✅ 현재 스레드의 작업 종류를 지정합니다.
+     *
+     * @param workload 지정할 작업 종류입니다.
+     * @return 이전에 지정되어 있던 작업 종류입니다. 작업이 끝나면 `restore`에 전달해야 합니다.
+     */
+    public static Workload enter(Workload workload) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    /**
+     * ✅ 현재 스레드의 작업 종류를 `enter` 이전 상태로 되돌립니다.
+     *
+     * @param previous `enter`가 반환한 작업 종류입니다.
+     */
+    public static void restore(Workload previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * ✅ 주어진 작업 종류의 풀을 사용하여 작업을 실행합니다.
+     */
+    public static void run(Workload workload, Runnable task) {
+        Workload previous = enter(workload);
+        try {
+            task.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Workload workload = CURRENT.get();
+        if (workload == null) {
+            return Workload.INTERACTIVE;
+        }
+        if (workload == Workload.REPLICA_READ) {
+            boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+            return readOnly && replicaReadable.getAsBoolean() ? Workload.REPLICA_READ : Workload.INTERACTIVE;
+        }
+        return workload;
+    }
+}
@@ -0,0 +1,47 @@
+package com.sparta.myselectshop.controller;
+
+import com.sparta.myselectshop.dto.SqlStatsResponseDto;
+import com.sparta.myselectshop.entity.UserRoleEnum;
+import com.sparta.myselectshop.service.SqlStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * ✅ AdminStatsController 클래스는 관리자용 SQL 실행 통계 요청을 처리하는 컨트롤러입니다.
+ *
+ *    ➡️ 모든 엔드포인트는 관리자만 호출할 수 있습니다.
+ */
+@RestController // REST API를 제공하는 컨트롤러로 선언합니다.
+@RequestMapping("/api/admin") // 이 컨트롤러의 모든 요청은 "/api/admin" 경로를 기본으로 합니다.
+@RequiredArgsConstructor // Lombok 어노테이션으로 생성자를 자동으로 생성합니다.
+@Secured(UserRoleEnum.Authority.ADMIN) // 관리자만 호출할 수 있습니다.
+public class AdminStatsController {
+
+    private final SqlStatisticsService sqlStatisticsService; // SQL 실행 통계를 조회하는 서비스
+
+    /**
+     * ✅ SQL 실행 통계를 조회하는 API 엔드포인트입니다.
+     *
+     *      ➡️ 전체 SQL 문 수, Hibernate 통계 요약, 총 실행 시간이 긴 쿼리 목록, N+1로 의심된 SQL 문 목록을 반환합니다.
+     *
+     * @param limit 반환할 쿼리 수입니다. (기본값 20)
+     * @return SQL 실행 통계입니다.
+     */
+    @GetMapping("/sql-stats") // "/api/admin/sql-stats" 경로로 GET 요청을 처리합니다.
+    public SqlStatsResponseDto getSqlStats(@RequestParam(defaultValue = "20") int limit) {
+        return sqlStatisticsService.getStats(limit);
+    }
+
+    /**
+     * ✅ SQL 실행 통계를 초기화하는 API 엔드포인트입니다.
+     */
+    @DeleteMapping("/sql-stats") // "/api/admin/sql-stats" 경로로 DELETE 요청을 처리합니다.
+    public void clearSqlStats() {
+        sqlStatisticsService.clear();
+    }
+}
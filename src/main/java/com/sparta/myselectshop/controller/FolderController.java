@@ -1,12 +1,17 @@
 package com.sparta.myselectshop.controller;
 
+import com.sparta.myselectshop.cache.UserVersionTracker;
+import com.sparta.myselectshop.cache.UserVersionTracker.Scope;
 import com.sparta.myselectshop.dto.FolderRequestDto;
 import com.sparta.myselectshop.dto.FolderResponseDto;
 import com.sparta.myselectshop.security.UserDetailsImpl;
 import com.sparta.myselectshop.service.FolderService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,6 +26,7 @@ import java.util.List;
 public class FolderController {
 
     private final FolderService folderService; // 폴더 서비스 인스턴스
+    private final UserVersionTracker userVersionTracker; // 폴더 목록의 버전(ETag)을 관리하는 컴포넌트
 
     /**
      * ✅ 사용자가 요청한 폴더 이름을 기반으로 새로운 폴더를 추가합니다.
@@ -47,13 +53,25 @@ public class FolderController {
      *    ➡️ 클라이언트로부터 인증된 사용자 정보를 기반으로 사용자가 가진 폴더 목록을 조회합니다.
      *    ➡️ 요청 헤더의 인증 정보를 통해 현재 인증된 사용자의 정보를 가져오고,
      *    ➡️ 이를 기반으로 폴더 목록을 조회하여 `FolderResponseDto` 객체의 리스트를 반환합니다.
+     *    ➡️ 폴더 목록의 버전으로 만든 약한 ETag를 응답하며, `If-None-Match`가 일치하면 조회 없이 304(Not Modified)를 반환합니다.
      *
      * @param userDetails 현재 인증된 사용자의 상세 정보가 포함된 `UserDetailsImpl` 객체입니다.
+     * @param webRequest `If-None-Match` 헤더를 확인하기 위한 요청 객체입니다.
      * @return List<FolderResponseDto> 현재 인증된 사용자가 가진 폴더의 목록을 포함하는 DTO 객체 리스트입니다.
      */
     @GetMapping("/folders") // "/api/folders" 경로로 GET 요청을 처리합니다.
-    public List<FolderResponseDto> getFolders(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+    public ResponseEntity<List<FolderResponseDto>> getFolders(@AuthenticationPrincipal UserDetailsImpl userDetails,
+        WebRequest webRequest) {
+        // 폴더 목록이 바뀌지 않았다면 304(Not Modified)로 응답합니다.
+        String etag = userVersionTracker.weakEtag(Scope.FOLDERS, userDetails.getUser().getId());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         // 현재 인증된 사용자의 정보를 통해 폴더 목록을 조회하고 반환합니다.
-        return folderService.getFolders(userDetails.getUser());
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache().cachePrivate()) // 브라우저가 매번 ETag로 재검증하도록 합니다.
+            .eTag(etag)
+            .body(folderService.getFolders(userDetails.getUser()));
     }
 }
\ No newline at end of file
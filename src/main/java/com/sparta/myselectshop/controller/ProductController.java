@@ -1,15 +1,37 @@
 package com.sparta.myselectshop.controller;
 
+import com.sparta.myselectshop.cache.UserVersionTracker;
+import com.sparta.myselectshop.cache.UserVersionTracker.Scope;
+import com.sparta.myselectshop.dto.CursorResponseDto;
+import com.sparta.myselectshop.dto.PriceHistoryResponseDto;
+import com.sparta.myselectshop.dto.ProductFolderBulkRequestDto;
+import com.sparta.myselectshop.dto.ProductFolderBulkResponseDto;
+import com.sparta.myselectshop.dto.ProductFolderMoveRequestDto;
 import com.sparta.myselectshop.dto.ProductMypriceRequestDto;
 import com.sparta.myselectshop.dto.ProductRequestDto;
 import com.sparta.myselectshop.dto.ProductResponseDto;
+import com.sparta.myselectshop.entity.User;
+import com.sparta.myselectshop.entity.UserRoleEnum;
 import com.sparta.myselectshop.security.UserDetailsImpl;
+import com.sparta.myselectshop.service.PriceHistoryService;
+import com.sparta.myselectshop.service.ProductExportService;
 import com.sparta.myselectshop.service.ProductService;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * ✅ ProductController 클래스는 상품 관련 요청을 처리하는 컨트롤러입니다.
@@ -22,6 +44,9 @@ import org.springframework.web.bind.annotation.*;
 public class ProductController {
 
     private final ProductService productService; // 상품 관련 비즈니스 로직을 처리하는 서비스 클래스
+    private final PriceHistoryService priceHistoryService; // 상품 가격 이력을 조회하는 서비스 클래스
+    private final ProductExportService productExportService; // 상품 내보내기를 처리하는 서비스 클래스
+    private final UserVersionTracker userVersionTracker; // 상품 목록의 버전(ETag)을 관리하는 컴포넌트
 
     /**
      * ✅ 새로운 상품을 생성하는 API 엔드포인트입니다.
@@ -39,6 +64,22 @@ public class ProductController {
         return productService.createProduct(requestDto, userDetails.getUser());
     }
 
+    /**
+     * ✅ 여러 상품을 한 번에 등록하는 API 엔드포인트입니다.
+     *
+     *      ➡️ 관심상품 목록을 가져올 때처럼 많은 상품을 등록해야 하는 경우, 상품마다 요청을 보내지 않고 한 번의 요청으로 등록합니다.
+     *
+     * @param requestDtoList 클라이언트가 제공한 상품 생성 요청 데이터 목록입니다.
+     * @param userDetails    인증된 사용자 정보입니다.
+     * @return List<ProductResponseDto> 생성된 상품들의 정보가 담긴 DTO 목록입니다.
+     */
+    @PostMapping("/products/bulk") // POST 메서드로 "/api/products/bulk" 경로에 매핑됩니다.
+    public List<ProductResponseDto> createProducts(@RequestBody List<ProductRequestDto> requestDtoList,
+        @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        // 서비스 계층의 createProducts 메서드를 호출하여 상품들을 생성하고, 결과를 반환합니다.
+        return productService.createProducts(requestDtoList, userDetails.getUser());
+    }
+
     /**
      * ✅ 주어진 상품 ID에 해당하는 상품의 가격을 업데이트하는 API 엔드포인트입니다.
      * <p>
@@ -61,36 +102,170 @@ public class ProductController {
      * ✅ 현재 사용자가 등록한 모든 상품의 목록을 조회하는 API 엔드포인트입니다.
      * <p>
      * ➡️ 데이터베이스에서 현재 사용자가 등록한 모든 상품을 조회하여 `ProductResponseDto` 객체 리스트로 반환합니다.
+     * ➡️ 상품 목록의 버전으로 만든 약한 ETag를 응답하며, `If-None-Match`가 일치하면 조회 없이 304(Not Modified)를 반환합니다.
      *
      * @param page        조회할 페이지 번호입니다.
      * @param size        한 페이지에 표시할 항목 수입니다.
      * @param sortBy      정렬 기준이 되는 필드명입니다.
      * @param isAsc       오름차순 정렬 여부를 나타냅니다.
      * @param userDetails 인증된 사용자 정보입니다.
+     * @param webRequest  `If-None-Match` 헤더를 확인하기 위한 요청 객체입니다.
      * @return Page<ProductResponseDto> 현재 사용자가 등록한 모든 상품 정보를 담고 있는 페이지네이션된 DTO 객체 리스트입니다.
      */
     @GetMapping("/products")
-    public Page<ProductResponseDto> getProducts(
+    public ResponseEntity<Page<ProductResponseDto>> getProducts(
         @RequestParam("page") int page,
         @RequestParam("size") int size,
         @RequestParam("sortBy") String sortBy,
         @RequestParam("isAsc") boolean isAsc,
-        @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        @AuthenticationPrincipal UserDetailsImpl userDetails,
+        WebRequest webRequest) {
+        // 상품 목록이 바뀌지 않았다면 304(Not Modified)로 응답합니다.
+        String etag = productsEtag(userDetails.getUser());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         // 서비스 계층의 getProducts 메서드를 호출하여 현재 사용자가 등록한 상품 목록을 조회하고 DTO 형식으로 반환합니다.
-        return productService.getProducts(userDetails.getUser(), page - 1, size, sortBy, isAsc);
+        return revalidated(etag, productService.getProducts(userDetails.getUser(), page - 1, size, sortBy, isAsc));
+    }
+
+    /**
+     * ✅ 현재 사용자가 등록한 상품 목록을 커서 기반으로 조회하는 API 엔드포인트입니다.
+     * <p>
+     * ➡️ 페이지 번호 대신 응답의 `nextCursor`를 다음 요청의 `cursor`로 전달하여 이어서 조회합니다.
+     * ➡️ 정렬 조건을 바꾸면 이전 커서는 사용할 수 없으며, 처음부터 다시 조회해야 합니다.
+     *
+     * @param cursor      이전 응답에서 받은 커서입니다. 첫 페이지는 생략합니다.
+     * @param size        한 번에 조회할 항목 수입니다. 기본값은 10개입니다.
+     * @param sortBy      정렬 기준이 되는 필드명입니다. 기본값은 `id`입니다.
+     * @param isAsc       오름차순 정렬 여부를 나타냅니다. 기본값은 false입니다.
+     * @param withCount   전체 상품 수를 함께 조회할지 여부입니다. 기본값은 false입니다.
+     * @param userDetails 인증된 사용자 정보입니다.
+     * @return CursorResponseDto<ProductResponseDto> 조회된 상품 목록과 다음 커서입니다.
+     */
+    @GetMapping("/products/scroll")
+    public CursorResponseDto<ProductResponseDto> scrollProducts(
+        @RequestParam(required = false) String cursor, // 이전 응답에서 받은 커서를 추출합니다.
+        @RequestParam(defaultValue = "10") int size, // 한 번에 조회할 항목 수를 추출합니다.
+        @RequestParam(defaultValue = "id") String sortBy, // 정렬 기준 필드명을 추출합니다.
+        @RequestParam(defaultValue = "false") boolean isAsc, // 오름차순 정렬 여부를 추출합니다.
+        @RequestParam(defaultValue = "false") boolean withCount, // 전체 상품 수 조회 여부를 추출합니다.
+        @AuthenticationPrincipal UserDetailsImpl userDetails // 현재 인증된 사용자의 정보입니다.
+    ) {
+        return productService.scrollProducts(userDetails.getUser(), cursor, size, sortBy, isAsc, withCount);
+    }
+
+    /**
+     * ✅ 현재 사용자의 상품 중 최저가가 희망가 이하인 상품 목록을 조회하는 API 엔드포인트입니다.
+     * <p>
+     * ➡️ 커서 기반으로 페이지네이션되며, 응답의 `nextCursor`를 다음 요청의 `cursor`로 전달하면 이어서 조회합니다.
+     *
+     * @param cursor      이전 응답에서 받은 커서입니다. 첫 페이지는 생략합니다.
+     * @param size        한 번에 조회할 항목 수입니다. 기본값은 10개입니다.
+     * @param userDetails 인증된 사용자 정보입니다.
+     * @return CursorResponseDto<ProductResponseDto> 조회된 상품 목록과 다음 커서입니다.
+     */
+    @GetMapping("/products/below-myprice")
+    public CursorResponseDto<ProductResponseDto> getProductsAtOrBelowMyPrice(
+        @RequestParam(required = false) String cursor, // 이전 응답에서 받은 커서를 추출합니다.
+        @RequestParam(defaultValue = "10") int size, // 한 번에 조회할 항목 수를 추출합니다.
+        @AuthenticationPrincipal UserDetailsImpl userDetails // 현재 인증된 사용자의 정보입니다.
+    ) {
+        return productService.getProductsAtOrBelowMyPrice(userDetails.getUser(), cursor, size);
+    }
+
+    /**
+     * ✅ 특정 상품의 최저가 추이를 조회하는 API 엔드포인트입니다.
+     * <p>
+     * ➡️ 최근 `days`일 동안의 가격 이력을 최대 `points`개의 지점으로 다운샘플링하여 반환합니다.
+     *
+     * @param productId   가격 추이를 조회할 상품의 고유 ID입니다.
+     * @param days        오늘로부터 조회할 기간(일)입니다. 기본값은 30일입니다.
+     * @param points      반환할 최대 지점 수입니다. 기본값은 100개입니다.
+     * @param userDetails 인증된 사용자 정보입니다.
+     * @return List<PriceHistoryResponseDto> 시간순으로 정렬된 가격 추이입니다.
+     */
+    @GetMapping("/products/{productId}/price-history")
+    public List<PriceHistoryResponseDto> getPriceHistory(
+        @PathVariable Long productId, // URL 경로에서 상품 ID를 추출합니다.
+        @RequestParam(defaultValue = "30") int days, // 조회 기간(일)을 추출합니다.
+        @RequestParam(defaultValue = "100") int points, // 반환할 최대 지점 수를 추출합니다.
+        @AuthenticationPrincipal UserDetailsImpl userDetails // 현재 인증된 사용자의 정보입니다.
+    ) {
+        return priceHistoryService.getPriceHistory(productId, days, points, userDetails.getUser());
     }
 
     /**
      * ✅ 관리자가 모든 상품의 목록을 조회하는 API 엔드포인트입니다.
      * <p>
-     * ➡️ 데이터베이스에서 모든 상품을 조회하여 `ProductResponseDto` 객체 리스트로 반환합니다.
+     * ➡️ 모든 상품을 `ProductResponseDto`와 같은 형태의 JSON 배열로 반환합니다.
+     * ➡️ 상품 목록을 메모리에 모으지 않고, 데이터베이스에서 읽는 즉시 응답 출력 스트림에 기록하므로 상품 수가 많아도 일정한 메모리만 사용합니다.
+     * ➡️ 클라이언트가 `Accept-Encoding: gzip`을 보내면 gzip으로 압축하여 응답합니다.
      *
-     * @return List<ProductResponseDto> 모든 상품 정보를 담고 있는 DTO 객체 리스트입니다.
+     * @param acceptEncoding 클라이언트가 지원하는 압축 방식입니다.
+     * @param response       상품을 기록할 HTTP 응답입니다.
+     * @throws IOException 응답에 기록하는 중 오류가 발생한 경우 던져집니다.
      */
+    @Secured(UserRoleEnum.Authority.ADMIN) // 관리자만 조회할 수 있습니다.
     @GetMapping("/admin/products")
-    public List<ProductResponseDto> getAllProducts() {
-        // 서비스 계층의 getAllProducts 메서드를 호출하여 모든 상품 목록을 조회하고 DTO 형식으로 반환합니다.
-        return productService.getAllProducts();
+    public void getAllProducts(
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding, // 지원 압축 방식을 추출합니다.
+        HttpServletResponse response
+    ) throws IOException {
+        writeAllProducts(ProductExportService.Format.JSON, acceptEncoding, response);
+    }
+
+    /**
+     * ✅ 관리자가 모든 상품을 파일로 내보내는 API 엔드포인트입니다.
+     * <p>
+     * ➡️ 상품 목록을 메모리에 모으지 않고, 데이터베이스에서 읽는 즉시 응답 출력 스트림에 기록하므로 상품 수가 많아도 일정한 메모리만 사용합니다.
+     * ➡️ 클라이언트가 `Accept-Encoding: gzip`을 보내면 gzip으로 압축하여 응답합니다.
+     *
+     * @param format         내보내기 형식입니다. (`ndjson` 또는 `csv`, 기본값은 `ndjson`)
+     * @param acceptEncoding 클라이언트가 지원하는 압축 방식입니다.
+     * @param response       상품을 기록할 HTTP 응답입니다.
+     * @throws IOException 응답에 기록하는 중 오류가 발생한 경우 던져집니다.
+     */
+    @Secured(UserRoleEnum.Authority.ADMIN) // 관리자만 내보낼 수 있습니다.
+    @GetMapping("/admin/products/export")
+    public void exportAllProducts(
+        @RequestParam(defaultValue = "ndjson") String format, // 내보내기 형식을 추출합니다.
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding, // 지원 압축 방식을 추출합니다.
+        HttpServletResponse response
+    ) throws IOException {
+        ProductExportService.Format exportFormat = ProductExportService.Format.from(format);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename("products." + exportFormat.getExtension())
+            .build()
+            .toString());
+        writeAllProducts(exportFormat, acceptEncoding, response);
+    }
+
+    /**
+     * ✅ 모든 상품을 지정된 형식으로 응답 출력 스트림에 기록합니다.
+     * <p>
+     * ➡️ 본문은 기록하는 즉시 클라이언트로 전송되며, 클라이언트가 gzip을 지원하면 압축하여 기록합니다.
+     */
+    private void writeAllProducts(ProductExportService.Format format, String acceptEncoding,
+        HttpServletResponse response) throws IOException {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        // 응답 헤더를 설정합니다.
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            GZIPOutputStream out = new GZIPOutputStream(response.getOutputStream(), 8192);
+            productExportService.export(format, out);
+            out.finish(); // 응답 스트림은 닫지 않고 gzip 트레일러만 기록합니다.
+        } else {
+            OutputStream out = response.getOutputStream();
+            productExportService.export(format, out);
+        }
+        response.flushBuffer();
     }
 
     /**
@@ -114,11 +289,44 @@ public class ProductController {
         productService.addFolder(productId, folderId, userDetails.getUser());
     }
 
+    /**
+     * ✅ 여러 상품을 여러 폴더에 한 번에 추가하는 API 엔드포인트입니다.
+     * <p>
+     * ➡️ 요청 본문의 모든 상품을 모든 폴더에 추가하며, 이미 추가된 상품은 건너뜁니다.
+     *
+     * @param requestDto  추가할 상품 ID 목록과 폴더 ID 목록입니다.
+     * @param userDetails 현재 인증된 사용자의 정보입니다.
+     * @return ProductFolderBulkResponseDto 새로 추가된 연결 수와 건너뛴 연결 수입니다.
+     */
+    @PostMapping("/products/folders")
+    public ProductFolderBulkResponseDto addProductsToFolders(
+        @RequestBody ProductFolderBulkRequestDto requestDto, // 요청 본문에서 상품 ID 목록과 폴더 ID 목록을 추출합니다.
+        @AuthenticationPrincipal UserDetailsImpl userDetails // 현재 인증된 사용자의 상세 정보를 추출합니다.
+    ) {
+        return productService.addProductsToFolders(requestDto, userDetails.getUser());
+    }
+
+    /**
+     * ✅ 여러 상품을 한 폴더에서 다른 폴더로 한 번에 옮기는 API 엔드포인트입니다.
+     *
+     * @param requestDto  옮길 상품 ID 목록과 원래 폴더 ID, 대상 폴더 ID입니다.
+     * @param userDetails 현재 인증된 사용자의 정보입니다.
+     * @return ProductFolderBulkResponseDto 추가, 건너뜀, 제거된 연결 수입니다.
+     */
+    @PostMapping("/products/folders/move")
+    public ProductFolderBulkResponseDto moveProductsBetweenFolders(
+        @RequestBody ProductFolderMoveRequestDto requestDto, // 요청 본문에서 상품 ID 목록과 두 폴더 ID를 추출합니다.
+        @AuthenticationPrincipal UserDetailsImpl userDetails // 현재 인증된 사용자의 상세 정보를 추출합니다.
+    ) {
+        return productService.moveProductsBetweenFolders(requestDto, userDetails.getUser());
+    }
+
     /**
      * ✅ 특정 폴더에 등록된 모든 상품의 목록을 조회하는 API 엔드포인트입니다.
      *
      * ➡️ URL 경로에서 폴더 ID를 추출하고, 요청 파라미터를 사용하여 페이지 번호, 페이지 크기, 정렬 기준 및 정렬 방향을 설정합니다. ➡️ 인증된 사용자가 등록한
      * 폴더 내의 모든 상품을 조회하여 페이지네이션된 `ProductResponseDto` 객체 리스트로 반환합니다.
+     * ➡️ 상품 목록의 버전으로 만든 약한 ETag를 응답하며, `If-None-Match`가 일치하면 조회 없이 304(Not Modified)를 반환합니다.
      *
      * @param folderId    폴더의 고유 ID입니다. 이 폴더에 등록된 상품을 조회합니다.
      * @param page        조회할 페이지 번호입니다. (0부터 시작하는 인덱스 사용)
@@ -126,26 +334,82 @@ public class ProductController {
      * @param sortBy      정렬 기준이 되는 필드명입니다. (예: "price", "name" 등)
      * @param isAsc       오름차순 정렬 여부를 나타냅니다. true일 경우 오름차순, false일 경우 내림차순입니다.
      * @param userDetails 현재 인증된 사용자 정보입니다. 이 정보는 요청한 사용자의 권한을 확인하는 데 사용될 수 있습니다.
+     * @param webRequest  `If-None-Match` 헤더를 확인하기 위한 요청 객체입니다.
      * @return Page<ProductResponseDto> 요청한 폴더에 등록된 모든 상품 정보를 담고 있는 페이지네이션된 DTO 객체 리스트입니다.
      */
     @GetMapping("/folders/{folderId}/products")
-    public Page<ProductResponseDto> getProductsInFolder(
+    public ResponseEntity<Page<ProductResponseDto>> getProductsInFolder(
         @PathVariable Long folderId, // URL 경로에서 폴더 ID를 추출합니다.
         @RequestParam int page, // 쿼리 파라미터에서 페이지 번호를 추출합니다.
         @RequestParam int size, // 쿼리 파라미터에서 페이지 크기를 추출합니다.
         @RequestParam String sortBy, // 쿼리 파라미터에서 정렬 기준 필드명을 추출합니다.
         @RequestParam boolean isAsc, // 쿼리 파라미터에서 오름차순 정렬 여부를 추출합니다.
-        @AuthenticationPrincipal UserDetailsImpl userDetails // 현재 인증된 사용자의 정보입니다.
+        @AuthenticationPrincipal UserDetailsImpl userDetails, // 현재 인증된 사용자의 정보입니다.
+        WebRequest webRequest // `If-None-Match` 헤더를 확인하기 위한 요청 객체입니다.
     ) {
+        // 상품 목록이 바뀌지 않았다면 304(Not Modified)로 응답합니다.
+        String etag = userVersionTracker.weakEtag(Scope.PRODUCTS, userDetails.getUser().getId());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         // 서비스 계층의 getProductsInFolder 메서드를 호출하여 주어진 폴더 ID에 등록된 상품 목록을 조회하고,
         // 페이지네이션된 DTO 리스트를 반환합니다.
-        return productService.getProductsInFolder(
+        return revalidated(etag, productService.getProductsInFolder(
             folderId,
             page - 1, // 페이지 번호는 0부터 시작하므로 -1을 합니다.
             size,
             sortBy,
             isAsc,
             userDetails.getUser() // 현재 인증된 사용자 정보를 전달합니다.
-        );
+        ));
+    }
+
+    /**
+     * ✅ 특정 폴더에 등록된 상품 목록을 커서 기반으로 조회하는 API 엔드포인트입니다.
+     * <p>
+     * ➡️ 페이지 번호 대신 응답의 `nextCursor`를 다음 요청의 `cursor`로 전달하여 이어서 조회합니다.
+     *
+     * @param folderId    폴더의 고유 ID입니다. 이 폴더에 등록된 상품을 조회합니다.
+     * @param cursor      이전 응답에서 받은 커서입니다. 첫 페이지는 생략합니다.
+     * @param size        한 번에 조회할 항목 수입니다. 기본값은 10개입니다.
+     * @param sortBy      정렬 기준이 되는 필드명입니다. 기본값은 `id`입니다.
+     * @param isAsc       오름차순 정렬 여부를 나타냅니다. 기본값은 false입니다.
+     * @param withCount   폴더의 전체 상품 수를 함께 조회할지 여부입니다. 기본값은 false입니다.
+     * @param userDetails 현재 인증된 사용자 정보입니다.
+     * @return CursorResponseDto<ProductResponseDto> 조회된 상품 목록과 다음 커서입니다.
+     */
+    @GetMapping("/folders/{folderId}/products/scroll")
+    public CursorResponseDto<ProductResponseDto> scrollProductsInFolder(
+        @PathVariable Long folderId, // URL 경로에서 폴더 ID를 추출합니다.
+        @RequestParam(required = false) String cursor, // 이전 응답에서 받은 커서를 추출합니다.
+        @RequestParam(defaultValue = "10") int size, // 한 번에 조회할 항목 수를 추출합니다.
+        @RequestParam(defaultValue = "id") String sortBy, // 정렬 기준 필드명을 추출합니다.
+        @RequestParam(defaultValue = "false") boolean isAsc, // 오름차순 정렬 여부를 추출합니다.
+        @RequestParam(defaultValue = "false") boolean withCount, // 폴더의 전체 상품 수 조회 여부를 추출합니다.
+        @AuthenticationPrincipal UserDetailsImpl userDetails // 현재 인증된 사용자의 정보입니다.
+    ) {
+        return productService.scrollProductsInFolder(folderId, cursor, size, sortBy, isAsc, withCount,
+            userDetails.getUser());
+    }
+
+    /**
+     * ✅ 사용자가 조회하는 상품 목록의 약한 ETag를 반환합니다.
+     *
+     *    ➡️ 관리자는 모든 상품을 조회하므로 전체 상품 목록의 버전을, 일반 사용자는 자신의 상품 목록 버전을 사용합니다.
+     */
+    private String productsEtag(User user) {
+        Long userId = user.getRole() == UserRoleEnum.ADMIN ? null : user.getId();
+        return userVersionTracker.weakEtag(Scope.PRODUCTS, userId);
+    }
+
+    /**
+     * ✅ 브라우저가 매번 ETag로 재검증하도록 설정한 200 응답을 만듭니다.
+     */
+    private static <T> ResponseEntity<T> revalidated(String etag, T body) {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .eTag(etag)
+            .body(body);
     }
-}
\ No newline at end of file
+}
@@ -1,26 +1,35 @@
 package com.sparta.myselectshop.controller;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sparta.myselectshop.cache.FolderFragmentCache;
+import com.sparta.myselectshop.cache.UserVersionTracker;
+import com.sparta.myselectshop.cache.UserVersionTracker.Scope;
+import com.sparta.myselectshop.entity.User;
 import com.sparta.myselectshop.jwt.JwtUtil;
 import com.sparta.myselectshop.service.KakaoService;
-import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.ui.Model;
 import com.sparta.myselectshop.dto.SignupRequestDto;
 import com.sparta.myselectshop.dto.UserInfoDto;
 import com.sparta.myselectshop.entity.UserRoleEnum;
 import com.sparta.myselectshop.security.UserDetailsImpl;
-import com.sparta.myselectshop.service.FolderService;
 import com.sparta.myselectshop.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * ✅ UserController 클래스는 사용자 관련 웹 요청을 처리하는 컨트롤러입니다.
@@ -34,8 +43,9 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
-    private final FolderService folderService;
     private final KakaoService kakaoService;
+    private final UserVersionTracker userVersionTracker;
+    private final FolderFragmentCache folderFragmentCache;
 
 
     /**
@@ -113,23 +123,31 @@ public class UserController {
     /**
      * ✅ 현재 인증된 사용자의 폴더 목록을 조회하고, 이를 뷰에 전달합니다.
      *
-     *    ➡️ 클라이언트의 요청에 대해 현재 인증된 사용자의 폴더 정보를 가져와서 `Model` 객체에 추가합니다.
-     *    ➡️ 반환되는 뷰는 "index" 템플릿의 `#fragment` 부분입니다. 이 부분은 Thymeleaf 템플릿에서 사용자 폴더 목록을 표시하는 데 사용됩니다.
+     *    ➡️ 반환되는 HTML은 "index" 템플릿의 `#fragment` 부분입니다. 이 부분은 Thymeleaf 템플릿에서 사용자 폴더 목록을 표시하는 데 사용됩니다.
+     *    ➡️ 렌더링 결과는 폴더 목록의 버전별로 캐시되며, 응답에는 버전으로 만든 ETag가 포함됩니다.
+     *    ➡️ 요청의 `If-None-Match`가 현재 ETag와 같으면 데이터베이스 조회와 렌더링 없이 304(Not Modified)를 반환합니다.
      *
-     * @param model Spring MVC의 `Model` 객체로, 뷰에 데이터를 전달하는 데 사용됩니다.
-     *              여기서는 사용자 폴더 목록을 "folders"라는 이름으로 모델에 추가합니다.
      * @param userDetails 현재 인증된 사용자의 상세 정보가 담긴 `UserDetailsImpl` 객체입니다.
      *                    이 객체를 통해 인증된 사용자의 정보를 가져오고, 폴더 목록을 조회하는 데 사용됩니다.
-     * @return "index :: #fragment" 문자열은 Thymeleaf 템플릿의 특정 부분을 반환합니다.
-     *         이 문자열은 `index.html` 템플릿의 `#fragment` 부분을 렌더링하여 사용자 폴더 목록을 표시합니다.
+     * @param webRequest `If-None-Match` 헤더를 확인하기 위한 요청 객체입니다.
+     * @return `index.html` 템플릿의 `#fragment` 부분을 렌더링한 HTML입니다. 변경이 없으면 본문 없이 304를 반환합니다.
      */
     @GetMapping("/user-folder")
-    public String getUserInfo(Model model, @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        // 현재 인증된 사용자의 폴더 목록을 조회하여 모델에 추가합니다.
-        model.addAttribute("folders", folderService.getFolders(userDetails.getUser()));
+    public ResponseEntity<String> getUserInfo(@AuthenticationPrincipal UserDetailsImpl userDetails, WebRequest webRequest) {
+        User user = userDetails.getUser();
 
-        // "index" 템플릿의 "#fragment" 부분을 반환합니다.
-        return "index :: #fragment";
+        // 폴더 목록이 바뀌지 않았다면 304(Not Modified)로 응답합니다.
+        String etag = userVersionTracker.etag(Scope.FOLDERS, user.getId());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        // "index" 템플릿의 "#fragment" 부분을 (캐시에서) 반환합니다.
+        return ResponseEntity.ok()
+            .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+            .cacheControl(CacheControl.noCache().cachePrivate()) // 브라우저가 매번 ETag로 재검증하도록 합니다.
+            .eTag(etag)
+            .body(folderFragmentCache.render(user));
     }
 
     /**
@@ -138,25 +156,34 @@ public class UserController {
      *    ➡️ 클라이언트가 카카오 로그인 성공 후 인가 코드를 전달하면, 이 코드를 사용하여
      *        카카오 인증 서버에서 액세스 토큰을 받고, 이를 통해 사용자를 인증한 후 JWT 토큰을 생성합니다.
      *    ➡️ 생성된 JWT 토큰은 쿠키로 만들어서 클라이언트에게 반환되며, 이후 요청에서 인증에 사용됩니다.
+     *    ➡️ 로그인은 `CompletableFuture`로 처리되므로, 카카오 응답을 기다리는 동안 요청 스레드를 반환합니다.
+     *    ➡️ 카카오 API 호출이 실패하거나 제한 시간을 넘기면, 오류 표시와 함께 로그인 페이지로 리다이렉트합니다.
      *
      * @param code 카카오 인증 서버로부터 받은 인가 코드입니다.
-     * @param response 클라이언트에게 응답을 보내기 위해 사용되는 `HttpServletResponse` 객체입니다.
-     *                 이 객체를 통해 JWT 토큰을 담은 쿠키를 클라이언트에게 전달합니다.
-     * @return 홈 페이지로 리다이렉트하는 문자열입니다.
-     * @throws JsonProcessingException JSON 처리 중 발생할 수 있는 예외입니다.
+     * @return 홈 페이지(실패 시 로그인 페이지)로 리다이렉트하는 응답으로 완료되는 CompletableFuture입니다.
      */
     @GetMapping("/user/kakao/callback")
-    public String kakaoLogin(@RequestParam String code, HttpServletResponse response) throws JsonProcessingException {
+    public CompletableFuture<ResponseEntity<Void>> kakaoLogin(@RequestParam String code) {
         // ✅ 카카오 서버로부터 받은 인가 코드를 Service로 전달하여 인증을 처리하고, JWT 토큰을 반환받습니다.
-        String token = kakaoService.kakaoLogin(code);
-
-        // ✅ 반환된 JWT 토큰을 쿠키로 생성합니다.
-        //    ➡️ 쿠키의 이름은 'Authorization'이며, 토큰의 'Bearer ' 부분을 제외한 값을 저장합니다.
-        Cookie cookie = new Cookie(JwtUtil.AUTHORIZATION_HEADER, token.substring(7));
-        cookie.setPath("/"); // 쿠키의 경로를 설정하여 모든 요청에서 쿠키가 전송되도록 합니다.
-        response.addCookie(cookie); // 쿠키를 HTTP 응답에 추가하여 클라이언트에게 전송합니다.
-
-        // ✅ 홈 페이지로 리다이렉트합니다.
-        return "redirect:/";
+        return kakaoService.kakaoLoginAsync(code)
+            .thenApply(token -> {
+                // ✅ 반환된 JWT 토큰을 쿠키로 생성합니다.
+                //    ➡️ 쿠키의 이름은 'Authorization'이며, 토큰의 'Bearer ' 부분을 제외한 값을 저장합니다.
+                ResponseCookie cookie = ResponseCookie.from(JwtUtil.AUTHORIZATION_HEADER, token.substring(7))
+                    .path("/") // 쿠키의 경로를 설정하여 모든 요청에서 쿠키가 전송되도록 합니다.
+                    .build();
+
+                // ✅ 홈 페이지로 리다이렉트합니다.
+                return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(URI.create("/"))
+                    .header(HttpHeaders.SET_COOKIE, cookie.toString())
+                    .<Void>build();
+            })
+            .exceptionally(e -> {
+                log.warn("카카오 로그인 실패: {}", e.toString());
+                return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(URI.create("/api/user/login-page?error"))
+                    .build();
+            });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,63 @@
+package com.sparta.myselectshop.dto;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * ✅ CursorResponseDto 클래스는 커서(keyset) 기반으로 페이지네이션된 목록을 클라이언트에게 전달하기 위한 데이터 전송 객체입니다.
+ *
+ *    ➡️ OFFSET과 전체 건수(COUNT) 조회 없이, 마지막으로 받은 항목 다음부터 이어서 조회할 수 있는 커서를 함께 반환합니다.
+ *
+ * @param <T> 목록에 담기는 항목의 타입입니다.
+ */
+@Getter
+public class CursorResponseDto<T> {
+
+    /**
+     * ✅ 이번 페이지에 포함된 항목 목록입니다.
+     */
+    private final List<T> content;
+
+    /**
+     * ✅ 다음 페이지를 요청할 때 전달할 커서입니다.
+     *
+     *    ➡️ 다음 페이지가 없으면 null입니다.
+     */
+    private final String nextCursor;
+
+    /**
+     * ✅ 다음 페이지가 존재하는지 여부입니다.
+     */
+    private final boolean hasNext;
+
+    /**
+     * ✅ 전체 항목 수입니다.
+     *
+     *    ➡️ 클라이언트가 요청한 경우에만 채워지며, 요청하지 않으면 COUNT 조회를 생략하고 null을 반환합니다.
+     */
+    private final Long totalElements;
+
+    /**
+     * ✅ 항목 목록과 다음 커서로 CursorResponseDto를 생성합니다.
+     *
+     * @param content 이번 페이지에 포함된 항목 목록입니다.
+     * @param nextCursor 다음 페이지를 요청할 때 전달할 커서입니다. 다음 페이지가 없으면 null입니다.
+     */
+    public CursorResponseDto(List<T> content, String nextCursor) {
+        this(content, nextCursor, null);
+    }
+
+    /**
+     * ✅ 항목 목록, 다음 커서, 전체 항목 수로 CursorResponseDto를 생성합니다.
+     *
+     * @param content 이번 페이지에 포함된 항목 목록입니다.
+     * @param nextCursor 다음 페이지를 요청할 때 전달할 커서입니다. 다음 페이지가 없으면 null입니다.
+     * @param totalElements 전체 항목 수입니다. 조회하지 않은 경우 null입니다.
+     */
+    public CursorResponseDto(List<T> content, String nextCursor, Long totalElements) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.totalElements = totalElements;
+    }
+}
@@ -0,0 +1,32 @@
+package com.sparta.myselectshop.dto;
+
+import com.sparta.myselectshop.entity.ProductPriceHistory;
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * ✅ PriceHistoryResponseDto 클래스는 상품 가격 추이의 한 지점을 클라이언트에게 전달하기 위한 데이터 전송 객체입니다.
+ */
+@Getter
+public class PriceHistoryResponseDto {
+
+    /**
+     * ✅ 가격이 기록된 시각입니다.
+     */
+    private LocalDateTime recordedAt;
+
+    /**
+     * ✅ 해당 시각의 최저가입니다.
+     */
+    private int lprice;
+
+    /**
+     * ✅ ProductPriceHistory 엔티티 객체를 기반으로 PriceHistoryResponseDto를 생성합니다.
+     *
+     * @param history 가격 이력 엔티티 객체입니다.
+     */
+    public PriceHistoryResponseDto(ProductPriceHistory history) {
+        this.recordedAt = history.getRecordedAt(); // 엔티티의 기록 시각을 설정합니다.
+        this.lprice = history.getLprice(); // 엔티티의 최저가를 설정합니다.
+    }
+}
@@ -0,0 +1,37 @@
+package com.sparta.myselectshop.dto;
+
+import lombok.Getter;
+
+/**
+ * ✅ ProductExportRowDto 클래스는 상품 내보내기 조회 결과의 한 행을 담는 데이터 전송 객체입니다.
+ *
+ *    ➡️ 상품과 상품이 속한 폴더를 조인한 결과이므로, 폴더가 여러 개인 상품은 폴더 수만큼 행이 생성됩니다.
+ *    ➡️ 폴더가 없는 상품은 folderId와 folderName이 null인 한 행으로 조회됩니다.
+ */
+@Getter
+public class ProductExportRowDto {
+
+    private final Long id; // 상품 ID
+    private final String title; // 상품명
+    private final String link; // 상품 링크 URL
+    private final String image; // 상품 이미지 URL
+    private final int lprice; // 최저가
+    private final int myprice; // 희망가
+    private final Long folderId; // 상품이 속한 폴더 ID (없으면 null)
+    private final String folderName; // 상품이 속한 폴더 이름 (없으면 null)
+
+    /**
+     * ✅ JPQL 생성자 표현식(select new ...)에서 사용하는 생성자입니다.
+     */
+    public ProductExportRowDto(Long id, String title, String link, String image, int lprice, int myprice,
+        Long folderId, String folderName) {
+        this.id = id;
+        this.title = title;
+        this.link = link;
+        this.image = image;
+        this.lprice = lprice;
+        this.myprice = myprice;
+        this.folderId = folderId;
+        this.folderName = folderName;
+    }
+}
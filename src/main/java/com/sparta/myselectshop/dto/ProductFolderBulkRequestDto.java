@@ -0,0 +1,25 @@
+package com.sparta.myselectshop.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * ✅ ProductFolderBulkRequestDto 클래스는 여러 상품을 여러 폴더에 한 번에 추가하는 요청 정보를 담기 위한 데이터 전송 객체입니다.
+ *
+ *    ➡️ 주어진 모든 상품이 주어진 모든 폴더에 추가됩니다. (상품 N개 x 폴더 M개)
+ */
+@Getter
+@NoArgsConstructor
+public class ProductFolderBulkRequestDto {
+
+    /**
+     * ✅ 폴더에 추가할 상품 ID 목록입니다.
+     */
+    private List<Long> productIds;
+
+    /**
+     * ✅ 상품을 추가할 폴더 ID 목록입니다.
+     */
+    private List<Long> folderIds;
+}
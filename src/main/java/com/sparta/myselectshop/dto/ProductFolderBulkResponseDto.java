@@ -0,0 +1,38 @@
+package com.sparta.myselectshop.dto;
+
+import lombok.Getter;
+
+/**
+ * ✅ ProductFolderBulkResponseDto 클래스는 상품-폴더 일괄 처리 결과를 클라이언트에게 전달하기 위한 데이터 전송 객체입니다.
+ */
+@Getter
+public class ProductFolderBulkResponseDto {
+
+    /**
+     * ✅ 새로 추가된 (상품, 폴더) 연결 수입니다.
+     */
+    private final int added;
+
+    /**
+     * ✅ 이미 연결되어 있어 건너뛴 (상품, 폴더) 연결 수입니다.
+     */
+    private final int skipped;
+
+    /**
+     * ✅ 폴더에서 제거된 (상품, 폴더) 연결 수입니다. (폴더 이동 시에만 사용됩니다.)
+     */
+    private final int removed;
+
+    /**
+     * ✅ 처리 결과로 ProductFolderBulkResponseDto를 생성합니다.
+     *
+     * @param added 새로 추가된 연결 수입니다.
+     * @param skipped 이미 연결되어 있어 건너뛴 연결 수입니다.
+     * @param removed 폴더에서 제거된 연결 수입니다.
+     */
+    public ProductFolderBulkResponseDto(int added, int skipped, int removed) {
+        this.added = added;
+        this.skipped = skipped;
+        this.removed = removed;
+    }
+}
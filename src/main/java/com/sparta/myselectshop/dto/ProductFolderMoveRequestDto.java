@@ -0,0 +1,28 @@
+package com.sparta.myselectshop.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * ✅ ProductFolderMoveRequestDto 클래스는 여러 상품을 한 폴더에서 다른 폴더로 옮기는 요청 정보를 담기 위한 데이터 전송 객체입니다.
+ */
+@Getter
+@NoArgsConstructor
+public class ProductFolderMoveRequestDto {
+
+    /**
+     * ✅ 옮길 상품 ID 목록입니다.
+     */
+    private List<Long> productIds;
+
+    /**
+     * ✅ 상품을 뺄 폴더 ID입니다.
+     */
+    private Long fromFolderId;
+
+    /**
+     * ✅ 상품을 넣을 폴더 ID입니다.
+     */
+    private Long toFolderId;
+}
@@ -0,0 +1,45 @@
+package com.sparta.myselectshop.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ✅ SqlStatsResponseDto 클래스는 관리자에게 SQL 실행 통계를 전달하기 위한 데이터 전송 객체입니다.
+ *
+ *    ➡️ 전체 실행 횟수와 엔티티 로딩, 2차 캐시 적중 등 Hibernate 통계 요약과,
+ *       실행 시간이 긴 쿼리 목록, N+1로 의심된 SQL 문 목록을 담습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class SqlStatsResponseDto {
+
+    private long statementCount; // 실행된 SQL 문 수
+    private long queryExecutionCount; // 실행된 JPQL/네이티브 쿼리 수
+    private long queryExecutionMaxTime; // 가장 오래 걸린 쿼리의 실행 시간(ms)
+    private String queryExecutionMaxTimeQueryString; // 가장 오래 걸린 쿼리
+    private long entityLoadCount; // 로딩된 엔티티 수
+    private long entityFetchCount; // 지연 로딩 등으로 따로 조회된 엔티티 수
+    private long collectionFetchCount; // 따로 조회된 컬렉션 수
+    private long transactionCount; // 트랜잭션 수
+    private long secondLevelCacheHitCount; // 2차 캐시 적중 수
+    private long secondLevelCacheMissCount; // 2차 캐시 누락 수
+    private List<QueryTiming> slowestQueries; // 총 실행 시간이 긴 쿼리 목록
+    private Map<String, Long> nPlusOneSuspects; // N+1로 의심된 SQL 문 -> 의심된 요청 수
+
+    /**
+     * ✅ 쿼리 하나의 실행 시간 통계입니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class QueryTiming {
+
+        private String query; // JPQL 또는 네이티브 쿼리
+        private long executionCount; // 실행 횟수
+        private long executionTotalTime; // 총 실행 시간(ms)
+        private long executionAvgTime; // 평균 실행 시간(ms)
+        private long executionMaxTime; // 최대 실행 시간(ms)
+        private long executionRowCount; // 조회된 행 수
+    }
+}
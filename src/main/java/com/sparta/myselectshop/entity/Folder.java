@@ -1,28 +1,48 @@
 package com.sparta.myselectshop.entity;
 
+import com.sparta.myselectshop.config.HibernateCacheConfig;
 import jakarta.persistence.*;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * ✅ Folder 엔티티 클래스는 사용자의 폴더 정보를 나타냅니다.
  *
  *    ➡️ 각 폴더는 사용자의 소속 폴더를 표현하며, 데이터베이스에 저장됩니다.
+ *    ➡️ 상품-폴더 연결과 폴더 목록에서 자주 조회되고 거의 바뀌지 않으므로 2차 캐시에 저장됩니다.
  */
 @Entity // 이 클래스가 JPA 엔티티임을 나타냅니다.
 @Getter
 @Setter
 @NoArgsConstructor // Lombok 어노테이션으로 기본 생성자를 자동으로 생성합니다.
-@Table(name = "folder") // 데이터베이스 테이블 이름을 "folder"로 설정합니다.
+@Cacheable // 2차 캐시에 저장합니다.
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.FOLDER_REGION) // 변경되면 캐시 항목을 잠근 뒤 커밋 시 갱신합니다.
+@Table(
+    name = "folder", // 데이터베이스 테이블 이름을 "folder"로 설정합니다.
+    indexes = @Index(name = "idx_folder_user_id", columnList = "user_id, id"), // 소유자 확인을 인덱스만으로 처리합니다.
+    // 한 사용자가 대소문자/공백만 다른 같은 이름의 폴더를 두 개 만들지 않도록 데이터베이스에서 보장합니다. (동시 요청에도 안전합니다.)
+    uniqueConstraints = @UniqueConstraint(name = "uk_folder_user_normalized_name", columnNames = {"user_id", "normalized_name"})
+)
 public class Folder {
 
+    public static final int ID_ALLOCATION_SIZE = 50; // 시퀀스에서 한 번에 할당받는 ID 수 (JDBC 배치 크기와 같습니다.)
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+", Pattern.UNICODE_CHARACTER_CLASS); // 연속된 공백
+
     /**
      * ✅ 폴더의 고유 ID입니다.
      *    ➡️ 데이터베이스에서 자동으로 생성되는 기본 키입니다.
+     *    ➡️ 여러 폴더를 한 번에 추가할 때 JDBC 배치 insert를 사용할 수 있도록, 시퀀스 전략으로 ID를 미리 할당받습니다.
+     *       기존 AUTO_INCREMENT로 생성된 ID와 겹치지 않도록, 시작 시 IdSequenceAligner가 시퀀스 값을 맞춥니다.
      */
     @Id // 이 필드가 엔티티의 기본 키임을 나타냅니다.
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // 기본 키 생성 전략을 데이터베이스의 자동 증가로 설정합니다.
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "folder_seq")
+    @SequenceGenerator(name = "folder_seq", sequenceName = "folder_seq", allocationSize = Folder.ID_ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -33,6 +53,15 @@ public class Folder {
     @Column(nullable = false) // 데이터베이스 컬럼으로 매핑되며, 빈 값을 허용하지 않습니다.
     private String name;
 
+    /**
+     * ✅ 중복 확인에 사용하는 정규화된 폴더 이름입니다.
+     *
+     *    ➡️ `name`이 바뀔 때마다 저장 직전에 다시 계산됩니다.
+     *    ➡️ 이 컬럼이 추가되기 전에 생성된 폴더는 값이 없을 수 있으므로 null을 허용하며, 시작 시 FolderNameBackfill이 채웁니다.
+     */
+    @Column(name = "normalized_name")
+    private String normalizedName;
+
     /**
      * ✅ 폴더에 소속된 사용자입니다.
      *
@@ -53,5 +82,34 @@ public class Folder {
     public Folder(String name, User user) {
         this.name = name;
         this.user = user;
+        refreshNormalizedName();
+    }
+
+    /**
+     * ✅ 현재 폴더 이름으로 `normalizedName` 값을 다시 계산합니다.
+     *
+     *    ➡️ 저장 및 수정 직전에도 호출되므로, setter로 이름을 직접 바꾼 경우에도 값이 어긋나지 않습니다.
+     */
+    @PrePersist
+    @PreUpdate
+    public void refreshNormalizedName() {
+        this.normalizedName = normalize(this.name);
+    }
+
+    /**
+     * ✅ 중복 확인을 위해 폴더 이름을 정규화합니다.
+     *
+     *    ➡️ 유니코드를 NFC로 합치고(조합형/완성형 한글을 같게 봅니다), 앞뒤 공백을 제거하며,
+     *       연속된 공백을 하나로 줄이고, 소문자로 바꿉니다.
+     *
+     * @param name 정규화할 폴더 이름입니다.
+     * @return 정규화된 폴더 이름. `name`이 null이면 null을 반환합니다.
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return null;
+        }
+        String stripped = Normalizer.normalize(name, Normalizer.Form.NFC).strip();
+        return WHITESPACE.matcher(stripped).replaceAll(" ").toLowerCase(Locale.ROOT);
     }
 }
\ No newline at end of file
@@ -18,17 +18,34 @@ import lombok.Setter;
 @Entity // JPA 엔티티로 선언, 데이터베이스 테이블과 매핑됩니다.
 @Getter
 @Setter
-@Table(name = "product") // 이 엔티티가 매핑될 테이블의 이름을 지정합니다.
+@Table(
+    name = "product", // 이 엔티티가 매핑될 테이블의 이름을 지정합니다.
+    indexes = {
+        @Index(name = "idx_product_user_reached_id", columnList = "user_id, price_reached, id"),
+        // 정렬 기준별 복합 인덱스입니다. (ProductSortKey와 짝을 이룹니다.)
+        @Index(name = "idx_product_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_product_user_title_id", columnList = "user_id, title, id"),
+        @Index(name = "idx_product_user_lprice_id", columnList = "user_id, lprice, id"),
+        @Index(name = "idx_product_user_myprice_id", columnList = "user_id, myprice, id"),
+        @Index(name = "idx_product_user_created_at_id", columnList = "user_id, created_at, id")
+    }
+)
 @NoArgsConstructor // Lombok 어노테이션으로 기본 생성자를 자동으로 생성합니다.
 public class Product extends Timestamped {
 
+    public static final int ID_ALLOCATION_SIZE = 50; // 시퀀스에서 한 번에 할당받는 ID 수 (JDBC 배치 크기와 같습니다.)
+
     /**
      * ✅ 상품의 고유 ID입니다.
      *
      *    ➡️ 데이터베이스에서 자동으로 생성되는 기본 키입니다.
+     *    ➡️ IDENTITY 전략은 Hibernate의 JDBC 배치 insert를 비활성화하므로, 대량 등록을 위해
+     *       pooled 옵티마이저를 사용하는 시퀀스 전략으로 ID를 미리 할당받습니다.
+     *    ➡️ 기존 AUTO_INCREMENT로 생성된 ID와 겹치지 않도록, 시작 시 IdSequenceAligner가 시퀀스 값을 맞춥니다.
      */
     @Id // 이 필드가 엔티티의 기본 키임을 나타냅니다.
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // 기본 키 생성 전략을 지정합니다. 데이터베이스에서 자동으로 값을 생성합니다.
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = Product.ID_ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -71,6 +88,25 @@ public class Product extends Timestamped {
     @Column(nullable = false)
     private int myprice;
 
+    /**
+     * ✅ 최저가가 사용자가 설정한 가격 이하로 내려갔는지 여부입니다.
+     *
+     *    ➡️ `lprice <= myprice` 조건을 매번 계산하지 않고 (user_id, price_reached, id) 인덱스로 바로 찾을 수 있도록,
+     *       가격이 바뀔 때마다 함께 갱신되는 컬럼입니다.
+     *    ➡️ 희망가를 설정하지 않은 상품(0원)은 항상 `false`입니다.
+     */
+    @Column(name = "price_reached", nullable = false)
+    private boolean priceReached;
+
+    /**
+     * ✅ 마지막으로 가격 하락 알림을 보낸 최저가입니다.
+     *
+     *    ➡️ 0이면 아직 알림을 보내지 않았거나, 최저가가 희망가 위로 올라가 알림 기록이 지워진 상태입니다.
+     *    ➡️ 중복 알림 기록을 상품과 함께 저장하므로, 애플리케이션을 재시작해도 같은 가격으로 다시 알림을 보내지 않습니다.
+     */
+    @Column(name = "alerted_price", nullable = false)
+    private int alertedPrice;
+
     /**
      * ✅ 이 상품을 등록한 사용자 정보입니다.
      *
@@ -102,6 +138,7 @@ public class Product extends Timestamped {
         this.link = requestDto.getLink(); // DTO에서 링크 URL을 가져와 설정합니다.
         this.lprice = requestDto.getLprice(); // DTO에서 최저가를 가져와 설정합니다.
         this.user = user; // 상품을 등록한 사용자 정보를 설정합니다.
+        refreshPriceReached();
     }
 
     /**
@@ -113,16 +150,53 @@ public class Product extends Timestamped {
      */
     public void update(ProductMypriceRequestDto requestDto) {
         this.myprice = requestDto.getMyprice(); // DTO에서 설정된 가격을 가져와 `myprice` 필드를 업데이트합니다.
+        refreshPriceReached();
     }
 
     /**
      * ✅ ItemDto를 사용하여 현재 객체의 lprice 값을 업데이트합니다.
      *
      *    ➡️ 주어진 ItemDto에서 가격 정보를 가져와서 현재 객체의 lprice 필드를 업데이트합니다.
+     *    ➡️ 가격 이력 기록 여부를 판단할 수 있도록, 최저가가 실제로 변경되었는지를 반환합니다.
      *
      * @param itemDto 업데이트에 사용할 가격 정보가 포함된 ItemDto 객체입니다.
+     * @return 최저가가 변경되었으면 `true`, 이전과 같으면 `false`를 반환합니다.
      */
-    public void updateByItemDto(ItemDto itemDto) {
+    public boolean updateByItemDto(ItemDto itemDto) {
+        boolean changed = this.lprice != itemDto.getLprice(); // 기존 최저가와 비교합니다.
         this.lprice = itemDto.getLprice(); // ItemDto에서 최저가를 가져와 `lprice` 필드를 업데이트합니다.
+        refreshPriceReached();
+        return changed;
+    }
+
+    /**
+     * ✅ 현재 최저가로 가격 하락 알림을 보내야 하는지 확인하고, 보내야 하면 알림 기록을 남깁니다.
+     *
+     *    ➡️ 최저가가 희망가 이하이고, 마지막으로 알림을 보낸 가격보다 낮거나 알림 기록이 없는 경우에만 알림 대상입니다.
+     *    ➡️ 최저가가 희망가 위로 올라가면 기록이 지워지므로, 다시 내려가면 이전과 같은 가격이어도 알림을 보냅니다.
+     *
+     * @return 가격 하락 알림을 보내야 하면 `true`를 반환합니다.
+     */
+    public boolean markPriceAlert() {
+        if (!this.priceReached || (this.alertedPrice > 0 && this.lprice >= this.alertedPrice)) {
+            return false;
+        }
+        this.alertedPrice = this.lprice;
+        return true;
+    }
+
+    /**
+     * ✅ 현재 최저가와 희망가를 기준으로 `priceReached` 값을 다시 계산합니다.
+     *
+     *    ➡️ 저장 및 수정 직전에도 호출되므로, setter로 가격을 직접 바꾼 경우에도 값이 어긋나지 않습니다.
+     *    ➡️ 최저가가 희망가 위에 있으면 가격 하락 알림 기록도 지웁니다.
+     */
+    @PrePersist
+    @PreUpdate
+    public void refreshPriceReached() {
+        this.priceReached = this.myprice > 0 && this.lprice <= this.myprice;
+        if (!this.priceReached) {
+            this.alertedPrice = 0;
+        }
     }
 }
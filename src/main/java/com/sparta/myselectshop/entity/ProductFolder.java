@@ -14,7 +14,12 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor // Lombok 어노테이션으로 기본 생성자를 자동으로 생성합니다.
-@Table(name = "product_folder") // 데이터베이스 테이블 이름을 "product_folder"로 설정합니다.
+@Table(
+    name = "product_folder", // 데이터베이스 테이블 이름을 "product_folder"로 설정합니다.
+    // 같은 상품이 같은 폴더에 두 번 추가되지 않도록 데이터베이스에서 보장합니다. (동시 요청에도 안전합니다.)
+    // 기존 중복 행 때문에 키가 만들어지지 않은 데이터베이스는 ProductFolderUniqueKeyBackfill이 정리합니다.
+    uniqueConstraints = @UniqueConstraint(name = "uk_product_folder_product_folder", columnNames = {"product_id", "folder_id"})
+)
 public class ProductFolder {
 
     /**
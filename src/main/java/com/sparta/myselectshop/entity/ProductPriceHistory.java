@@ -0,0 +1,66 @@
+package com.sparta.myselectshop.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ✅ ProductPriceHistory 엔티티 클래스는 상품 최저가(lprice)의 변경 이력을 나타냅니다.
+ *
+ *    ➡️ 최저가가 실제로 변경된 시점에만 한 건씩 추가(append-only)되므로, 변경이 없는 구간은 저장하지 않습니다.
+ *    ➡️ 수천만 건 규모를 고려하여 연관 엔티티 대신 상품 ID만 저장하고, (product_id, recorded_at) 인덱스로 조회합니다.
+ */
+@Entity // 이 클래스가 JPA 엔티티임을 나타냅니다.
+@Getter
+@NoArgsConstructor // Lombok 어노테이션으로 기본 생성자를 자동으로 생성합니다.
+@Table(
+    name = "product_price_history", // 데이터베이스 테이블 이름을 "product_price_history"로 설정합니다.
+    indexes = @Index(name = "idx_price_history_product_recorded", columnList = "product_id, recorded_at")
+)
+public class ProductPriceHistory {
+
+    /**
+     * ✅ 가격 이력의 고유 ID입니다.
+     *
+     *    ➡️ IDENTITY 전략은 Hibernate의 JDBC 배치 insert를 비활성화하므로,
+     *       pooled 옵티마이저를 사용하는 시퀀스 전략으로 ID를 미리 할당받습니다.
+     */
+    @Id // 이 필드가 엔티티의 기본 키임을 나타냅니다.
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_price_history_seq")
+    @SequenceGenerator(name = "product_price_history_seq", sequenceName = "product_price_history_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * ✅ 가격이 기록된 상품의 ID입니다.
+     *
+     *    ➡️ 이력 조회 시 상품 엔티티를 로딩하지 않도록 외래 키 값만 저장합니다.
+     */
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    /**
+     * ✅ 기록 시점의 최저가입니다.
+     */
+    @Column(nullable = false)
+    private int lprice;
+
+    /**
+     * ✅ 가격이 기록된 시각입니다.
+     */
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    /**
+     * ✅ 상품 ID, 최저가, 기록 시각으로 가격 이력을 생성합니다.
+     *
+     * @param productId  가격이 변경된 상품의 ID
+     * @param lprice     변경된 최저가
+     * @param recordedAt 가격이 기록된 시각
+     */
+    public ProductPriceHistory(Long productId, int lprice, LocalDateTime recordedAt) {
+        this.productId = productId;
+        this.lprice = lprice;
+        this.recordedAt = recordedAt;
+    }
+}
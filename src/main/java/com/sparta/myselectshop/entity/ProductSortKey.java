@@ -0,0 +1,97 @@
+package com.sparta.myselectshop.entity;
+
+/**
+ * ✅ ProductSortKey 열거형 클래스는 상품 목록에서 지원하는 정렬 기준을 정의합니다.
+ *
+ *    ➡️ 각 정렬 기준은 `(user_id, 정렬 컬럼, id)` 복합 인덱스와 짝을 이루며,
+ *      사용자별 상품 목록을 정렬할 때 filesort 없이 인덱스 순서대로 조회할 수 있도록 합니다.
+ *    ➡️ 여기에 정의되지 않은 정렬 기준은 허용하지 않습니다.
+ *      새 정렬 기준을 추가할 때는 Product 엔티티의 `@Table(indexes = ...)`에 같은 이름의 인덱스를 함께 추가해야 합니다.
+ */
+public enum ProductSortKey {
+
+    /**
+     * ✅ 상품 ID 기준 정렬입니다. (등록순)
+     */
+    ID("id", "id", "idx_product_user_id"),
+
+    /**
+     * ✅ 상품명 기준 정렬입니다.
+     */
+    TITLE("title", "title", "idx_product_user_title_id"),
+
+    /**
+     * ✅ 최저가 기준 정렬입니다.
+     */
+    LPRICE("lprice", "lprice", "idx_product_user_lprice_id"),
+
+    /**
+     * ✅ 희망가 기준 정렬입니다.
+     */
+    MYPRICE("myprice", "myprice", "idx_product_user_myprice_id"),
+
+    /**
+     * ✅ 등록 일시 기준 정렬입니다.
+     */
+    CREATED_AT("createdAt", "created_at", "idx_product_user_created_at_id");
+
+    private final String property; // 엔티티 필드명 (요청의 sortBy 값)
+    private final String column; // 데이터베이스 컬럼명
+    private final String indexName; // 정렬에 사용되는 복합 인덱스 이름
+
+    /**
+     * ✅ ProductSortKey의 생성자입니다.
+     *
+     * @param property 엔티티 필드명입니다.
+     * @param column 데이터베이스 컬럼명입니다.
+     * @param indexName 정렬에 사용되는 복합 인덱스 이름입니다.
+     */
+    ProductSortKey(String property, String column, String indexName) {
+        this.property = property;
+        this.column = column;
+        this.indexName = indexName;
+    }
+
+    /**
+     * ✅ 엔티티 필드명을 반환합니다.
+     *
+     * @return 정렬 조건(Sort)에 사용할 엔티티 필드명
+     */
+    public String getProperty() {
+        return this.property;
+    }
+
+    /**
+     * ✅ 데이터베이스 컬럼명을 반환합니다.
+     *
+     * @return 정렬 컬럼명
+     */
+    public String getColumn() {
+        return this.column;
+    }
+
+    /**
+     * ✅ 정렬에 사용되는 복합 인덱스 이름을 반환합니다.
+     *
+     * @return `(user_id, 정렬 컬럼, id)` 인덱스 이름
+     */
+    public String getIndexName() {
+        return this.indexName;
+    }
+
+    /**
+     * ✅ 요청의 sortBy 값에 해당하는 정렬 기준을 찾습니다.
+     *
+     * @param sortBy 정렬 기준이 되는 필드명입니다. (예: "id", "title", "lprice")
+     * @return 일치하는 정렬 기준
+     * @throws IllegalArgumentException 지원하지 않는 정렬 기준인 경우 발생하는 예외입니다.
+     */
+    public static ProductSortKey from(String sortBy) {
+        for (ProductSortKey key : values()) {
+            if (key.property.equals(sortBy)) {
+                return key;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다 : " + sortBy);
+    }
+}
@@ -1,20 +1,26 @@
 package com.sparta.myselectshop.entity;
 
+import com.sparta.myselectshop.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * ✅ User 클래스는 사용자 정보를 저장하는 엔티티(Entity)입니다.
  *
  *    ➡️ 이 클래스는 데이터베이스의 'users' 테이블과 매핑되며, 사용자 ID, 사용자명, 비밀번호, 이메일,
  *       역할(UserRoleEnum) 및 카카오 ID와 같은 필드를 포함하고 있습니다.
+ *    ➡️ 상품과 폴더의 소유자로 자주 조회되므로 2차 캐시에 저장됩니다.
  */
 @Entity // 이 클래스가 JPA 엔티티임을 나타냄
 @Getter
 @Setter
 @NoArgsConstructor // Lombok 어노테이션: 파라미터가 없는 기본 생성자 자동 생성
+@Cacheable // 2차 캐시에 저장합니다.
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.USER_REGION) // 변경되면 캐시 항목을 잠근 뒤 커밋 시 갱신합니다.
 @Table(name = "users") // 데이터베이스에서 'users' 테이블과 매핑
 public class User {
     @Id // 기본 키(primary key)로 설정
@@ -0,0 +1,115 @@
+package com.sparta.myselectshop.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ✅ RequestSqlStats 클래스는 하나의 HTTP 요청에서 실행된 SQL 문을 집계합니다.
+ *
+ *    ➡️ 요청을 처리하는 스레드에 묶여 있으며, `SqlStatisticsFilter`가 요청 시작 시 `begin`, 종료 시 `end`를 호출합니다.
+ *    ➡️ 같은 SQL 문(바인딩 파라미터는 `?`로 표시됨)이 몇 번 실행되었는지 세어 N+1 쿼리를 찾는 데 사용합니다.
+ *    ➡️ 요청 밖(스케줄러, 비동기 스레드 등)에서 실행된 SQL 문은 집계하지 않습니다.
+ *       요청 밖에서 특정 작업의 SQL 문만 세려면 `measure`로 감싸서 실행합니다. (다른 스레드의 SQL 문은 섞이지 않습니다.)
+ */
+public class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private final String requestUri; // 요청 URI (로그에 사용)
+    private final long startNanos = System.nanoTime(); // 요청 시작 시각
+    private final Map<String, Integer> countsBySql = new HashMap<>(); // SQL 문 -> 실행 횟수
+    private int statementCount; // 실행된 SQL 문 수
+
+    private RequestSqlStats(String requestUri) {
+        this.requestUri = requestUri;
+    }
+
+    /**
+     * ✅ 현재 스레드에서 요청별 집계를 시작합니다.
+     */
+    static RequestSqlStats begin(String requestUri) {
+        RequestSqlStats stats = new RequestSqlStats(requestUri);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * ✅ 현재 스레드의 요청별 집계를 끝냅니다.
+     */
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * ✅ 현재 스레드에서 진행 중인 요청의 집계를 반환합니다.
+     *
+     * @return 요청 밖에서 호출되면 `null`을 반환합니다.
+     */
+    static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * ✅ 현재 스레드에서 작업을 실행하고, 그동안 이 스레드가 실행한 SQL 문을 집계합니다.
+     *
+     *    ➡️ 이미 진행 중인 요청의 집계가 있으면, 작업이 끝난 뒤 그 집계로 되돌립니다. (작업의 SQL 문은 바깥 집계에 더해지지 않습니다.)
+     *
+     * @param label 집계를 구분하는 이름입니다. (로그의 요청 URI 자리에 표시됩니다.)
+     * @param task 실행할 작업입니다.
+     * @return 작업이 실행한 SQL 문의 집계입니다.
+     */
+    public static RequestSqlStats measure(String label, Runnable task) {
+        RequestSqlStats previous = CURRENT.get();
+        RequestSqlStats stats = begin(label);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                end();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * ✅ SQL 문 하나가 실행되었음을 기록합니다.
+     *
+     * @return 이 요청에서 같은 SQL 문이 실행된 횟수입니다.
+     */
+    int record(String sql) {
+        statementCount++;
+        return countsBySql.merge(sql, 1, Integer::sum);
+    }
+
+    public String getRequestUri() {
+        return requestUri;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    /**
+     * ✅ 이 요청에서 실행된 서로 다른 SQL 문의 수를 반환합니다.
+     */
+    public int getDistinctStatementCount() {
+        return countsBySql.size();
+    }
+
+    /**
+     * ✅ 이 요청에서 실행된 서로 다른 SQL 문을 반환합니다.
+     */
+    public Set<String> getStatements() {
+        return Set.copyOf(countsBySql.keySet());
+    }
+
+    /**
+     * ✅ 요청이 시작된 뒤 지난 시간(밀리초)을 반환합니다.
+     */
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,76 @@
+package com.sparta.myselectshop.monitoring;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ SqlStatementInspector 클래스는 Hibernate가 실행하는 모든 SQL 문을 관찰하여 요청별로 집계합니다.
+ *
+ *    ➡️ SQL 문을 바꾸지 않고 그대로 반환하며, 현재 요청의 `RequestSqlStats`에 실행 횟수만 기록합니다.
+ *    ➡️ 한 요청에서 같은 SQL 문이 기준 횟수 이상 실행되면 N+1 쿼리로 의심하여 요청당 한 번 경고 로그를 남기고,
+ *       관리자 통계에서 볼 수 있도록 의심 SQL 문별 발생 횟수를 보관합니다.
+ */
+@Slf4j(topic = "SqlStatementInspector")
+@Component // Spring의 컴포넌트로 등록됩니다.
+public class SqlStatementInspector implements StatementInspector {
+
+    private final int nPlusOneThreshold; // 같은 SQL 문이 이 횟수만큼 실행되면 N+1로 의심합니다.
+    private final LongAdder statementCount = new LongAdder(); // 애플리케이션 시작 이후 실행된 SQL 문 수
+    private final Cache<String, LongAdder> nPlusOneSuspects; // N+1로 의심되는 SQL 문 -> 발생한 요청 수
+
+    /**
+     * ✅ SqlStatementInspector의 생성자입니다.
+     *
+     * @param nPlusOneThreshold 한 요청에서 같은 SQL 문이 이 횟수만큼 실행되면 N+1로 의심합니다.
+     * @param maximumSuspects 보관할 N+1 의심 SQL 문의 최대 수입니다.
+     */
+    public SqlStatementInspector(@Value("${sql-stats.n-plus-one-threshold:10}") int nPlusOneThreshold,
+        @Value("${sql-stats.maximum-suspects:200}") long maximumSuspects) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.nPlusOneSuspects = Caffeine.newBuilder()
+            .maximumSize(maximumSuspects)
+            .build();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        statementCount.increment();
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null && stats.record(sql) == nPlusOneThreshold) { // 기준 횟수에 도달한 순간 한 번만 경고합니다.
+            nPlusOneSuspects.get(sql, key -> new LongAdder()).increment();
+            log.warn("N+1 쿼리가 의심됩니다. 요청: " + stats.getRequestUri()
+                + ", 같은 SQL 문 " + nPlusOneThreshold + "회 이상 실행: " + sql);
+        }
+        return sql; // SQL 문은 바꾸지 않습니다.
+    }
+
+    /**
+     * ✅ 애플리케이션 시작 이후 실행된 SQL 문 수를 반환합니다.
+     */
+    public long getStatementCount() {
+        return statementCount.sum();
+    }
+
+    /**
+     * ✅ N+1로 의심된 SQL 문과, 그 SQL 문이 의심된 요청 수를 반환합니다.
+     */
+    public Map<String, Long> getNPlusOneSuspects() {
+        return nPlusOneSuspects.asMap().entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum()));
+    }
+
+    /**
+     * ✅ 집계한 값을 초기화합니다.
+     */
+    public void clear() {
+        statementCount.reset();
+        nPlusOneSuspects.invalidateAll();
+    }
+}
@@ -0,0 +1,54 @@
+package com.sparta.myselectshop.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * ✅ SqlStatisticsFilter 클래스는 요청마다 실행된 SQL 문 수를 집계하는 필터입니다.
+ *
+ *    ➡️ 요청을 처리하는 동안 `RequestSqlStats`를 열어 두고, `SqlStatementInspector`가 실행된 SQL 문을 기록합니다.
+ *    ➡️ 한 요청에서 실행된 SQL 문이 기준 수를 넘으면 경고 로그를 남깁니다.
+ *    ➡️ 응답 헤더 옵션을 켜면(개발 환경) `X-Sql-Count`, `X-Sql-Distinct-Count`, `X-Request-Time-Ms` 헤더를 추가합니다.
+ *       헤더는 응답 본문보다 먼저 전송되어야 하므로, 이 옵션을 켜면 응답 본문을 모두 버퍼링한 뒤 전송합니다.
+ *
+ *    ➡️ `SqlStatisticsConfig`에서 등록하며, 컴포넌트 스캔으로는 등록되지 않습니다.
+ */
+@Slf4j(topic = "SqlStatisticsFilter")
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    private final int requestWarnThreshold; // 한 요청의 SQL 문 수가 이 값을 넘으면 경고합니다.
+    private final boolean responseHeaders; // 집계 결과를 응답 헤더로 노출할지 여부
+
+    public SqlStatisticsFilter(int requestWarnThreshold, boolean responseHeaders) {
+        this.requestWarnThreshold = requestWarnThreshold;
+        this.responseHeaders = responseHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.begin(request.getMethod() + " " + request.getRequestURI());
+        ContentCachingResponseWrapper wrapper = responseHeaders ? new ContentCachingResponseWrapper(response) : null;
+        try {
+            filterChain.doFilter(request, wrapper != null ? wrapper : response);
+        } finally {
+            RequestSqlStats.end();
+            if (stats.getStatementCount() > requestWarnThreshold) {
+                log.warn("요청 하나에서 SQL 문이 " + stats.getStatementCount() + "개 실행되었습니다. (서로 다른 SQL 문 "
+                    + stats.getDistinctStatementCount() + "개, " + stats.getElapsedMillis() + "ms) 요청: " + stats.getRequestUri());
+            }
+            if (wrapper != null) {
+                wrapper.setHeader("X-Sql-Count", String.valueOf(stats.getStatementCount()));
+                wrapper.setHeader("X-Sql-Distinct-Count", String.valueOf(stats.getDistinctStatementCount()));
+                wrapper.setHeader("X-Request-Time-Ms", String.valueOf(stats.getElapsedMillis()));
+                wrapper.copyBodyToResponse(); // 버퍼링한 본문을 헤더와 함께 전송합니다.
+            }
+        }
+    }
+}
@@ -31,4 +31,36 @@ public class ItemDto {
         this.image = itemJson.getString("image");   // JSON 객체에서 이미지 URL을 가져와 설정
         this.lprice = itemJson.getInt("lprice");     // JSON 객체에서 최저가를 가져와 설정
     }
+
+    /**
+     * ✅ 제목, 링크, 이미지 URL, 최저가를 하나의 64비트 값으로 요약한 지문(fingerprint)을 반환합니다.
+     *
+     *    ➡️ 가격 갱신 시 이전에 반영한 아이템 정보와 같은지 엔티티를 로딩하지 않고 비교하는 데 사용됩니다.
+     *
+     * @return 아이템 정보의 64비트 해시 값
+     */
+    public long fingerprint() {
+        long hash = 1125899906842597L; // 64비트 해시의 초기값
+        hash = mix(hash, title);
+        hash = mix(hash, link);
+        hash = mix(hash, image);
+        return 31 * hash + lprice;
+    }
+
+    /**
+     * ✅ 문자열의 각 문자를 해시 값에 누적합니다.
+     *
+     * @param hash 누적 중인 해시 값
+     * @param value 누적할 문자열 (null 허용)
+     * @return 누적된 해시 값
+     */
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return 31 * hash;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash = 31 * hash + value.charAt(i);
+        }
+        return 31 * hash + value.length(); // 필드 경계를 구분하기 위해 길이를 함께 누적합니다.
+    }
 }
\ No newline at end of file
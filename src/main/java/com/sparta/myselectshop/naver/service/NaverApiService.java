@@ -33,6 +33,9 @@ public class NaverApiService {
     @Value("${naver.api.client-secret}")
     private String clientSecret; // 네이버 API 클라이언트 시크릿
 
+    @Value("${naver.api.base-url:https://openapi.naver.com}")
+    private String baseUrl; // 네이버 API 서버 주소 (부하 테스트 시 스텁 서버 주소로 바꿉니다.)
+
     /**
      * ✅ NaverApiService의 생성자입니다.
      *
@@ -55,7 +58,7 @@ public class NaverApiService {
     public List<ItemDto> searchItems(String query) {
         // 요청 URL 만들기
         URI uri = UriComponentsBuilder
-            .fromUriString("https://openapi.naver.com")
+            .fromUriString(baseUrl)
             .path("/v1/search/shop.json")
             .queryParam("display", 15) // 최대 15개의 결과를 요청
             .queryParam("query", query) // 검색 쿼리
@@ -1,9 +1,16 @@
 package com.sparta.myselectshop.repository;
 
+import com.sparta.myselectshop.config.HibernateCacheConfig;
 import com.sparta.myselectshop.entity.Folder;
 import com.sparta.myselectshop.entity.User;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 /**
  * ✅ FolderRepository는 `Folder` 엔티티에 대한 데이터베이스 작업을 처리하는 JPA 리포지토리입니다.
@@ -16,17 +23,51 @@ public interface FolderRepository extends JpaRepository<Folder, Long> {
     /**
      * ✅ 주어진 사용자와 관련된 모든 폴더를 조회합니다.
      *
+     *    ➡️ 쿼리 결과(폴더 ID 목록)는 쿼리 캐시에, 폴더는 2차 캐시에 저장되므로 반복 조회 시 데이터베이스를 조회하지 않습니다.
+     *       폴더 테이블이 변경되면 Hibernate가 쿼리 캐시를 자동으로 무효화합니다.
+     *
      * @param user 폴더를 조회할 사용자 객체입니다.
      * @return 사용자가 소유한 폴더의 리스트입니다.
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.USER_FOLDERS_QUERY_REGION)
+    })
     List<Folder> findAllByUser(User user);
 
     /**
-     * ✅ 주어진 사용자와 폴더 이름 목록을 기준으로 폴더를 조회합니다.
+     * ✅ 사용자가 소유한 폴더 중에서 주어진 정규화된 이름과 일치하는 이름만 조회합니다.
+     *
+     *    ➡️ `(user_id, normalized_name)` 유니크 인덱스만으로 처리하며, 폴더 엔티티는 로딩하지 않습니다.
      *
      * @param user 사용자를 기준으로 폴더를 조회합니다.
-     * @param folderNames 조회할 폴더 이름의 리스트입니다.
-     * @return 사용자가 소유한 폴더 중에서 주어진 이름 목록과 일치하는 폴더의 리스트입니다.
+     * @param normalizedNames 조회할 정규화된 폴더 이름 목록입니다.
+     * @return 이미 존재하는 정규화된 폴더 이름 목록입니다.
+     */
+    @Query("select f.normalizedName from Folder f where f.user = :user and f.normalizedName in :normalizedNames")
+    List<String> findNormalizedNamesByUserAndNormalizedNameIn(@Param("user") User user,
+        @Param("normalizedNames") Collection<String> normalizedNames);
+
+    /**
+     * ✅ 주어진 ID의 폴더가 특정 사용자의 소유인지 확인합니다.
+     *
+     *    ➡️ 폴더와 사용자 엔티티를 로딩하지 않고 `SELECT id ... LIMIT 1`만 실행하며,
+     *       `(user_id, id)` 인덱스만으로 판단할 수 있는 커버링 인덱스 조회입니다.
+     *
+     * @param id 확인할 폴더 ID입니다.
+     * @param userId 소유자 ID입니다.
+     * @return 폴더가 존재하고 해당 사용자의 소유이면 `true`를 반환합니다.
+     */
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    /**
+     * ✅ 주어진 폴더 ID 중에서 특정 사용자가 소유한 폴더 수를 조회합니다.
+     *
+     *    ➡️ 폴더 엔티티와 사용자 엔티티를 로딩하지 않고, 한 번의 COUNT 쿼리로 소유 여부를 확인하는 데 사용합니다.
+     *
+     * @param ids 확인할 폴더 ID 목록입니다.
+     * @param userId 소유자 ID입니다.
+     * @return 주어진 사용자가 소유한 폴더 수
      */
-    List<Folder> findAllByUserAndNameIn(User user, List<String> folderNames);
+    long countByIdInAndUserId(Collection<Long> ids, Long userId);
 }
@@ -0,0 +1,53 @@
+package com.sparta.myselectshop.repository;
+
+import java.sql.Statement;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * ✅ ProductFolderBatchRepository는 상품-폴더 연결을 JDBC 배치로 한 번에 저장하는 리포지토리입니다.
+ *
+ *    ➡️ `ProductFolder`는 IDENTITY 전략으로 ID를 생성하므로 Hibernate의 배치 insert를 사용할 수 없고,
+ *       연결 하나마다 상품과 폴더 엔티티를 로딩할 필요도 없으므로 ID 값만으로 직접 insert합니다.
+ *    ➡️ JPA 트랜잭션과 같은 커넥션을 사용하므로, 서비스의 트랜잭션에 함께 참여합니다.
+ */
+@Repository // Spring의 리포지토리 컴포넌트로 등록됩니다.
+@RequiredArgsConstructor // final 필드를 생성자 주입 방식으로 초기화합니다.
+public class ProductFolderBatchRepository {
+
+    private static final int BATCH_SIZE = 500; // 한 번에 전송할 insert 수
+
+    private final JdbcTemplate jdbcTemplate; // 배치 insert를 실행하는 JdbcTemplate
+
+    /**
+     * ✅ (상품 ID, 폴더 ID) 쌍을 배치로 저장합니다.
+     *
+     *    ➡️ 중복 확인 이후 동시에 같은 연결이 저장된 경우에도 실패하지 않도록, 유니크 제약 조건에 걸리는 행은 무시합니다.
+     *    ➡️ 무시된 행은 저장된 것으로 세지 않도록, 쌍마다 실제로 저장되었는지를 반환합니다.
+     *       드라이버가 행 수를 알려 주지 않는 경우(`SUCCESS_NO_INFO`, 예: `rewriteBatchedStatements=true`)에는 저장된 것으로 봅니다.
+     *
+     * @param pairs 저장할 (상품 ID, 폴더 ID) 쌍 목록입니다. 각 원소는 길이 2의 배열입니다.
+     * @return `pairs`와 같은 순서로, 각 쌍이 실제로 저장되었는지 여부입니다.
+     */
+    public boolean[] insertAll(List<Long[]> pairs) {
+        int[][] counts = jdbcTemplate.batchUpdate(
+            "INSERT IGNORE INTO product_folder (product_id, folder_id) VALUES (?, ?)",
+            pairs,
+            BATCH_SIZE,
+            (ps, pair) -> {
+                ps.setLong(1, pair[0]);
+                ps.setLong(2, pair[1]);
+            });
+
+        boolean[] inserted = new boolean[pairs.size()];
+        int i = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                inserted[i++] = count > 0 || count == Statement.SUCCESS_NO_INFO;
+            }
+        }
+        return inserted;
+    }
+}
@@ -1,29 +1,71 @@
 package com.sparta.myselectshop.repository;
 
-import com.sparta.myselectshop.entity.Folder;
-import com.sparta.myselectshop.entity.Product;
 import com.sparta.myselectshop.entity.ProductFolder;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * ✅ ProductFolderRepository는 `ProductFolder` 엔티티에 대한 데이터베이스 작업을 처리하는 JPA 리포지토리입니다.
  *
  *    ➡️ Spring Data JPA의 `JpaRepository`를 확장하여 기본적인 CRUD (Create, Read, Update, Delete) 작업을 지원합니다.
  *    ➡️ `ProductFolder` 엔티티와 `Long` 타입의 기본 키를 사용하는 리포지토리입니다.
- *    ➡️ 특정 상품과 폴더의 연관 관계를 조회하는 추가적인 메서드를 제공합니다.
+ *    ➡️ 상품과 폴더의 연관 관계를 중복 없이 저장하고 조회하는 추가적인 메서드를 제공합니다.
  */
 public interface ProductFolderRepository extends JpaRepository<ProductFolder, Long> {
 
     /**
-     * ✅ 특정 상품과 폴더의 연관 관계를 조회하는 메서드입니다.
+     * ✅ 상품과 폴더의 연관 관계를 저장하되, 이미 존재하면 저장하지 않는 메서드입니다.
      *
-     *    ➡️ 주어진 상품과 폴더의 조합을 기반으로 `ProductFolder` 엔티티를 조회합니다.
-     *    ➡️ 상품과 폴더의 연관 관계가 존재하면 해당 연관 관계를 담은 `ProductFolder` 객체를 Optional로 반환합니다.
+     *    ➡️ `(product_id, folder_id)` 유니크 제약 조건에 걸리는 행은 MySQL의 `INSERT IGNORE`로 무시되므로,
+     *       중복 여부를 미리 조회하지 않고 한 번의 쿼리로 저장과 중복 확인을 함께 처리합니다.
+     *    ➡️ `INSERT IGNORE`는 외래 키 위반도 경고로 바꾸므로, 상품과 폴더가 존재하는지는 호출하기 전에 확인해야 합니다.
      *
-     * @param product 조회할 상품 객체입니다.
-     * @param folder 조회할 폴더 객체입니다.
-     * @return Optional<ProductFolder> 상품과 폴더의 연관 관계를 담고 있는 `ProductFolder` 객체를 반환합니다. 연관 관계가 존재하지 않으면 빈 Optional을 반환합니다.
+     * @param productId 상품 ID입니다.
+     * @param folderId 폴더 ID입니다.
+     * @return 저장된 행 수입니다. 이미 연결되어 있었다면 0을 반환합니다.
      */
-    Optional<ProductFolder> findByProductAndFolder(Product product, Folder folder);
-}
\ No newline at end of file
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO product_folder (product_id, folder_id) VALUES (:productId, :folderId)",
+        nativeQuery = true)
+    int insertIgnore(@Param("productId") Long productId, @Param("folderId") Long folderId);
+
+    /**
+     * ✅ 주어진 상품 ID 목록과 폴더 ID 목록 사이에 이미 존재하는 연결을 한 번에 조회합니다.
+     *
+     *    ➡️ 엔티티를 로딩하지 않고 (상품 ID, 폴더 ID) 쌍만 조회합니다.
+     *
+     * @param productIds 확인할 상품 ID 목록입니다.
+     * @param folderIds 확인할 폴더 ID 목록입니다.
+     * @return List<ProductFolderIds> 이미 존재하는 (상품 ID, 폴더 ID) 쌍 목록입니다.
+     */
+    @Query("select pf.product.id as productId, pf.folder.id as folderId from ProductFolder pf "
+        + "where pf.product.id in :productIds and pf.folder.id in :folderIds")
+    List<ProductFolderIds> findIdsByProductIdInAndFolderIdIn(@Param("productIds") Collection<Long> productIds,
+        @Param("folderIds") Collection<Long> folderIds);
+
+    /**
+     * ✅ 주어진 폴더에서 주어진 상품들의 연결을 한 번에 삭제합니다.
+     *
+     * @param folderId 상품을 뺄 폴더 ID입니다.
+     * @param productIds 폴더에서 뺄 상품 ID 목록입니다.
+     * @return 삭제된 연결 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ProductFolder pf where pf.folder.id = :folderId and pf.product.id in :productIds")
+    int deleteByFolderIdAndProductIdIn(@Param("folderId") Long folderId,
+        @Param("productIds") Collection<Long> productIds);
+
+    /**
+     * ✅ 상품-폴더 연결의 (상품 ID, 폴더 ID) 쌍을 담는 프로젝션입니다.
+     */
+    interface ProductFolderIds {
+
+        Long getProductId(); // 상품 ID
+
+        Long getFolderId(); // 폴더 ID
+    }
+}
@@ -0,0 +1,26 @@
+package com.sparta.myselectshop.repository;
+
+import com.sparta.myselectshop.entity.ProductPriceHistory;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * ✅ ProductPriceHistoryRepository는 `ProductPriceHistory` 엔티티에 대한 데이터베이스 작업을 처리하는 JPA 리포지토리입니다.
+ *
+ *    ➡️ 상품별 가격 이력을 기간 단위로 조회하는 메서드를 제공합니다.
+ */
+public interface ProductPriceHistoryRepository extends JpaRepository<ProductPriceHistory, Long> {
+
+    /**
+     * ✅ 특정 상품의 가격 이력 중 주어진 시각 이후에 기록된 이력을 시간순으로 조회합니다.
+     *
+     *    ➡️ (product_id, recorded_at) 인덱스를 범위 스캔하므로, 전체 이력 건수와 무관하게 해당 상품의 구간만 읽습니다.
+     *
+     * @param productId 조회할 상품의 ID입니다.
+     * @param from 조회 시작 시각입니다.
+     * @return 기록 시각 오름차순으로 정렬된 가격 이력 리스트입니다.
+     */
+    List<ProductPriceHistory> findAllByProductIdAndRecordedAtGreaterThanEqualOrderByRecordedAtAsc(
+        Long productId, LocalDateTime from);
+}
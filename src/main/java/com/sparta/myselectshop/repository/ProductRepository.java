@@ -1,10 +1,25 @@
 package com.sparta.myselectshop.repository;
 
+import com.sparta.myselectshop.dto.ProductExportRowDto;
 import com.sparta.myselectshop.entity.Product;
 import com.sparta.myselectshop.entity.User;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * ✅ ProductRepository 인터페이스는 Product 엔티티에 대한 CRUD (생성, 조회, 업데이트, 삭제) 작업을 처리하는 리포지토리입니다.
@@ -18,12 +33,13 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * ✅ 특정 사용자가 등록한 모든 상품을 페이징하여 조회합니다.
      *
      *    ➡️ 주어진 사용자(User)에 해당하는 상품 목록을 페이지네이션(Pageable) 방식으로 반환합니다.
+     *    ➡️ 전체 건수(COUNT)는 조회하지 않고 해당 페이지의 상품만 반환합니다. 전체 건수는 ProductCountCache에서 가져옵니다.
      *
      * @param user 조회하려는 상품의 소유자(User)입니다.
      * @param pageable 페이징 정보를 담고 있는 Pageable 객체입니다.
-     * @return Page<Product> 주어진 사용자에 해당하는 상품 목록이 페이지네이션된 형태로 반환됩니다.
+     * @return List<Product> 주어진 사용자에 해당하는 상품 중 요청한 페이지의 상품 목록입니다.
      */
-    Page<Product> findAllByUser(User user, Pageable pageable);
+    List<Product> findAllByUser(User user, Pageable pageable);
 
     /**
      * ✅ 특정 사용자가 소유한 상품 중에서 지정된 폴더에 등록된 상품 목록을 페이징하여 조회합니다.
@@ -34,8 +50,157 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * @param user 조회하려는 상품의 소유자(User)입니다. 이 사용자가 소유한 상품들 중에서 폴더에 등록된 상품을 필터링합니다.
      * @param folderId 조회할 폴더의 고유 ID입니다. 이 폴더에 등록된 상품들을 필터링합니다.
      * @param pageable 페이징 정보를 담고 있는 Pageable 객체입니다. 페이지 번호, 페이지 크기, 정렬 기준 등을 포함합니다.
-     * @return Page<Product> 주어진 사용자와 폴더 ID에 해당하는 상품 목록이 페이지네이션된 형태로 반환됩니다.
-     *         페이지네이션된 상품 목록은 `Product` 엔티티 객체를 포함합니다.
+     * @return List<Product> 주어진 사용자와 폴더 ID에 해당하는 상품 중 요청한 페이지의 상품 목록입니다.
+     *         전체 건수(COUNT)는 조회하지 않으며, ProductCountCache에서 가져옵니다.
      */
-    Page<Product> findAllByUserAndProductFolderList_FolderId(User user, Long folderId, Pageable pageable);
-}
\ No newline at end of file
+    List<Product> findAllByUserAndProductFolderList_FolderId(User user, Long folderId, Pageable pageable);
+
+    /**
+     * ✅ 모든 상품을 페이징하여 조회합니다. (관리자용)
+     *
+     *    ➡️ `findAll(Pageable)`과 달리 전체 건수(COUNT)를 조회하지 않고 해당 페이지의 상품만 반환합니다.
+     *
+     * @param pageable 페이징 정보를 담고 있는 Pageable 객체입니다.
+     * @return List<Product> 요청한 페이지의 상품 목록입니다.
+     */
+    List<Product> findAllBy(Pageable pageable);
+
+    /**
+     * ✅ 특정 사용자가 등록한 상품을 keyset 방식으로 스크롤 조회합니다.
+     *
+     *    ➡️ OFFSET 없이 `(정렬 키, id)`가 마지막으로 조회한 위치보다 뒤에 있는 상품만 조회하며, COUNT 쿼리를 실행하지 않습니다.
+     *
+     * @param user 조회하려는 상품의 소유자(User)입니다.
+     * @param position 마지막으로 조회한 위치입니다. 첫 페이지는 `ScrollPosition.keyset()`입니다.
+     * @param sort 정렬 조건입니다. 마지막 정렬 키는 고유한 `id`여야 합니다.
+     * @param limit 조회할 최대 건수입니다.
+     * @return Window<Product> 조회된 상품 목록과 다음 위치 정보입니다.
+     */
+    Window<Product> findAllByUser(User user, ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * ✅ 특정 사용자가 소유한 상품 중에서 지정된 폴더에 등록된 상품을 keyset 방식으로 스크롤 조회합니다.
+     *
+     * @param user 조회하려는 상품의 소유자(User)입니다.
+     * @param folderId 조회할 폴더의 고유 ID입니다.
+     * @param position 마지막으로 조회한 위치입니다. 첫 페이지는 `ScrollPosition.keyset()`입니다.
+     * @param sort 정렬 조건입니다. 마지막 정렬 키는 고유한 `id`여야 합니다.
+     * @param limit 조회할 최대 건수입니다.
+     * @return Window<Product> 조회된 상품 목록과 다음 위치 정보입니다.
+     */
+    Window<Product> findAllByUserAndProductFolderList_FolderId(User user, Long folderId, ScrollPosition position,
+        Sort sort, Limit limit);
+
+    /**
+     * ✅ 모든 상품을 keyset 방식으로 스크롤 조회합니다. (관리자용)
+     *
+     * @param position 마지막으로 조회한 위치입니다. 첫 페이지는 `ScrollPosition.keyset()`입니다.
+     * @param sort 정렬 조건입니다. 마지막 정렬 키는 고유한 `id`여야 합니다.
+     * @param limit 조회할 최대 건수입니다.
+     * @return Window<Product> 조회된 상품 목록과 다음 위치 정보입니다.
+     */
+    Window<Product> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * ✅ 특정 사용자가 등록한 상품 수를 조회합니다.
+     *
+     * @param user 상품의 소유자(User)입니다.
+     * @return 사용자가 등록한 상품 수
+     */
+    long countByUser(User user);
+
+    /**
+     * ✅ 특정 사용자가 소유한 상품 중에서 지정된 폴더에 등록된 상품 수를 조회합니다.
+     *
+     * @param user 상품의 소유자(User)입니다.
+     * @param folderId 폴더의 고유 ID입니다.
+     * @return 폴더에 등록된 상품 수
+     */
+    long countByUserAndProductFolderList_FolderId(User user, Long folderId);
+
+    /**
+     * ✅ 주어진 ID의 상품이 특정 사용자의 소유인지 확인합니다.
+     *
+     *    ➡️ 상품과 사용자 엔티티를 로딩하지 않고 `SELECT id ... LIMIT 1`만 실행하며,
+     *       `(user_id, id)` 인덱스만으로 판단할 수 있는 커버링 인덱스 조회입니다.
+     *
+     * @param id 확인할 상품 ID입니다.
+     * @param userId 소유자 ID입니다.
+     * @return 상품이 존재하고 해당 사용자의 소유이면 `true`를 반환합니다.
+     */
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    /**
+     * ✅ 주어진 상품 ID 중에서 특정 사용자가 소유한 상품 수를 조회합니다.
+     *
+     *    ➡️ 상품 엔티티와 사용자 엔티티를 로딩하지 않고, 한 번의 COUNT 쿼리로 소유 여부를 확인하는 데 사용합니다.
+     *
+     * @param ids 확인할 상품 ID 목록입니다.
+     * @param userId 소유자 ID입니다.
+     * @return 주어진 사용자가 소유한 상품 수
+     */
+    long countByIdInAndUserId(Collection<Long> ids, Long userId);
+
+    /**
+     * ✅ 특정 사용자의 상품 중 최저가가 희망가 이하인 상품을 ID 역순으로 커서 기반 조회합니다.
+     *
+     *    ➡️ (user_id, price_reached, id) 인덱스를 사용하므로, 등록한 상품 수와 무관하게 필요한 건수만 읽습니다.
+     *    ➡️ OFFSET 대신 마지막으로 조회한 상품 ID보다 작은 ID부터 이어서 조회합니다.
+     *
+     * @param user 조회하려는 상품의 소유자(User)입니다.
+     * @param id 마지막으로 조회한 상품 ID입니다. 이 ID보다 작은 상품만 조회합니다.
+     * @param limit 조회할 최대 건수입니다.
+     * @return List<Product> 조건에 맞는 상품 목록이 ID 역순으로 반환됩니다.
+     */
+    List<Product> findAllByUserAndPriceReachedTrueAndIdLessThanOrderByIdDesc(User user, Long id, Limit limit);
+
+    /**
+     * ✅ 모든 상품과 상품이 속한 폴더를 상품 ID 순으로 스트리밍 조회합니다. (관리자 내보내기용)
+     *
+     *    ➡️ 엔티티 대신 평면(flat) DTO로 조회하므로, 영속성 컨텍스트에 엔티티가 쌓이지 않고 폴더를 따로 조회하는 N+1도 발생하지 않습니다.
+     *    ➡️ fetch size를 Integer.MIN_VALUE로 지정하여 MySQL 드라이버가 결과 전체를 메모리에 올리지 않고 한 행씩 읽어 오도록 합니다.
+     *    ➡️ 같은 상품의 행은 연속해서 조회되므로, 호출하는 쪽에서 상품 ID가 바뀔 때마다 한 상품으로 묶을 수 있습니다.
+     *    ➡️ 반환된 Stream은 트랜잭션 안에서 사용한 뒤 반드시 닫아야 합니다.
+     *
+     * @return Stream<ProductExportRowDto> 상품-폴더 조인 결과 스트림입니다.
+     */
+    @Query("select new com.sparta.myselectshop.dto.ProductExportRowDto("
+        + "p.id, p.title, p.link, p.image, p.lprice, p.myprice, f.id, f.name) "
+        + "from Product p left join p.productFolderList pf left join pf.folder f "
+        + "order by p.id, f.id")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ProductExportRowDto> streamAllForExport();
+
+    /**
+     * ✅ 주어진 ID의 상품과, 상품이 속한 폴더를 한 번의 쿼리로 함께 조회합니다.
+     *
+     *    ➡️ 목록을 페이지 단위로 조회한 뒤 호출하여, 이미 조회한 상품들의 폴더 목록(`productFolderList`)을 한꺼번에 채웁니다.
+     *       컬렉션을 fetch join하면 데이터베이스에서 페이징할 수 없으므로, 페이지 조회와 폴더 조회를 두 쿼리로 나눕니다.
+     *    ➡️ 상품마다 폴더를 따로 조회하는 N+1 쿼리가 발생하지 않습니다.
+     *
+     * @param ids 폴더를 함께 조회할 상품 ID 목록입니다.
+     * @return List<Product> 폴더 목록이 채워진 상품 목록입니다.
+     */
+    @Query("select distinct p from Product p left join fetch p.productFolderList pf left join fetch pf.folder "
+        + "where p.id in :ids")
+    List<Product> findAllWithFoldersByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * ✅ 상품의 가격 하락 알림 기록을 지웁니다.
+     *
+     *    ➡️ 알림 큐가 가득 차 이벤트를 버린 경우, 다음 가격 갱신 때 다시 알림 대상이 되도록 사용합니다.
+     *    ➡️ 기록이 그 사이에 다른 가격으로 바뀌었다면 지우지 않습니다.
+     *    ➡️ 커밋 이후(AFTER_COMMIT) 이벤트 리스너에서 호출되므로 항상 새로운 트랜잭션에서 실행합니다.
+     *
+     * @param id 알림 기록을 지울 상품 ID입니다.
+     * @param alertedPrice 지울 알림 기록(알림을 보내려던 최저가)입니다.
+     * @return 기록이 지워진 상품 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("update Product p set p.alertedPrice = 0 where p.id = :id and p.alertedPrice = :alertedPrice")
+    int clearAlertedPrice(@Param("id") Long id, @Param("alertedPrice") int alertedPrice);
+}
@@ -1,5 +1,8 @@
 package com.sparta.myselectshop.scheduler;
 
+import com.sparta.myselectshop.aop.UseWorkload;
+import com.sparta.myselectshop.cache.ItemFingerprintCache;
+import com.sparta.myselectshop.config.WorkloadRoutingDataSource.Workload;
 import com.sparta.myselectshop.entity.Product;
 import com.sparta.myselectshop.naver.dto.ItemDto;
 import com.sparta.myselectshop.naver.service.NaverApiService;
@@ -27,9 +30,11 @@ public class Scheduler {
     private final NaverApiService naverApiService; // NAVER API와 상호작용하는 서비스
     private final ProductService productService; // 제품 정보를 처리하는 서비스
     private final ProductRepository productRepository; // 제품 정보를 데이터베이스에서 조회하는 리포지토리
+    private final ItemFingerprintCache itemFingerprintCache; // 마지막으로 반영한 아이템 정보의 지문 캐시
 
     // 초, 분, 시, 일, 월, 주 순서
     @Scheduled(cron = "0 0 1 * * *") // 매일 새벽 1시에 실행됩니다.
+    @UseWorkload(Workload.BACKGROUND) // 사용자 요청과 커넥션 풀을 나누어 사용합니다.
     public void updatePrice() throws InterruptedException {
         log.info("가격 업데이트 실행"); // 작업 시작 로그
 
@@ -49,8 +54,15 @@ public class Scheduler {
 
                 // 제품의 ID를 사용하여 제품 정보를 업데이트합니다.
                 Long id = product.getId();
+
+                // 마지막으로 반영한 아이템 정보와 같다면 조회와 갱신을 모두 생략합니다.
+                if (itemFingerprintCache.isUnchanged(id, itemDto)) {
+                    continue;
+                }
+
                 try {
                     productService.updateBySearch(id, itemDto); // 제품 정보를 업데이트하는 서비스 메서드 호출
+                    itemFingerprintCache.put(id, itemDto); // 커밋이 완료된 아이템 정보의 지문을 기록합니다.
                 } catch (Exception e) {
                     log.error(id + " : " + e.getMessage()); // 업데이트 중 오류 발생 시 로그 기록
                 }
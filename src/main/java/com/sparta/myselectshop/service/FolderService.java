@@ -1,84 +1,157 @@
 package com.sparta.myselectshop.service;
 
+import com.sparta.myselectshop.cache.UserVersionTracker;
+import com.sparta.myselectshop.cache.UserVersionTracker.Scope;
+import com.sparta.myselectshop.config.CacheConfig;
+import com.sparta.myselectshop.config.ReadYourWritesTracker;
 import com.sparta.myselectshop.dto.FolderResponseDto;
 import com.sparta.myselectshop.entity.Folder;
 import com.sparta.myselectshop.entity.User;
 import com.sparta.myselectshop.repository.FolderRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * ✅ FolderService 클래스는 사용자와 관련된 폴더를 관리하는 서비스 클래스입니다.
  *
  *    ➡️ 사용자의 폴더를 추가하거나 조회하는 기능을 제공합니다.
  *    ➡️ 폴더가 중복되는지 검사하고, 폴더 정보를 `FolderRepository`를 통해 데이터베이스와 연동합니다.
+ *    ➡️ 사용자별 폴더 목록은 캐시에서 읽으며, 폴더를 추가(또는 이름 변경, 삭제)하는 메서드는
+ *       `folderListChanged`를 호출하여 해당 사용자의 캐시를 비우고 폴더 목록 버전(ETag)을 올려야 합니다.
+ *       같은 호출로 잠시 동안 해당 사용자의 조회가 복제본 대신 주 데이터베이스를 읽도록 기록합니다.
  */
 @Service // 이 클래스가 Spring의 서비스 컴포넌트임을 나타냅니다.
 @RequiredArgsConstructor // Lombok 어노테이션으로 생성자를 자동으로 생성합니다.
 public class FolderService {
 
     private final FolderRepository folderRepository; // 폴더 정보를 처리하기 위한 리포지토리입니다.
+    private final UserVersionTracker userVersionTracker; // 사용자별 폴더 목록 버전(ETag)을 관리합니다.
+    private final CacheManager cacheManager; // 사용자별 폴더 목록 캐시를 비우기 위한 캐시 매니저입니다.
+    private final ReadYourWritesTracker readYourWritesTracker; // 폴더를 변경한 사용자의 조회를 주 데이터베이스로 보냅니다.
 
     /**
      * ✅ 로그인한 사용자의 폴더를 추가합니다.
      *
-     *    ➡️ 입력으로 받은 폴더 이름 목록을 기반으로, 사용자가 이미 생성한 폴더들을 조회합니다.
-     *    ➡️ 중복된 폴더 이름이 없는 경우에만 새로운 폴더를 생성하고, 데이터베이스에 저장합니다.
+     *    ➡️ 입력으로 받은 폴더 이름을 정규화(대소문자, 공백 무시)하여, 입력 목록 안의 중복을 해시 집합으로 확인합니다.
+     *    ➡️ 정규화된 이름으로 사용자가 이미 생성한 폴더 이름만 한 번에 조회하여, 기존 폴더와의 중복을 확인합니다.
+     *    ➡️ 중복된 폴더 이름이 없는 경우에만 새로운 폴더를 생성하고, 데이터베이스에 배치로 저장합니다.
      *    ➡️ 폴더 이름이 중복된 경우에는 `IllegalArgumentException` 예외를 발생시킵니다.
+     *       확인 이후 동시 요청으로 같은 이름의 폴더가 먼저 저장된 경우에도, 유니크 제약 조건 위반을 같은 예외로 바꿉니다.
+     *
+     *    ➡️ 폴더가 추가되면 해당 사용자의 폴더 목록 캐시를 비우고, 폴더 목록 버전을 올립니다.
      *
      * @param folderNames 사용자가 추가하려는 폴더 이름 목록입니다.
      * @param user 폴더를 추가하는 사용자의 정보입니다.
      */
     public void addFolders(List<String> folderNames, User user) {
 
-        // 입력된 폴더 이름을 기준으로 사용자가 이미 생성한 폴더를 조회합니다.
-        List<Folder> existFolderList = folderRepository.findAllByUserAndNameIn(user, folderNames);
+        // 입력된 폴더 이름을 정규화하고, 입력 목록 안의 중복을 확인합니다.
+        Map<String, String> namesByNormalized = normalizeDistinct(folderNames);
+
+        // 정규화된 이름을 기준으로 사용자가 이미 생성한 폴더 이름을 조회합니다.
+        Set<String> existNames = new HashSet<>(
+            folderRepository.findNormalizedNamesByUserAndNormalizedNameIn(user, namesByNormalized.keySet()));
 
         List<Folder> folderList = new ArrayList<>();
 
-        for (String folderName : folderNames) {
+        for (Map.Entry<String, String> entry : namesByNormalized.entrySet()) {
             // 이미 존재하는 폴더가 아닌 경우만 새 폴더를 생성합니다.
-            if (!isExistFolderName(folderName, existFolderList)) {
-                Folder folder = new Folder(folderName, user);
-                folderList.add(folder);
-            } else {
-                throw new IllegalArgumentException("중복된 폴더명을 제거해주세요! 폴더명 : " + folderName); // 중복된 폴더 이름이 있을 경우 예외 발생
+            if (existNames.contains(entry.getKey())) {
+                throw duplicateFolderName(entry.getValue()); // 중복된 폴더 이름이 있을 경우 예외 발생
             }
+            folderList.add(new Folder(entry.getValue(), user));
         }
 
-        folderRepository.saveAll(folderList); // 새로 생성된 폴더를 데이터베이스에 저장합니다.
+        try {
+            folderRepository.saveAll(folderList); // 새로 생성된 폴더를 데이터베이스에 배치로 저장합니다.
+        } catch (DataIntegrityViolationException e) {
+            // 중복 확인 이후 같은 이름의 폴더가 먼저 저장된 경우입니다. 먼저 저장된 폴더 이름만 다시 조회하여 알려줍니다.
+            throw duplicateFolderName(conflictingNames(namesByNormalized, user));
+        }
+        folderListChanged(user); // 폴더 목록 캐시를 비우고 폴더 목록 버전을 올립니다.
     }
 
     /**
-     * ✅ 폴더 이름이 이미 존재하는지 확인합니다.
+     * ✅ 사용자의 폴더 목록이 바뀌었음을 반영합니다.
      *
-     *    ➡️ 주어진 폴더 이름이 기존 폴더 목록에 포함되어 있는지 검사합니다.
+     *    ➡️ 폴더 목록 캐시를 먼저 비운 뒤 버전을 올립니다. 새 ETag를 받은 요청이 비워지기 전의 캐시를 읽지 않도록 순서를 지킵니다.
+     *    ➡️ 진행 중인 트랜잭션이 있으면 두 작업 모두 같은 순서로 커밋 이후에 실행됩니다.
+     *    ➡️ 방금 만든 폴더를 바로 조회할 때 복제 지연으로 "회원님의 폴더가 아닙니다"가 되지 않도록,
+     *       잠시 동안 해당 사용자의 조회는 주 데이터베이스를 읽습니다.
      *
-     * @param folderName 확인할 폴더 이름입니다.
-     * @param existFolderList 기존 폴더 목록입니다.
-     * @return 폴더 이름이 기존 폴더 목록에 존재하면 `true`, 그렇지 않으면 `false`를 반환합니다.
+     * @param user 폴더 목록이 바뀐 사용자입니다.
      */
-    private Boolean isExistFolderName(String folderName, List<Folder> existFolderList) {
-        // 기존 폴더 리스트에서 해당 폴더 이름이 존재하는지 확인합니다.
-        for (Folder existFolder : existFolderList) {
-            if (folderName.equals(existFolder.getName())) {
-                return true; // 폴더 이름이 이미 존재하면 true 반환
+    private void folderListChanged(User user) {
+        cacheManager.getCache(CacheConfig.USER_FOLDERS).evict(user.getId());
+        userVersionTracker.bump(Scope.FOLDERS, user.getId());
+        readYourWritesTracker.markWritten(user.getId());
+    }
+
+    /**
+     * ✅ 폴더 이름 목록을 정규화하고, 정규화된 이름이 같은 폴더 이름이 있는지 확인합니다.
+     *
+     *    ➡️ 해시 맵을 사용하므로 폴더 이름 수에 비례하는 시간 안에 중복을 확인합니다.
+     *
+     * @param folderNames 확인할 폴더 이름 목록입니다.
+     * @return 정규화된 이름 -> 입력한 폴더 이름. 입력한 순서를 유지합니다.
+     * @throws IllegalArgumentException 정규화된 이름이 같은 폴더 이름이 두 개 이상 있는 경우 발생하는 예외입니다.
+     */
+    static Map<String, String> normalizeDistinct(List<String> folderNames) {
+        Map<String, String> namesByNormalized = new LinkedHashMap<>();
+        for (String folderName : folderNames) {
+            if (namesByNormalized.putIfAbsent(Folder.normalize(folderName), folderName) != null) {
+                throw duplicateFolderName(folderName);
             }
         }
-        return false; // 폴더 이름이 존재하지 않으면 false 반환
+        return namesByNormalized;
+    }
+
+    /**
+     * ✅ 저장 중 유니크 제약 조건에 걸린 경우, 그 사이에 다른 요청이 먼저 저장한 폴더 이름을 찾습니다.
+     *
+     *    ➡️ 실패한 저장 트랜잭션은 이미 롤백되었으므로, 새로 조회하여 지금 존재하는 이름만 골라냅니다.
+     *
+     * @param namesByNormalized 정규화된 이름 -> 입력한 폴더 이름입니다.
+     * @param user 폴더를 추가하려던 사용자입니다.
+     * @return 먼저 저장된 폴더 이름 목록입니다. 찾지 못하면 입력한 모든 폴더 이름을 반환합니다.
+     */
+    private String conflictingNames(Map<String, String> namesByNormalized, User user) {
+        List<String> conflicts = new ArrayList<>();
+        for (String normalizedName :
+            folderRepository.findNormalizedNamesByUserAndNormalizedNameIn(user, namesByNormalized.keySet())) {
+            conflicts.add(namesByNormalized.get(normalizedName));
+        }
+        return String.join(", ", conflicts.isEmpty() ? namesByNormalized.values() : conflicts);
+    }
+
+    /**
+     * ✅ 폴더 이름이 중복되었음을 알리는 예외를 만듭니다.
+     */
+    private static IllegalArgumentException duplicateFolderName(String folderName) {
+        return new IllegalArgumentException("중복된 폴더명을 제거해주세요! 폴더명 : " + folderName);
     }
 
     /**
      * ✅ 로그인한 사용자가 등록한 모든 폴더를 조회합니다.
      *
      *    ➡️ 사용자가 등록한 모든 폴더를 조회하여 `FolderResponseDto` 목록으로 변환합니다.
+     *    ➡️ 결과는 사용자 ID별로 캐시되며, 캐시에 있으면 데이터베이스를 조회하지 않습니다.
+     *       캐시된 목록이 변경되지 않도록 수정할 수 없는 리스트를 반환합니다.
      *
      * @param user 폴더를 조회할 사용자의 정보입니다.
      * @return 사용자가 등록한 폴더 정보가 담긴 `FolderResponseDto` 리스트입니다.
      */
+    @Cacheable(cacheNames = CacheConfig.USER_FOLDERS, key = "#user.id") // 사용자 ID별로 폴더 목록을 캐시합니다.
     public List<FolderResponseDto> getFolders(User user) {
         List<Folder> folderList = folderRepository.findAllByUser(user); // 사용자가 등록한 모든 폴더를 조회합니다.
         List<FolderResponseDto> responseDtoList = new ArrayList<>();
@@ -87,6 +160,6 @@ public class FolderService {
             responseDtoList.add(new FolderResponseDto(folder)); // 폴더를 DTO로 변환하여 리스트에 추가합니다.
         }
 
-        return responseDtoList; // 폴더 DTO 리스트를 반환합니다.
+        return List.copyOf(responseDtoList); // 폴더 DTO 리스트를 반환합니다.
     }
 }
\ No newline at end of file
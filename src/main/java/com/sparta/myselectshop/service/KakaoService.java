@@ -8,9 +8,19 @@ import com.sparta.myselectshop.entity.User;
 import com.sparta.myselectshop.entity.UserRoleEnum;
 import com.sparta.myselectshop.jwt.JwtUtil;
 import com.sparta.myselectshop.repository.UserRepository;
+import com.sparta.myselectshop.config.KakaoLoginConfig;
+import java.io.UncheckedIOException;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
@@ -28,10 +38,11 @@ import java.net.URI;
  *
  *    ➡️ 카카오 OAuth 2.0 인증 과정을 통해 카카오 사용자 정보를 가져오고, 그 정보를 바탕으로
  *       회원가입 또는 로그인 처리와 JWT 토큰 생성을 담당합니다.
+ *    ➡️ 카카오 API 호출과 회원 조회/저장은 요청 스레드가 아닌 카카오 로그인 전용 스레드 풀(`KakaoLoginConfig`)에서 실행되며,
+ *       단계마다 제한 시간을 둡니다. 로그인 요청이 몰려도 웹 요청 스레드가 카카오 응답을 기다리며 묶이지 않습니다.
  */
 @Slf4j(topic = "KAKAO Login") // 로그 주제를 "KAKAO Login"으로 설정
 @Service // Spring의 서비스 컴포넌트임을 나타내는 어노테이션
-@RequiredArgsConstructor // final 필드를 매개변수로 받는 생성자를 자동으로 생성하는 Lombok 어노테이션
 public class KakaoService {
 
     // 필드 주입: KakaoService 클래스가 필요한 의존성을 자동 주입받음
@@ -39,31 +50,94 @@ public class KakaoService {
     private final UserRepository userRepository; // 사용자 정보를 처리하는 Repository
     private final RestTemplate restTemplate; // 외부 API 호출을 위한 RestTemplate
     private final JwtUtil jwtUtil; // JWT 토큰 생성 유틸리티 클래스
+    private final ObjectMapper objectMapper; // 카카오 응답을 읽기 위한 공용 ObjectMapper
+    private final AsyncTaskExecutor executor; // 카카오 로그인 전용 스레드 풀
+    private final long tokenTimeoutMs; // 액세스 토큰 요청 제한 시간(ms)
+    private final long userInfoTimeoutMs; // 사용자 정보 요청 제한 시간(ms)
+    private final long registerTimeoutMs; // 회원 조회/저장 제한 시간(ms)
+
+    @Value("${kakao.auth.base-url:https://kauth.kakao.com}")
+    private String authBaseUrl; // 카카오 인증 서버 주소 (부하 테스트 시 스텁 서버 주소로 바꿉니다.)
+
+    @Value("${kakao.api.base-url:https://kapi.kakao.com}")
+    private String apiBaseUrl; // 카카오 API 서버 주소 (부하 테스트 시 스텁 서버 주소로 바꿉니다.)
 
     /**
-     * ✅ 카카오 로그인 프로세스를 수행하는 메서드입니다.
+     * ✅ KakaoService의 생성자입니다.
      *
-     *    ➡️ 인가 코드를 받아서 카카오 API를 통해 액세스 토큰을 얻고, 해당 토큰으로 사용자 정보를 가져온 후,
-     *        회원가입 또는 로그인 처리를 수행하고 JWT 토큰을 생성하여 반환합니다.
+     * @param executor 카카오 로그인 전용 스레드 풀입니다.
+     * @param tokenTimeoutMs 액세스 토큰 요청 제한 시간(ms)입니다.
+     * @param userInfoTimeoutMs 사용자 정보 요청 제한 시간(ms)입니다.
+     * @param registerTimeoutMs 회원 조회/저장 제한 시간(ms)입니다.
+     */
+    public KakaoService(PasswordEncoder passwordEncoder, UserRepository userRepository, RestTemplate restTemplate,
+        JwtUtil jwtUtil, ObjectMapper objectMapper,
+        @Qualifier(KakaoLoginConfig.KAKAO_LOGIN_EXECUTOR) AsyncTaskExecutor executor,
+        @Value("${kakao.login.token-timeout-ms:3000}") long tokenTimeoutMs,
+        @Value("${kakao.login.user-info-timeout-ms:3000}") long userInfoTimeoutMs,
+        @Value("${kakao.login.register-timeout-ms:2000}") long registerTimeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.restTemplate = restTemplate;
+        this.jwtUtil = jwtUtil;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.tokenTimeoutMs = tokenTimeoutMs;
+        this.userInfoTimeoutMs = userInfoTimeoutMs;
+        this.registerTimeoutMs = registerTimeoutMs;
+    }
+
+    /**
+     * ✅ 카카오 로그인 프로세스를 비동기로 수행하는 메서드입니다.
+     *
+     *    ➡️ 인가 코드로 액세스 토큰을 얻고, 해당 토큰으로 사용자 정보를 가져온 후,
+     *        회원가입 또는 로그인 처리를 수행하고 JWT 토큰을 생성합니다.
+     *    ➡️ 각 단계는 카카오 로그인 스레드 풀에서 실행되며, 단계마다 제한 시간을 넘기면 `TimeoutException`으로 실패합니다.
+     *    ➡️ 스레드 풀의 대기열이 가득 차면 `RejectedExecutionException`으로 실패합니다.
+     *       예외를 바로 던지지 않고 실패한 CompletableFuture를 반환하므로, 호출하는 쪽의 `exceptionally`에서 처리할 수 있습니다.
      *
      * @param code 카카오 서버로부터 받은 인가 코드
-     * @return JWT 토큰을 생성하여 반환
-     * @throws JsonProcessingException JSON 파싱 중 발생할 수 있는 예외
+     * @return JWT 토큰을 담아 완료되는 CompletableFuture
      */
-    public String kakaoLogin(String code) throws JsonProcessingException {
+    public CompletableFuture<String> kakaoLoginAsync(String code) {
         // 1. 인가 코드로 액세스 토큰 요청
-        String accessToken = getToken(code);
-
-        // 2. 액세스 토큰으로 카카오 사용자 정보 가져오기
-        KakaoUserInfoDto kakaoUserInfo = getKakaoUserInfo(accessToken);
-
-        // 3. 카카오 사용자 정보로 회원가입 또는 기존 회원 찾기
-        User kakaoUser = registerKakaoUserIfNeeded(kakaoUserInfo);
-
-        // 4. JWT 토큰 생성
-        String createToken = jwtUtil.createToken(kakaoUser.getUsername(), kakaoUser.getRole());
+        return step(() -> getToken(code), tokenTimeoutMs)
+            // 2. 액세스 토큰으로 카카오 사용자 정보 가져오기
+            .thenCompose(accessToken -> step(() -> getKakaoUserInfo(accessToken), userInfoTimeoutMs))
+            // 3. 카카오 사용자 정보로 회원가입 또는 기존 회원 찾기
+            .thenCompose(kakaoUserInfo -> step(() -> registerKakaoUserIfNeeded(kakaoUserInfo), registerTimeoutMs))
+            // 4. JWT 토큰 생성
+            .thenApply(kakaoUser -> jwtUtil.createToken(kakaoUser.getUsername(), kakaoUser.getRole()));
+    }
 
-        return createToken;
+    /**
+     * ✅ 로그인 단계 하나를 카카오 로그인 스레드 풀에서 실행합니다.
+     *
+     *    ➡️ 제한 시간은 이전 단계가 끝나고 이 단계가 시작될 때부터 잽니다.
+     *    ➡️ 제한 시간을 넘기면 작업을 취소합니다. 대기 중인 작업은 실행되지 않고, 실행 중인 작업은 인터럽트되어 스레드를 반환합니다.
+     *       (RestTemplate의 JDK HttpClient는 인터럽트되면 진행 중인 HTTP 요청을 중단합니다.)
+     *    ➡️ 스레드 풀이 작업을 거절하면 예외를 던지지 않고 실패한 CompletableFuture를 반환합니다.
+     */
+    private <T> CompletableFuture<T> step(Supplier<T> task, long timeoutMs) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> worker;
+        try {
+            worker = executor.submit(() -> {
+                try {
+                    result.complete(task.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return result.orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+            .whenComplete((value, e) -> {
+                if (e instanceof TimeoutException) {
+                    worker.cancel(true); // 제한 시간이 지난 작업이 스레드를 계속 붙잡지 않도록 취소합니다.
+                }
+            });
     }
 
     /**
@@ -73,14 +147,14 @@ public class KakaoService {
      *
      * @param code 카카오 서버로부터 받은 인가 코드
      * @return 카카오 서버로부터 받은 액세스 토큰
-     * @throws JsonProcessingException JSON 파싱 중 발생할 수 있는 예외
+     * @throws UncheckedIOException JSON 파싱 중 발생할 수 있는 예외
      */
-    private String getToken(String code) throws JsonProcessingException {
+    private String getToken(String code) {
         log.info("인가코드 : " + code); // 인가 코드를 로그에 기록
 
         // 카카오 토큰 요청 URL 생성
         URI uri = UriComponentsBuilder
-            .fromUriString("https://kauth.kakao.com") // 카카오 인증 서버 주소
+            .fromUriString(authBaseUrl) // 카카오 인증 서버 주소
             .path("/oauth/token") // 토큰 요청 경로
             .encode()
             .build()
@@ -110,7 +184,7 @@ public class KakaoService {
         );
 
         // JSON 응답에서 액세스 토큰 추출
-        JsonNode jsonNode = new ObjectMapper().readTree(response.getBody());
+        JsonNode jsonNode = readTree(response.getBody());
         return jsonNode.get("access_token").asText(); // 액세스 토큰 반환
     }
 
@@ -121,14 +195,14 @@ public class KakaoService {
      *
      * @param accessToken 카카오 서버로부터 받은 액세스 토큰
      * @return KakaoUserInfoDto 카카오 사용자 정보가 담긴 DTO 객체
-     * @throws JsonProcessingException JSON 파싱 중 발생할 수 있는 예외
+     * @throws UncheckedIOException JSON 파싱 중 발생할 수 있는 예외
      */
-    private KakaoUserInfoDto getKakaoUserInfo(String accessToken) throws JsonProcessingException {
+    private KakaoUserInfoDto getKakaoUserInfo(String accessToken) {
         log.info("accessToken : " + accessToken); // 액세스 토큰을 로그에 기록
 
         // 카카오 사용자 정보 요청 URL 생성
         URI uri = UriComponentsBuilder
-            .fromUriString("https://kapi.kakao.com") // 카카오 API 서버 주소
+            .fromUriString(apiBaseUrl) // 카카오 API 서버 주소
             .path("/v2/user/me") // 사용자 정보 요청 경로
             .encode()
             .build()
@@ -152,7 +226,7 @@ public class KakaoService {
         );
 
         // JSON 응답에서 사용자 정보 추출
-        JsonNode jsonNode = new ObjectMapper().readTree(response.getBody());
+        JsonNode jsonNode = readTree(response.getBody());
         Long id = jsonNode.get("id").asLong(); // 카카오 사용자 ID
         String nickname = jsonNode.get("properties")
             .get("nickname").asText(); // 사용자 닉네임
@@ -207,4 +281,17 @@ public class KakaoService {
         }
         return kakaoUser;
     }
+
+    /**
+     * ✅ 카카오 응답 본문을 JSON 트리로 읽습니다.
+     *
+     *    ➡️ 비동기 단계 안에서 호출되므로, 검사 예외를 `UncheckedIOException`으로 바꿉니다.
+     */
+    private JsonNode readTree(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,247 @@
+package com.sparta.myselectshop.service;
+
+import com.sparta.myselectshop.aop.UseWorkload;
+import com.sparta.myselectshop.config.PriceHistoryConfig;
+import com.sparta.myselectshop.config.WorkloadRoutingDataSource;
+import com.sparta.myselectshop.config.WorkloadRoutingDataSource.Workload;
+import com.sparta.myselectshop.dto.PriceHistoryResponseDto;
+import com.sparta.myselectshop.entity.ProductPriceHistory;
+import com.sparta.myselectshop.entity.User;
+import com.sparta.myselectshop.repository.ProductPriceHistoryRepository;
+import com.sparta.myselectshop.repository.ProductRepository;
+import com.sparta.myselectshop.util.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * ✅ PriceHistoryService 클래스는 상품 최저가 변경 이력을 기록하고 조회하는 서비스 클래스입니다.
+ *
+ *    ➡️ 가격이 변경될 때마다 이력을 메모리 버퍼에 모아 두었다가, 일정 건수 또는 일정 주기마다 JDBC 배치 insert로 저장합니다.
+ *    ➡️ 조회 시에는 요청한 기간의 이력을 구간(bucket)으로 나누어, 구간별 최저가만 남긴 다운샘플링 결과를 반환합니다.
+ *    ➡️ 버퍼는 메모리에만 있으므로, 애플리케이션이 비정상 종료되면 마지막 저장 이후(최대 10초, 최대 `FLUSH_BATCH_SIZE`건)의 이력이 유실됩니다.
+ *       저장에 실패한 이력은 버퍼에 되돌려 다음 주기에 다시 저장하며, 버퍼가 `MAX_BUFFERED_POINTS`를 넘으면 버리고 건수를 기록합니다.
+ */
+@Slf4j(topic = "PriceHistory")
+@Service // 이 클래스가 Spring의 서비스 컴포넌트임을 나타냅니다.
+public class PriceHistoryService {
+
+    public static final int FLUSH_BATCH_SIZE = 500; // 버퍼가 이 건수 이상 쌓이면 저장 스레드에서 바로 저장합니다.
+    public static final int MAX_POINTS = 500; // 한 번에 반환할 수 있는 최대 지점 수
+    public static final int MAX_DAYS = 365; // 한 번에 조회할 수 있는 최대 기간(일)
+    public static final int MAX_BUFFERED_POINTS = FLUSH_BATCH_SIZE * 20; // 저장 실패 시 버퍼에 보관할 수 있는 최대 건수
+
+    private final ProductPriceHistoryRepository priceHistoryRepository; // 가격 이력을 저장하는 리포지토리
+    private final ProductRepository productRepository; // 상품 소유자를 확인하기 위한 리포지토리
+    private final TransactionTemplate flushTransaction; // 버퍼 저장용 독립 트랜잭션
+    private final TaskExecutor flushExecutor; // 버퍼 저장 전용 스레드
+
+    private final Queue<ProductPriceHistory> buffer = new ConcurrentLinkedQueue<>(); // 저장 대기 중인 가격 이력
+    private final AtomicInteger bufferSize = new AtomicInteger(); // 버퍼에 쌓인 이력 건수
+    private final AtomicLong droppedPoints = new AtomicLong(); // 저장하지 못하고 버린 이력 건수
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(); // 저장 스레드에 저장이 예약되어 있는지 여부
+    private volatile boolean flushFailing; // 마지막 저장이 실패했는지 여부 (실패 중에는 주기 저장만 재시도합니다.)
+
+    /**
+     * ✅ PriceHistoryService의 생성자입니다.
+     *
+     *    ➡️ 버퍼 저장은 커밋 이후(afterCommit) 콜백에서도 호출되므로, 항상 새로운 트랜잭션(REQUIRES_NEW)에서 실행되도록 설정합니다.
+     *
+     * @param priceHistoryRepository 가격 이력을 저장하는 리포지토리입니다.
+     * @param productRepository 상품 소유자를 확인하기 위한 리포지토리입니다.
+     * @param transactionManager 버퍼 저장 트랜잭션을 생성할 트랜잭션 매니저입니다.
+     * @param flushExecutor 버퍼가 가득 찼을 때 저장을 실행할 전용 스레드입니다.
+     */
+    public PriceHistoryService(ProductPriceHistoryRepository priceHistoryRepository,
+        ProductRepository productRepository, PlatformTransactionManager transactionManager,
+        @Qualifier(PriceHistoryConfig.PRICE_HISTORY_FLUSH_EXECUTOR) TaskExecutor flushExecutor) {
+        this.priceHistoryRepository = priceHistoryRepository;
+        this.productRepository = productRepository;
+        this.flushExecutor = flushExecutor;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * ✅ 상품의 최저가 변경을 기록합니다.
+     *
+     *    ➡️ 트랜잭션 안에서 호출되면 커밋이 완료된 뒤에만 버퍼에 추가하여, 롤백된 변경이 이력에 남지 않도록 합니다.
+     *
+     * @param productId 가격이 변경된 상품의 ID입니다.
+     * @param lprice 변경된 최저가입니다.
+     */
+    public void record(Long productId, int lprice) {
+        ProductPriceHistory history = new ProductPriceHistory(productId, lprice, LocalDateTime.now());
+
+        AfterCommit.run(() -> enqueue(history));
+    }
+
+    /**
+     * ✅ 가격 이력을 버퍼에 추가하고, `FLUSH_BATCH_SIZE`건 이상 쌓이면 저장 스레드에 저장을 예약합니다.
+     *
+     *    ➡️ 호출한 스레드(사용자 요청 스레드일 수 있음)는 저장을 기다리지 않습니다. 저장은 한 번에 하나만 예약됩니다.
+     *    ➡️ 마지막 저장이 실패한 동안에는 예약하지 않고, 10초 주기의 저장이 재시도합니다.
+     *
+     * @param history 버퍼에 추가할 가격 이력입니다.
+     */
+    private void enqueue(ProductPriceHistory history) {
+        buffer.add(history);
+        if (bufferSize.incrementAndGet() >= FLUSH_BATCH_SIZE && !flushFailing
+            && flushScheduled.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(() -> {
+                    try {
+                        // 내부 호출에는 `@UseWorkload`가 적용되지 않으므로 작업 종류를 직접 지정합니다.
+                        WorkloadRoutingDataSource.run(Workload.BACKGROUND, this::flush);
+                    } finally {
+                        flushScheduled.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                flushScheduled.set(false); // 애플리케이션 종료 중 등 : 주기 저장과 종료 시 저장에 맡깁니다.
+            }
+        }
+    }
+
+    /**
+     * ✅ 버퍼에 쌓인 가격 이력을 한 번에 저장합니다.
+     *
+     *    ➡️ `hibernate.jdbc.batch_size` 설정에 따라 여러 건의 insert가 하나의 JDBC 배치로 전송됩니다.
+     *    ➡️ 주기적으로 실행되며, 애플리케이션 종료 시에도 남은 이력을 저장합니다.
+     *    ➡️ 저장에 실패하면 꺼낸 이력을 버퍼에 되돌려 다음 주기에 다시 저장합니다.
+     *       되돌리면 버퍼가 `MAX_BUFFERED_POINTS`를 넘는 경우에는 버리고, 버린 건수를 `getDroppedPoints`에 누적합니다.
+     */
+    @Scheduled(fixedDelay = 10_000) // 10초마다 남은 이력을 저장합니다.
+    @UseWorkload(Workload.BACKGROUND) // 사용자 요청과 커넥션 풀을 나누어 사용합니다.
+    @PreDestroy
+    public synchronized void flush() {
+        List<ProductPriceHistory> batch = new ArrayList<>();
+        ProductPriceHistory history;
+        while ((history = buffer.poll()) != null) {
+            batch.add(history);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        bufferSize.addAndGet(-batch.size());
+
+        try {
+            flushTransaction.executeWithoutResult(status -> priceHistoryRepository.saveAll(batch));
+            flushFailing = false;
+        } catch (Exception e) {
+            flushFailing = true;
+            if (bufferSize.get() + batch.size() <= MAX_BUFFERED_POINTS) {
+                buffer.addAll(batch);
+                bufferSize.addAndGet(batch.size());
+                log.error("가격 이력 저장 실패 (" + batch.size() + "건), 다음 주기에 다시 저장합니다.", e);
+            } else {
+                long dropped = droppedPoints.addAndGet(batch.size());
+                log.error("가격 이력 저장 실패 (" + batch.size() + "건), 버퍼가 가득 차 버립니다. 누적 " + dropped + "건", e);
+            }
+        }
+    }
+
+    /**
+     * ✅ 저장하지 못하고 버린 가격 이력의 누적 건수를 반환합니다.
+     *
+     * @return 애플리케이션 시작 이후 버린 가격 이력 건수입니다.
+     */
+    public long getDroppedPoints() {
+        return droppedPoints.get();
+    }
+
+    /**
+     * ✅ 상품의 가격 추이를 다운샘플링하여 조회합니다.
+     *
+     *    ➡️ 조회 기간을 `points`개의 동일한 시간 구간으로 나누고, 구간마다 가장 낮은 가격의 지점 하나만 반환합니다.
+     *    ➡️ 가격 변경이 없었던 구간은 이력이 없으므로 결과에서 생략됩니다. (직전 지점의 가격이 유지된 것으로 해석합니다.)
+     *
+     * @param productId 조회할 상품의 ID입니다.
+     * @param days 오늘로부터 조회할 기간(일)입니다.
+     * @param points 반환할 최대 지점 수입니다.
+     * @param user 현재 로그인한 사용자 객체입니다.
+     * @return List<PriceHistoryResponseDto> 시간순으로 정렬된 가격 추이입니다.
+     * @throws NullPointerException 상품이 존재하지 않을 경우 발생하는 예외입니다.
+     * @throws IllegalArgumentException 로그인한 사용자의 상품이 아니거나, 조회 범위가 잘못된 경우 발생하는 예외입니다.
+     */
+    public List<PriceHistoryResponseDto> getPriceHistory(Long productId, int days, int points, User user) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 1일 이상 " + MAX_DAYS + "일 이하로 설정해 주세요.");
+        }
+        if (points < 1 || points > MAX_POINTS) {
+            throw new IllegalArgumentException("조회 지점 수는 1 이상 " + MAX_POINTS + " 이하로 설정해 주세요.");
+        }
+
+        // 상품이 로그인한 회원의 소유인지 인덱스만으로 확인합니다. 소유하지 않은 경우에만 존재 여부를 확인합니다.
+        if (!productRepository.existsByIdAndUserId(productId, user.getId())) {
+            if (!productRepository.existsById(productId)) {
+                throw new NullPointerException("해당 상품이 존재하지 않습니다.");
+            }
+            throw new IllegalArgumentException("회원님의 관심상품이 아닙니다.");
+        }
+
+        LocalDateTime to = LocalDateTime.now();
+        LocalDateTime from = to.minusDays(days);
+        List<ProductPriceHistory> historyList =
+            priceHistoryRepository.findAllByProductIdAndRecordedAtGreaterThanEqualOrderByRecordedAtAsc(productId, from);
+
+        return downsample(historyList, from, to, points);
+    }
+
+    /**
+     * ✅ 시간순으로 정렬된 가격 이력을 구간별 최저가 지점으로 줄입니다.
+     *
+     * @param historyList 기록 시각 오름차순으로 정렬된 가격 이력입니다.
+     * @param from 조회 시작 시각입니다.
+     * @param to 조회 종료 시각입니다.
+     * @param points 구간 수입니다.
+     * @return 구간별 최저가 지점 리스트입니다.
+     */
+    static List<PriceHistoryResponseDto> downsample(List<ProductPriceHistory> historyList,
+        LocalDateTime from, LocalDateTime to, int points) {
+        List<PriceHistoryResponseDto> responseDtoList = new ArrayList<>();
+        if (historyList.size() <= points) {
+            for (ProductPriceHistory history : historyList) {
+                responseDtoList.add(new PriceHistoryResponseDto(history));
+            }
+            return responseDtoList;
+        }
+
+        long bucketMillis = Math.max(1, Duration.between(from, to).toMillis() / points);
+        long currentBucket = -1;
+        ProductPriceHistory lowest = null;
+
+        for (ProductPriceHistory history : historyList) {
+            long bucket = Duration.between(from, history.getRecordedAt()).toMillis() / bucketMillis;
+            if (bucket != currentBucket) {
+                if (lowest != null) {
+                    responseDtoList.add(new PriceHistoryResponseDto(lowest));
+                }
+                currentBucket = bucket;
+                lowest = history;
+            } else if (history.getLprice() < lowest.getLprice()) {
+                lowest = history;
+            }
+        }
+        if (lowest != null) {
+            responseDtoList.add(new PriceHistoryResponseDto(lowest));
+        }
+        return responseDtoList;
+    }
+}
@@ -0,0 +1,215 @@
+package com.sparta.myselectshop.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.myselectshop.aop.UseWorkload;
+import com.sparta.myselectshop.config.WorkloadRoutingDataSource.Workload;
+import com.sparta.myselectshop.dto.ProductExportRowDto;
+import com.sparta.myselectshop.repository.ProductRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * ✅ ProductExportService 클래스는 모든 상품을 JSON 배열, NDJSON 또는 CSV 형식으로 내보내는 서비스 클래스입니다.
+ *
+ *    ➡️ 상품 목록을 메모리에 모으지 않고, 데이터베이스에서 한 행씩 읽는 즉시 출력 스트림에 기록하므로 상품 수와 관계없이 일정한 메모리만 사용합니다.
+ *    ➡️ 상품-폴더 조인 결과는 상품 ID 순으로 정렬되어 있으므로, 상품 ID가 바뀔 때마다 이전 상품 한 건을 기록합니다.
+ */
+@Service // 이 클래스가 Spring의 서비스 컴포넌트임을 나타냅니다.
+@RequiredArgsConstructor // final 필드를 생성자 주입 방식으로 초기화합니다.
+public class ProductExportService {
+
+    private final ProductRepository productRepository; // 상품을 스트리밍 조회하는 리포지토리
+    private final ObjectMapper objectMapper; // JSON 직렬화를 위한 ObjectMapper
+
+    /**
+     * ✅ 내보내기 형식을 정의합니다.
+     */
+    public enum Format {
+        JSON("application/json", "json"), // 모든 상품을 하나의 JSON 배열로 기록합니다. (관리자용 전체 상품 조회 응답)
+        NDJSON("application/x-ndjson", "ndjson"), // 한 줄에 상품 하나를 JSON 객체로 기록합니다.
+        CSV("text/csv", "csv"); // 한 줄에 상품 하나를 기록하며, 폴더 이름은 `|`로 구분합니다.
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return this.contentType;
+        }
+
+        public String getExtension() {
+            return this.extension;
+        }
+
+        /**
+         * ✅ 요청 파라미터에 해당하는 내보내기 형식을 찾습니다.
+         *
+         * @throws IllegalArgumentException 지원하지 않는 형식인 경우 발생하는 예외입니다.
+         */
+        public static Format from(String format) {
+            for (Format value : values()) {
+                if (value.extension.equalsIgnoreCase(format)) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다 : " + format);
+        }
+    }
+
+    /**
+     * ✅ 모든 상품을 지정된 형식으로 출력 스트림에 기록합니다.
+     *
+     *    ➡️ 조회 스트림은 이 트랜잭션 안에서만 유효하므로, 기록이 끝날 때까지 트랜잭션(과 커넥션)을 유지합니다.
+     *       오래 걸리는 작업이므로 사용자 요청 풀 대신 백그라운드 풀의 커넥션을 사용합니다.
+     *    ➡️ 출력 스트림은 닫지 않으며, 호출한 쪽에서 닫아야 합니다.
+     *
+     * @param format 내보내기 형식입니다.
+     * @param out 상품을 기록할 출력 스트림입니다.
+     * @throws IOException 출력 스트림에 기록하는 중 오류가 발생한 경우 던져집니다.
+     */
+    @UseWorkload(Workload.BACKGROUND) // 사용자 요청과 커넥션 풀을 나누어 사용합니다.
+    @Transactional(readOnly = true)
+    public void export(Format format, OutputStream out) throws IOException {
+        try (Stream<ProductExportRowDto> rows = productRepository.streamAllForExport()) {
+            if (format == Format.CSV) {
+                writeCsv(rows.iterator(), out);
+            } else {
+                writeJson(rows.iterator(), out, format == Format.JSON);
+            }
+        }
+    }
+
+    /**
+     * ✅ 상품을 JSON 배열 또는 NDJSON 형식으로 기록합니다.
+     *
+     *    ➡️ 상품 하나의 필드 구성은 `ProductResponseDto`와 같습니다.
+     *
+     * @param array `true`이면 JSON 배열로, `false`이면 한 줄에 상품 하나씩(NDJSON) 기록합니다.
+     */
+    private void writeJson(Iterator<ProductExportRowDto> rows, OutputStream out, boolean array) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null); // 객체 사이의 구분자는 직접 줄바꿈으로 기록합니다.
+        if (array) {
+            generator.writeStartArray();
+        }
+
+        forEachProduct(rows, (product, folders) -> {
+            generator.writeStartObject();
+            generator.writeNumberField("id", product.getId());
+            generator.writeStringField("title", product.getTitle());
+            generator.writeStringField("link", product.getLink());
+            generator.writeStringField("image", product.getImage());
+            generator.writeNumberField("lprice", product.getLprice());
+            generator.writeNumberField("myprice", product.getMyprice());
+            generator.writeArrayFieldStart("productFolderList");
+            for (ProductExportRowDto folder : folders) {
+                generator.writeStartObject();
+                generator.writeNumberField("id", folder.getFolderId());
+                generator.writeStringField("name", folder.getFolderName());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            if (!array) {
+                generator.writeRaw('\n');
+            }
+        });
+        if (array) {
+            generator.writeEndArray();
+        }
+        generator.flush();
+    }
+
+    /**
+     * ✅ 상품을 CSV 형식으로 기록합니다.
+     */
+    private void writeCsv(Iterator<ProductExportRowDto> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("id,title,link,image,lprice,myprice,folders\n");
+
+        forEachProduct(rows, (product, folders) -> {
+            StringBuilder folderNames = new StringBuilder();
+            for (ProductExportRowDto folder : folders) {
+                if (!folderNames.isEmpty()) {
+                    folderNames.append('|');
+                }
+                folderNames.append(folder.getFolderName());
+            }
+            writer.write(product.getId() + ","
+                + csv(product.getTitle()) + ","
+                + csv(product.getLink()) + ","
+                + csv(product.getImage()) + ","
+                + product.getLprice() + ","
+                + product.getMyprice() + ","
+                + csv(folderNames.toString()) + "\n");
+        });
+        writer.flush();
+    }
+
+    /**
+     * ✅ 상품 ID 순으로 정렬된 행을 상품 단위로 묶어 전달합니다.
+     *
+     *    ➡️ 한 번에 한 상품의 폴더 목록만 메모리에 보관합니다.
+     */
+    private void forEachProduct(Iterator<ProductExportRowDto> rows, ProductWriter writer) throws IOException {
+        ProductExportRowDto current = null; // 현재 묶고 있는 상품의 첫 행
+        List<ProductExportRowDto> folders = new ArrayList<>(); // 현재 상품이 속한 폴더 행
+
+        while (rows.hasNext()) {
+            ProductExportRowDto row = rows.next();
+            if (current != null && !current.getId().equals(row.getId())) {
+                writer.write(current, folders);
+                folders.clear();
+            }
+            if (current == null || !current.getId().equals(row.getId())) {
+                current = row;
+            }
+            if (row.getFolderId() != null) {
+                folders.add(row);
+            }
+        }
+        if (current != null) {
+            writer.write(current, folders);
+        }
+    }
+
+    /**
+     * ✅ CSV 필드 값을 이스케이프합니다.
+     *
+     *    ➡️ 쉼표, 큰따옴표, 줄바꿈이 포함된 값은 큰따옴표로 감싸고, 값 안의 큰따옴표는 두 번 기록합니다.
+     */
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * ✅ 상품 한 건(과 폴더 목록)을 기록하는 함수형 인터페이스입니다.
+     */
+    @FunctionalInterface
+    private interface ProductWriter {
+        void write(ProductExportRowDto product, List<ProductExportRowDto> folders) throws IOException;
+    }
+}
@@ -1,18 +1,37 @@
 package com.sparta.myselectshop.service;
 
-import com.sparta.myselectshop.entity.Folder;
-import com.sparta.myselectshop.entity.ProductFolder;
+import com.sparta.myselectshop.alert.event.PriceDropEvent;
+import com.sparta.myselectshop.aop.UseWorkload;
+import com.sparta.myselectshop.cache.ProductCountCache;
+import com.sparta.myselectshop.cache.UserVersionTracker;
+import com.sparta.myselectshop.cache.UserVersionTracker.Scope;
+import com.sparta.myselectshop.config.ReadYourWritesTracker;
+import com.sparta.myselectshop.config.WorkloadRoutingDataSource.Workload;
+import com.sparta.myselectshop.dto.CursorResponseDto;
+import com.sparta.myselectshop.dto.ProductFolderBulkRequestDto;
+import com.sparta.myselectshop.dto.ProductFolderBulkResponseDto;
+import com.sparta.myselectshop.dto.ProductFolderMoveRequestDto;
 import com.sparta.myselectshop.exception.ProductNotFoundException;
 import com.sparta.myselectshop.repository.FolderRepository;
+import com.sparta.myselectshop.repository.ProductFolderBatchRepository;
 import com.sparta.myselectshop.repository.ProductFolderRepository;
+import com.sparta.myselectshop.repository.ProductFolderRepository.ProductFolderIds;
+import com.sparta.myselectshop.util.KeysetCursorCodec;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Locale;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.transaction.annotation.Transactional;
 import com.sparta.myselectshop.dto.ProductMypriceRequestDto;
 import com.sparta.myselectshop.dto.ProductRequestDto;
 import com.sparta.myselectshop.dto.ProductResponseDto;
 import com.sparta.myselectshop.entity.Product;
+import com.sparta.myselectshop.entity.ProductSortKey;
 import com.sparta.myselectshop.entity.User;
 import com.sparta.myselectshop.entity.UserRoleEnum;
 import com.sparta.myselectshop.naver.dto.ItemDto;
@@ -20,10 +39,14 @@ import com.sparta.myselectshop.repository.ProductRepository;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 
 /**
@@ -40,8 +63,18 @@ public class ProductService {
     private final FolderRepository folderRepository;
     private final ProductFolderRepository productFolderRepository;
     private final MessageSource messageSource;
+    private final PriceHistoryService priceHistoryService; // 최저가 변경 이력을 기록하는 서비스
+    private final ApplicationEventPublisher eventPublisher; // 가격 하락 이벤트를 발행하는 퍼블리셔
+    private final KeysetCursorCodec keysetCursorCodec; // 스크롤 위치와 커서 문자열을 상호 변환하는 코덱
+    private final ProductCountCache productCountCache; // 목록의 전체 건수를 보관하는 캐시
+    private final ProductFolderBatchRepository productFolderBatchRepository; // 상품-폴더 연결을 배치로 저장하는 리포지토리
+    private final UserVersionTracker userVersionTracker; // 사용자별 상품 목록 버전(ETag)을 관리하는 컴포넌트
+    private final ReadYourWritesTracker readYourWritesTracker; // 최근에 상품을 변경한 사용자를 기억하는 컴포넌트
 
     public static final int MIN_MY_PRICE = 100; // 사용자가 설정할 수 있는 최소 가격
+    public static final int MAX_CURSOR_PAGE_SIZE = 100; // 커서 기반 조회 시 한 번에 조회할 수 있는 최대 건수
+    public static final int MAX_BULK_SIZE = 500; // 한 번에 일괄 등록할 수 있는 최대 상품 수
+    public static final int MAX_BULK_FOLDER_SIZE = 50; // 한 번에 상품을 추가할 수 있는 최대 폴더 수
 
     /**
      * ✅ 새로운 상품을 생성합니다.
@@ -60,10 +93,57 @@ public class ProductService {
         // 생성된 Product 엔티티를 데이터베이스에 저장합니다.
         product = productRepository.save(product);
 
+        // 등록 시점의 최저가를 가격 이력의 첫 지점으로 기록합니다.
+        priceHistoryService.record(product.getId(), product.getLprice());
+
+        // 목록 조회에 사용하는 상품 수 캐시에 반영합니다.
+        productCountCache.productsAdded(user.getId(), 1);
+        userVersionTracker.bump(Scope.PRODUCTS, user.getId());
+        readYourWritesTracker.markWritten(user.getId()); // 잠시 동안 이 사용자의 조회는 주 데이터베이스를 읽습니다.
+
         // 저장된 상품 정보를 기반으로 ProductResponseDto를 생성하여 반환합니다.
         return new ProductResponseDto(product);
     }
 
+    /**
+     * ✅ 여러 상품을 한 번에 등록합니다.
+     * <p>
+     * ➡️ 하나의 트랜잭션에서 모든 상품을 저장하며, 시퀀스로 ID를 미리 할당받으므로 insert가 JDBC 배치로 묶여 실행됩니다.
+     * ➡️ 하나라도 저장에 실패하면 전체 등록이 취소됩니다.
+     *
+     * @param requestDtoList 등록할 상품 정보 목록입니다.
+     * @param user           상품을 등록한 사용자 객체입니다.
+     * @return List<ProductResponseDto> 등록된 상품 정보 목록입니다. 요청한 순서와 같습니다.
+     * @throws IllegalArgumentException 등록할 상품이 없거나, 최대 등록 수를 초과한 경우 발생하는 예외입니다.
+     */
+    @Transactional
+    public List<ProductResponseDto> createProducts(List<ProductRequestDto> requestDtoList, User user) {
+        if (requestDtoList == null || requestDtoList.isEmpty() || requestDtoList.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("한 번에 1개 이상 " + MAX_BULK_SIZE + "개 이하의 상품을 등록해 주세요.");
+        }
+
+        // 요청 데이터로부터 Product 엔티티 목록을 생성하고, 한 번에 저장합니다.
+        List<Product> productList = new ArrayList<>();
+        for (ProductRequestDto requestDto : requestDtoList) {
+            productList.add(new Product(requestDto, user));
+        }
+        productList = productRepository.saveAll(productList);
+
+        // 등록 시점의 최저가를 가격 이력의 첫 지점으로 기록합니다. (커밋 이후 배치로 저장됩니다.)
+        List<ProductResponseDto> responseDtoList = new ArrayList<>();
+        for (Product product : productList) {
+            priceHistoryService.record(product.getId(), product.getLprice());
+            responseDtoList.add(new ProductResponseDto(product));
+        }
+
+        // 목록 조회에 사용하는 상품 수 캐시에 반영합니다. (커밋 이후 반영됩니다.)
+        productCountCache.productsAdded(user.getId(), productList.size());
+        userVersionTracker.bump(Scope.PRODUCTS, user.getId());
+        readYourWritesTracker.markWritten(user.getId()); // 잠시 동안 이 사용자의 조회는 주 데이터베이스를 읽습니다.
+
+        return responseDtoList;
+    }
+
     /**
      * ✅ 주어진 상품 ID에 해당하는 상품의 사용자 설정 가격을 업데이트하는 메서드입니다.
      *
@@ -109,6 +189,11 @@ public class ProductService {
 
         // 조회된 상품의 가격을 업데이트합니다.
         product.update(requestDto);
+        userVersionTracker.bump(Scope.PRODUCTS, product.getUser().getId()); // 상품 목록의 ETag를 무효화합니다.
+        readYourWritesTracker.markWritten(product.getUser().getId()); // 잠시 동안 이 사용자의 조회는 주 데이터베이스를 읽습니다.
+
+        // 희망가를 현재 최저가 이상으로 올린 경우, 최저가가 바뀌지 않으면 가격 갱신에서 알림 여부를 다시 확인하지 않으므로 여기서 확인합니다.
+        publishPriceDropIfNeeded(product);
 
         // 업데이트된 상품 정보를 기반으로 ProductResponseDto를 생성하여 반환합니다.
         return new ProductResponseDto(product);
@@ -119,6 +204,7 @@ public class ProductService {
      * ✅ 데이터베이스에서 현재 사용자가 등록한 모든 상품 정보를 조회하여 페이지네이션된 DTO 리스트로 변환합니다.
      * <p>
      * ➡️ 데이터베이스에서 사용자가 등록한 상품을 조회하고, 각 상품을 `ProductResponseDto`로 변환하여 반환합니다.
+     * ➡️ 전체 건수는 COUNT 쿼리 대신 ProductCountCache에서 가져옵니다.
      *
      * @param user   상품을 조회할 사용자 객체입니다.
      * @param page   조회할 페이지 번호입니다.
@@ -126,13 +212,14 @@ public class ProductService {
      * @param sortBy 정렬 기준이 되는 필드명입니다.
      * @param isAsc  오름차순 정렬 여부를 나타냅니다.
      * @return Page<ProductResponseDto> 사용자가 등록한 모든 상품 정보를 담고 있는 페이지네이션된 DTO 객체 리스트입니다.
+     * @throws IllegalArgumentException 지원하지 않는 정렬 기준인 경우 발생하는 예외입니다.
      */
+    @UseWorkload(Workload.REPLICA_READ) // 복제본을 읽을 수 있으면 복제본에서 조회합니다.
     @Transactional(readOnly = true)
     public Page<ProductResponseDto> getProducts(User user, int page, int size, String sortBy,
         boolean isAsc) {
-        // 정렬 방식을 설정합니다.
-        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, sortBy);
+        // 정렬 방식을 설정합니다. 같은 정렬 키 값 안에서는 인덱스 순서와 같도록 id로 정렬합니다.
+        Sort sort = indexedSort(sortBy, isAsc);
         Pageable pageable = PageRequest.of(page, size, sort);
 
         // 사용자의 역할에 따라 다른 조회 로직을 적용합니다.
@@ -140,16 +227,99 @@ public class ProductService {
         Page<Product> productList;
 
         // 일반 사용자는 자신의 상품만 조회하고, 관리자는 모든 상품을 조회합니다.
+        // 전체 건수는 마지막 페이지 여부를 알 수 없을 때만 캐시에서 가져옵니다.
         if (userRoleEnum == UserRoleEnum.USER) {
-            productList = productRepository.findAllByUser(user, pageable);
+            productList = PageableExecutionUtils.getPage(productRepository.findAllByUser(user, pageable),
+                pageable, () -> productCountCache.countByUser(user));
         } else {
-            productList = productRepository.findAll(pageable);
+            productList = PageableExecutionUtils.getPage(productRepository.findAllBy(pageable),
+                pageable, productCountCache::countAll);
         }
 
-        // 조회한 상품 목록을 ProductResponseDto로 변환하여 반환합니다.
+        // 조회한 상품의 폴더를 한 번에 함께 조회한 뒤, ProductResponseDto로 변환하여 반환합니다.
+        fetchFolders(productList.getContent());
         return productList.map(ProductResponseDto::new);
     }
 
+    /**
+     * ✅ 현재 사용자가 등록한 상품을 커서(keyset) 기반으로 조회합니다.
+     * <p>
+     * ➡️ `getProducts`와 같은 정렬 조건을 사용하지만, OFFSET 대신 마지막으로 조회한 `(정렬 키, id)` 이후부터 조회하므로 깊은 페이지도 빠르게 조회됩니다.
+     * ➡️ 전체 상품 수는 `withCount`가 true일 때만 조회합니다.
+     *
+     * @param user      상품을 조회할 사용자 객체입니다. 관리자는 모든 상품을 조회합니다.
+     * @param cursor    이전 응답에서 받은 커서입니다. 첫 페이지는 null입니다.
+     * @param size      한 번에 조회할 항목 수입니다.
+     * @param sortBy    정렬 기준이 되는 필드명입니다.
+     * @param isAsc     오름차순 정렬 여부를 나타냅니다.
+     * @param withCount 전체 상품 수를 함께 조회할지 여부입니다.
+     * @return CursorResponseDto<ProductResponseDto> 조회된 상품 목록과 다음 커서입니다.
+     * @throws IllegalArgumentException 커서 형식이나 조회 건수가 잘못되었거나, 커서를 만든 정렬 조건과 다른 경우 발생하는 예외입니다.
+     */
+    @UseWorkload(Workload.REPLICA_READ) // 복제본을 읽을 수 있으면 복제본에서 조회합니다.
+    @Transactional(readOnly = true)
+    public CursorResponseDto<ProductResponseDto> scrollProducts(User user, String cursor, int size,
+        String sortBy, boolean isAsc, boolean withCount) {
+        validateCursorPageSize(size);
+        Sort sort = indexedSort(sortBy, isAsc);
+        ScrollPosition position = keysetCursorCodec.decode(cursor, sort);
+
+        // 일반 사용자는 자신의 상품만 조회하고, 관리자는 모든 상품을 조회합니다.
+        Window<Product> window;
+        Long totalElements = null;
+        if (user.getRole() == UserRoleEnum.USER) {
+            window = productRepository.findAllByUser(user, position, sort, Limit.of(size));
+            if (withCount) {
+                totalElements = productCountCache.countByUser(user);
+            }
+        } else {
+            window = productRepository.findAllBy(position, sort, Limit.of(size));
+            if (withCount) {
+                totalElements = productCountCache.countAll();
+            }
+        }
+
+        return toCursorResponse(window, sort, totalElements);
+    }
+
+    /**
+     * ✅ 현재 사용자의 상품 중 최저가가 희망가 이하로 내려간 상품을 커서 기반으로 조회합니다.
+     * <p>
+     * ➡️ 최근 등록한 상품부터 `size`건씩 조회하며, 응답의 `nextCursor`를 다음 요청의 `cursor`로 전달하면 이어서 조회합니다.
+     *
+     * @param user   상품을 조회할 사용자 객체입니다.
+     * @param cursor 이전 응답에서 받은 커서입니다. 첫 페이지는 null입니다.
+     * @param size   한 번에 조회할 항목 수입니다.
+     * @return CursorResponseDto<ProductResponseDto> 조회된 상품 목록과 다음 커서입니다.
+     * @throws IllegalArgumentException 커서 형식이나 조회 건수가 잘못된 경우 발생하는 예외입니다.
+     */
+    @UseWorkload(Workload.REPLICA_READ) // 복제본을 읽을 수 있으면 복제본에서 조회합니다.
+    @Transactional(readOnly = true)
+    public CursorResponseDto<ProductResponseDto> getProductsAtOrBelowMyPrice(User user, String cursor, int size) {
+        validateCursorPageSize(size);
+
+        // 커서는 마지막으로 조회한 상품 ID입니다. 첫 페이지는 가장 큰 ID부터 조회합니다.
+        Long lastId = cursor == null ? Long.MAX_VALUE : Long.parseLong(cursor);
+
+        // 다음 페이지 존재 여부를 확인하기 위해 한 건을 더 조회합니다.
+        List<Product> productList = productRepository.findAllByUserAndPriceReachedTrueAndIdLessThanOrderByIdDesc(
+            user, lastId, Limit.of(size + 1));
+
+        boolean hasNext = productList.size() > size;
+        if (hasNext) {
+            productList = productList.subList(0, size);
+        }
+
+        fetchFolders(productList); // 상품의 폴더를 한 번에 함께 조회합니다.
+        List<ProductResponseDto> responseDtoList = new ArrayList<>();
+        for (Product product : productList) {
+            responseDtoList.add(new ProductResponseDto(product));
+        }
+
+        String nextCursor = hasNext ? String.valueOf(productList.get(size - 1).getId()) : null;
+        return new CursorResponseDto<>(responseDtoList, nextCursor);
+    }
+
     /**
      * ✅ 주어진 상품 ID와 ItemDto를 사용하여 상품 정보를 업데이트합니다.
      * <p>
@@ -167,37 +337,40 @@ public class ProductService {
             new NullPointerException("해당 상품은 존재하지 않습니다.")
         );
 
-        // 조회된 상품의 정보를 ItemDto를 사용하여 업데이트합니다.
-        product.updateByItemDto(itemDto);
+        // 조회된 상품의 정보를 ItemDto를 사용하여 업데이트하고, 최저가가 변경된 경우에만 이력을 기록합니다.
+        if (product.updateByItemDto(itemDto)) {
+            priceHistoryService.record(product.getId(), product.getLprice());
+            userVersionTracker.bump(Scope.PRODUCTS, product.getUser().getId()); // 상품 목록의 ETag를 무효화합니다.
+        }
+
+        publishPriceDropIfNeeded(product);
     }
 
     /**
-     * ✅ 데이터베이스에서 모든 상품 정보를 조회하여 DTO 리스트로 변환합니다.
+     * ✅ 최저가가 희망가 이하이고 아직 이 가격으로 알림을 보내지 않았다면 가격 하락 이벤트를 발행합니다.
      * <p>
-     * ➡️ 데이터베이스에서 모든 상품을 조회하고, 각 상품을 `ProductResponseDto`로 변환한 후, 변환된 DTO 객체들을 리스트로 반환합니다.
+     * ➡️ 알림 기록은 상품과 함께 커밋되며, 이벤트는 커밋 이후 알림 큐에 전달됩니다. 희망가를 설정하지 않은 상품(0원)은 제외합니다.
      *
-     * @return List<ProductResponseDto> 모든 상품 정보를 담고 있는 `ProductResponseDto` 객체 리스트입니다.
+     * @param product 최저가 또는 희망가가 변경된 상품입니다.
      */
-    public List<ProductResponseDto> getAllProducts() {
-        // 데이터베이스에서 모든 상품을 조회합니다.
-        List<Product> productList = productRepository.findAll();
-
-        // 조회한 상품을 DTO 리스트로 변환하기 위한 빈 리스트를 생성합니다.
-        List<ProductResponseDto> responseDtoList = new ArrayList<>();
-
-        // 조회한 각 상품을 ProductResponseDto로 변환하여 리스트에 추가합니다.
-        for (Product product : productList) {
-            responseDtoList.add(new ProductResponseDto(product));
+    private void publishPriceDropIfNeeded(Product product) {
+        if (product.markPriceAlert()) {
+            eventPublisher.publishEvent(new PriceDropEvent(
+                product.getUser().getId(),
+                product.getId(),
+                product.getTitle(),
+                product.getLprice(),
+                product.getMyprice()
+            ));
         }
-        // 변환된 DTO 리스트를 반환합니다.
-        return responseDtoList;
     }
 
     /**
      * ✅ 주어진 상품과 폴더를 연결하여 폴더에 상품을 추가하는 메서드입니다.
      * <p>
-     * ➡️ 주어진 상품 ID와 폴더 ID를 기반으로 상품과 폴더를 조회하고, 로그인한 사용자가 이 상품과 폴더의 소유자인지 확인합니다. ➡️ 상품과 폴더의 중복 연결 여부를
-     * 확인한 후, 중복이 없으면 상품과 폴더의 연결을 생성합니다.
+     * ➡️ 주어진 상품 ID와 폴더 ID가 로그인한 사용자의 소유인지 인덱스만으로 확인하며, 상품과 폴더 엔티티는 로딩하지 않습니다.
+     * ➡️ 상품과 폴더의 연결은 `INSERT IGNORE`로 저장하며, 저장된 행이 없으면 (유니크 제약 조건에 걸리면) 중복으로 판단합니다.
+     *     중복 확인과 저장을 한 번의 쿼리로 처리하므로 동시 요청에도 중복 연결이 생기지 않습니다.
      *
      * @param productId 상품의 고유 ID입니다.
      * @param folderId  폴더의 고유 ID입니다.
@@ -205,34 +378,164 @@ public class ProductService {
      * @throws NullPointerException     상품 또는 폴더가 존재하지 않을 경우 발생하는 예외입니다.
      * @throws IllegalArgumentException 로그인한 사용자가 상품이나 폴더의 소유자가 아니거나, 중복된 폴더를 추가하려는 경우 발생하는 예외입니다.
      */
+    @Transactional
     public void addFolder(Long productId, Long folderId, User user) {
 
-        // 1) 상품을 조회합니다.
-        Product product = productRepository.findById(productId).orElseThrow(() ->
-            new NullPointerException("해당 상품이 존재하지 않습니다.")
-        );
+        // 1) 상품과 폴더가 모두 로그인한 회원의 소유인지 확인합니다.
+        boolean productOwned = productRepository.existsByIdAndUserId(productId, user.getId());
+        boolean folderOwned = folderRepository.existsByIdAndUserId(folderId, user.getId());
+
+        // 2) 소유하지 않은 경우에만 존재 여부를 확인하여, 존재하지 않는 상품/폴더와 다른 회원의 상품/폴더를 구분합니다.
+        if (!productOwned || !folderOwned) {
+            if (!productOwned && !productRepository.existsById(productId)) {
+                throw new NullPointerException("해당 상품이 존재하지 않습니다.");
+            }
+            if (!folderOwned && !folderRepository.existsById(folderId)) {
+                throw new NullPointerException("해당 폴더가 존재하지 않습니다.");
+            }
+            throw new IllegalArgumentException("회원님의 관심상품이 아니거나, 회원님의 폴더가 아닙니다.");
+        }
 
-        // 2) 폴더를 조회합니다.
-        Folder folder = folderRepository.findById(folderId).orElseThrow(
-            () -> new NullPointerException("해당 폴더가 존재하지 않습니다.")
-        );
+        // 3) 상품과 폴더의 연결을 생성합니다. 이미 연결되어 있으면 저장되지 않습니다.
+        if (productFolderRepository.insertIgnore(productId, folderId) == 0) {
+            throw new IllegalArgumentException("중복된 폴더입니다.");
+        }
 
-        // 3) 조회한 폴더와 상품이 모두 로그인한 회원의 소유인지 확인합니다.
-        if (!product.getUser().getId().equals(user.getId())
-            || !folder.getUser().getId().equals(user.getId())) {
+        // 4) 폴더별 상품 수 캐시와 상품 목록 버전에 반영합니다.
+        productCountCache.productsAddedToFolder(user.getId(), folderId, 1);
+        userVersionTracker.bump(Scope.PRODUCTS, user.getId());
+        readYourWritesTracker.markWritten(user.getId()); // 잠시 동안 이 사용자의 조회는 주 데이터베이스를 읽습니다.
+    }
+
+    /**
+     * ✅ 여러 상품을 여러 폴더에 한 번에 추가하는 메서드입니다.
+     * <p>
+     * ➡️ 하나의 트랜잭션에서 주어진 모든 상품을 주어진 모든 폴더에 추가하며, 이미 연결된 (상품, 폴더) 쌍은 건너뜁니다.
+     * ➡️ 상품과 폴더의 소유 여부는 각각 한 번의 COUNT 쿼리로, 중복 여부는 한 번의 IN 쿼리로 확인하고,
+     *     새 연결만 JDBC 배치로 저장합니다. 상품, 폴더, 사용자 엔티티는 로딩하지 않습니다.
+     *
+     * @param requestDto 추가할 상품 ID 목록과 폴더 ID 목록입니다.
+     * @param user       현재 로그인한 사용자 객체입니다.
+     * @return ProductFolderBulkResponseDto 새로 추가된 연결 수와 건너뛴 연결 수입니다.
+     * @throws IllegalArgumentException 목록이 비어 있거나 최대 수를 초과한 경우,
+     *                                  또는 로그인한 사용자의 상품이나 폴더가 아닌 ID가 포함된 경우 발생하는 예외입니다.
+     */
+    @Transactional
+    public ProductFolderBulkResponseDto addProductsToFolders(ProductFolderBulkRequestDto requestDto, User user) {
+        Set<Long> productIds = distinctIds(requestDto.getProductIds(), MAX_BULK_SIZE, "상품");
+        Set<Long> folderIds = distinctIds(requestDto.getFolderIds(), MAX_BULK_FOLDER_SIZE, "폴더");
+
+        // 1) 상품과 폴더가 모두 로그인한 회원의 소유인지 확인합니다.
+        validateOwnership(productIds, folderIds, user);
+
+        // 2) 이미 연결된 쌍을 제외하고 새 연결만 저장합니다.
+        int added = linkProductsToFolders(productIds, folderIds, user);
+        userVersionTracker.bump(Scope.PRODUCTS, user.getId());
+        readYourWritesTracker.markWritten(user.getId()); // 잠시 동안 이 사용자의 조회는 주 데이터베이스를 읽습니다.
+        return new ProductFolderBulkResponseDto(added, productIds.size() * folderIds.size() - added, 0);
+    }
+
+    /**
+     * ✅ 여러 상품을 한 폴더에서 다른 폴더로 한 번에 옮기는 메서드입니다.
+     * <p>
+     * ➡️ 하나의 트랜잭션에서 원래 폴더의 연결을 한 번의 DELETE로 삭제하고, 대상 폴더에 없는 연결만 배치로 추가합니다.
+     * ➡️ 원래 폴더에 없던 상품도 대상 폴더에는 추가됩니다.
+     *
+     * @param requestDto 옮길 상품 ID 목록과 원래 폴더 ID, 대상 폴더 ID입니다.
+     * @param user       현재 로그인한 사용자 객체입니다.
+     * @return ProductFolderBulkResponseDto 대상 폴더에 새로 추가된 연결 수, 이미 있어 건너뛴 연결 수, 원래 폴더에서 제거된 연결 수입니다.
+     * @throws IllegalArgumentException 목록이 비어 있거나 최대 수를 초과한 경우, 원래 폴더와 대상 폴더가 같은 경우,
+     *                                  또는 로그인한 사용자의 상품이나 폴더가 아닌 ID가 포함된 경우 발생하는 예외입니다.
+     */
+    @Transactional
+    public ProductFolderBulkResponseDto moveProductsBetweenFolders(ProductFolderMoveRequestDto requestDto, User user) {
+        Set<Long> productIds = distinctIds(requestDto.getProductIds(), MAX_BULK_SIZE, "상품");
+        Long fromFolderId = requestDto.getFromFolderId();
+        Long toFolderId = requestDto.getToFolderId();
+        if (fromFolderId == null || toFolderId == null || fromFolderId.equals(toFolderId)) {
+            throw new IllegalArgumentException("서로 다른 두 폴더를 지정해 주세요.");
+        }
+
+        // 1) 상품과 두 폴더가 모두 로그인한 회원의 소유인지 확인합니다.
+        validateOwnership(productIds, Set.of(fromFolderId, toFolderId), user);
+
+        // 2) 원래 폴더에서 상품들을 뺍니다.
+        int removed = productFolderRepository.deleteByFolderIdAndProductIdIn(fromFolderId, productIds);
+        productCountCache.productsRemovedFromFolder(user.getId(), fromFolderId, removed);
+
+        // 3) 대상 폴더에 없는 연결만 추가합니다.
+        int added = linkProductsToFolders(productIds, Set.of(toFolderId), user);
+        userVersionTracker.bump(Scope.PRODUCTS, user.getId());
+        readYourWritesTracker.markWritten(user.getId()); // 잠시 동안 이 사용자의 조회는 주 데이터베이스를 읽습니다.
+        return new ProductFolderBulkResponseDto(added, productIds.size() - added, removed);
+    }
+
+    /**
+     * ✅ 요청한 ID 목록의 중복을 제거하고, 개수가 허용 범위 안에 있는지 확인합니다.
+     */
+    private Set<Long> distinctIds(List<Long> ids, int max, String name) {
+        if (ids == null || ids.isEmpty() || ids.contains(null)) {
+            throw new IllegalArgumentException(name + " ID 목록을 입력해 주세요.");
+        }
+        Set<Long> distinct = new LinkedHashSet<>(ids);
+        if (distinct.size() > max) {
+            throw new IllegalArgumentException("한 번에 " + max + "개 이하의 " + name + "만 처리할 수 있습니다.");
+        }
+        return distinct;
+    }
+
+    /**
+     * ✅ 주어진 상품과 폴더가 모두 로그인한 사용자의 소유인지 확인합니다.
+     *
+     *    ➡️ 존재하지 않는 ID도 소유한 수에 포함되지 않으므로 함께 걸러집니다.
+     */
+    private void validateOwnership(Set<Long> productIds, Set<Long> folderIds, User user) {
+        if (productRepository.countByIdInAndUserId(productIds, user.getId()) != productIds.size()
+            || folderRepository.countByIdInAndUserId(folderIds, user.getId()) != folderIds.size()) {
             throw new IllegalArgumentException("회원님의 관심상품이 아니거나, 회원님의 폴더가 아닙니다.");
         }
+    }
 
-        // 4) 상품과 폴더의 중복 연결 여부를 확인합니다.
-        Optional<ProductFolder> overlapFolder = productFolderRepository.findByProductAndFolder(
-            product, folder);
+    /**
+     * ✅ 주어진 상품과 폴더 사이에 아직 없는 연결만 배치로 저장합니다.
+     *
+     *    ➡️ 조회 이후 동시 요청이 같은 연결을 먼저 저장하면 `INSERT IGNORE`가 그 행을 무시하므로,
+     *       추가된 수와 폴더별 상품 수 캐시는 조회 결과가 아니라 실제로 저장된 행을 기준으로 반영합니다.
+     *
+     * @return 새로 저장한 연결 수
+     */
+    private int linkProductsToFolders(Set<Long> productIds, Set<Long> folderIds, User user) {
+        // 이미 존재하는 연결을 폴더별로 모읍니다.
+        Map<Long, Set<Long>> existing = new HashMap<>();
+        for (ProductFolderIds ids : productFolderRepository.findIdsByProductIdInAndFolderIdIn(productIds, folderIds)) {
+            existing.computeIfAbsent(ids.getFolderId(), folderId -> new HashSet<>()).add(ids.getProductId());
+        }
 
-        if (overlapFolder.isPresent()) {
-            throw new IllegalArgumentException("중복된 폴더입니다.");
+        List<Long[]> newPairs = new ArrayList<>();
+        for (Long folderId : folderIds) {
+            Set<Long> linked = existing.getOrDefault(folderId, Set.of());
+            for (Long productId : productIds) {
+                if (!linked.contains(productId)) {
+                    newPairs.add(new Long[]{productId, folderId});
+                }
+            }
+        }
+        if (newPairs.isEmpty()) {
+            return 0;
         }
 
-        // 5) 상품과 폴더의 연결을 생성합니다.
-        productFolderRepository.save(new ProductFolder(product, folder));
+        // 실제로 저장된 연결만 폴더별로 셉니다.
+        boolean[] inserted = productFolderBatchRepository.insertAll(newPairs);
+        Map<Long, Integer> addedByFolder = new LinkedHashMap<>();
+        int added = 0;
+        for (int i = 0; i < newPairs.size(); i++) {
+            if (inserted[i]) {
+                addedByFolder.merge(newPairs.get(i)[1], 1, Integer::sum);
+                added++;
+            }
+        }
+        addedByFolder.forEach((folderId, count) -> productCountCache.productsAddedToFolder(user.getId(), folderId, count));
+        return added;
     }
 
     /**
@@ -248,7 +551,9 @@ public class ProductService {
      * @param isAsc    오름차순 정렬 여부를 나타냅니다. true일 경우 오름차순, false일 경우 내림차순입니다.
      * @param user     현재 인증된 사용자 객체입니다. 이 정보는 폴더의 소유자와 상품의 소유자를 확인하는 데 사용됩니다.
      * @return Page<ProductResponseDto> 주어진 폴더에 등록된 상품 정보를 포함하는 페이지네이션된 DTO 객체 리스트입니다.
+     * @throws IllegalArgumentException 지원하지 않는 정렬 기준이거나, 로그인한 사용자의 폴더가 아닌 경우 발생하는 예외입니다.
      */
+    @UseWorkload(Workload.REPLICA_READ) // 복제본을 읽을 수 있으면 복제본에서 조회합니다.
     @Transactional(readOnly = true)
     public Page<ProductResponseDto> getProductsInFolder(
         Long folderId, // 폴더 ID로 상품 목록을 조회합니다.
@@ -258,21 +563,133 @@ public class ProductService {
         boolean isAsc, // 오름차순 정렬 여부를 설정합니다.
         User user // 현재 인증된 사용자의 정보를 사용하여 폴더 및 상품 소유 여부를 확인합니다.
     ) {
-        // 정렬 방향을 설정합니다. isAsc가 true이면 오름차순, false이면 내림차순입니다.
-        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
-        // Sort 객체를 생성하여 정렬 기준을 설정합니다.
-        Sort sort = Sort.by(direction, sortBy);
+        // 조회하려는 폴더가 로그인한 회원의 소유인지 확인합니다.
+        validateFolderOwnership(folderId, user);
+
+        // 지원하는 정렬 기준인지 확인하고, 정렬 방향(isAsc)에 따라 Sort 객체를 생성합니다.
+        Sort sort = indexedSort(sortBy, isAsc);
         // Pageable 객체를 생성하여 페이지 번호, 페이지 크기, 정렬 기준을 설정합니다.
         Pageable pageable = PageRequest.of(page, size, sort);
 
         // 폴더 ID와 사용자 정보를 기반으로 해당 폴더에 등록된 상품을 조회합니다.
-        Page<Product> products = productRepository.findAllByUserAndProductFolderList_FolderId(user,
-            folderId, pageable);
+        // 전체 건수는 COUNT 쿼리 대신 폴더별 상품 수 캐시에서 가져옵니다.
+        Page<Product> products = PageableExecutionUtils.getPage(
+            productRepository.findAllByUserAndProductFolderList_FolderId(user, folderId, pageable),
+            pageable, () -> productCountCache.countInFolder(user, folderId));
 
-        // 조회된 상품을 ProductResponseDto로 변환하여 페이지네이션된 결과를 반환합니다.
+        // 조회된 상품의 폴더를 한 번에 함께 조회한 뒤, ProductResponseDto로 변환하여 페이지네이션된 결과를 반환합니다.
+        fetchFolders(products.getContent());
         Page<ProductResponseDto> responseDtoList = products.map(ProductResponseDto::new);
 
         // 변환된 DTO 리스트를 반환합니다.
         return responseDtoList;
     }
-}
\ No newline at end of file
+
+    /**
+     * ✅ 주어진 폴더에 등록된 상품을 커서(keyset) 기반으로 조회합니다.
+     * <p>
+     * ➡️ `getProductsInFolder`와 같은 정렬 조건을 사용하지만, OFFSET 대신 마지막으로 조회한 `(정렬 키, id)` 이후부터 조회합니다.
+     * ➡️ 폴더의 전체 상품 수는 `withCount`가 true일 때만 조회합니다.
+     *
+     * @param folderId  조회할 폴더의 고유 ID입니다.
+     * @param cursor    이전 응답에서 받은 커서입니다. 첫 페이지는 null입니다.
+     * @param size      한 번에 조회할 항목 수입니다.
+     * @param sortBy    정렬 기준이 되는 필드명입니다.
+     * @param isAsc     오름차순 정렬 여부를 나타냅니다.
+     * @param withCount 폴더의 전체 상품 수를 함께 조회할지 여부입니다.
+     * @param user      현재 인증된 사용자 객체입니다.
+     * @return CursorResponseDto<ProductResponseDto> 조회된 상품 목록과 다음 커서입니다.
+     * @throws IllegalArgumentException 커서 형식이나 조회 건수가 잘못되었거나, 커서를 만든 정렬 조건과 다른 경우,
+     *                                  또는 로그인한 사용자의 폴더가 아닌 경우 발생하는 예외입니다.
+     */
+    @UseWorkload(Workload.REPLICA_READ) // 복제본을 읽을 수 있으면 복제본에서 조회합니다.
+    @Transactional(readOnly = true)
+    public CursorResponseDto<ProductResponseDto> scrollProductsInFolder(Long folderId, String cursor, int size,
+        String sortBy, boolean isAsc, boolean withCount, User user) {
+        validateCursorPageSize(size);
+        validateFolderOwnership(folderId, user);
+        Sort sort = indexedSort(sortBy, isAsc);
+        ScrollPosition position = keysetCursorCodec.decode(cursor, sort);
+
+        Window<Product> window = productRepository.findAllByUserAndProductFolderList_FolderId(
+            user, folderId, position, sort, Limit.of(size));
+        Long totalElements = withCount
+            ? productCountCache.countInFolder(user, folderId)
+            : null;
+
+        return toCursorResponse(window, sort, totalElements);
+    }
+
+    /**
+     * ✅ 조회한 상품들의 폴더 목록을 한 번의 쿼리로 채웁니다.
+     *
+     *    ➡️ 같은 트랜잭션(영속성 컨텍스트)에서 조회한 상품이어야 하며, 조회한 상품 엔티티의 `productFolderList`가 초기화됩니다.
+     *    ➡️ `ProductResponseDto`로 변환하기 전에 호출하여, 상품마다 폴더를 지연 로딩하는 N+1 쿼리를 막습니다.
+     */
+    private void fetchFolders(List<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>();
+        for (Product product : products) {
+            ids.add(product.getId());
+        }
+        productRepository.findAllWithFoldersByIdIn(ids);
+    }
+
+    /**
+     * ✅ 폴더가 로그인한 사용자의 소유인지 확인합니다.
+     *
+     *    ➡️ 폴더 엔티티를 로딩하지 않고 인덱스만으로 확인합니다.
+     */
+    private void validateFolderOwnership(Long folderId, User user) {
+        if (!folderRepository.existsByIdAndUserId(folderId, user.getId())) {
+            throw new IllegalArgumentException("회원님의 폴더가 아닙니다.");
+        }
+    }
+
+    /**
+     * ✅ 커서 기반 조회의 조회 건수가 허용 범위 안에 있는지 확인합니다.
+     */
+    private void validateCursorPageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 건수는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하로 설정해 주세요.");
+        }
+    }
+
+    /**
+     * ✅ 상품 목록 조회에 사용할 정렬 조건을 생성합니다.
+     *
+     *    ➡️ ProductSortKey에 정의된 정렬 기준만 허용하며, 각 기준은 `(user_id, 정렬 컬럼, id)` 인덱스와 짝을 이룹니다.
+     *    ➡️ 정렬 키 값이 같은 상품이 여러 개일 수 있으므로, 마지막에 고유한 `id`를 같은 방향으로 추가해 순서를 확정합니다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 정렬 기준인 경우 발생하는 예외입니다.
+     */
+    private Sort indexedSort(String sortBy, boolean isAsc) {
+        ProductSortKey sortKey = ProductSortKey.from(sortBy);
+        Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
+        if (sortKey == ProductSortKey.ID) {
+            return Sort.by(direction, sortKey.getProperty());
+        }
+        return Sort.by(direction, sortKey.getProperty()).and(Sort.by(direction, ProductSortKey.ID.getProperty()));
+    }
+
+    /**
+     * ✅ 조회된 Window를 커서 응답으로 변환합니다.
+     *
+     *    ➡️ 다음 페이지가 있으면 마지막 상품의 위치를 커서로 변환하여 함께 반환합니다.
+     */
+    private CursorResponseDto<ProductResponseDto> toCursorResponse(Window<Product> window, Sort sort,
+        Long totalElements) {
+        fetchFolders(window.getContent()); // 상품의 폴더를 한 번에 함께 조회합니다.
+        List<ProductResponseDto> responseDtoList = new ArrayList<>();
+        for (Product product : window) {
+            responseDtoList.add(new ProductResponseDto(product));
+        }
+
+        String nextCursor = window.hasNext() && !window.isEmpty()
+            ? keysetCursorCodec.encode(window.positionAt(window.size() - 1), sort)
+            : null;
+        return new CursorResponseDto<>(responseDtoList, nextCursor, totalElements);
+    }
+}
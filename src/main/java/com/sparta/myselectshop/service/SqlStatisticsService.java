@@ -0,0 +1,80 @@
+package com.sparta.myselectshop.service;
+
+import com.sparta.myselectshop.dto.SqlStatsResponseDto;
+import com.sparta.myselectshop.dto.SqlStatsResponseDto.QueryTiming;
+import com.sparta.myselectshop.monitoring.SqlStatementInspector;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+/**
+ * ✅ SqlStatisticsService 클래스는 Hibernate 통계와 요청별 SQL 집계를 관리자용 응답으로 모으는 서비스 클래스입니다.
+ *
+ *    ➡️ Hibernate 통계는 `hibernate.generate_statistics=true`일 때만 수집됩니다.
+ */
+@Service // 이 클래스가 Spring의 서비스 컴포넌트임을 나타냅니다.
+public class SqlStatisticsService {
+
+    private final Statistics statistics; // Hibernate 통계
+    private final SqlStatementInspector sqlStatementInspector; // SQL 문 실행 횟수와 N+1 의심 SQL 문을 집계하는 컴포넌트
+
+    public SqlStatisticsService(EntityManagerFactory entityManagerFactory, SqlStatementInspector sqlStatementInspector) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.sqlStatementInspector = sqlStatementInspector;
+    }
+
+    /**
+     * ✅ 현재까지 집계된 SQL 실행 통계를 조회합니다.
+     *
+     *    ➡️ 쿼리별 실행 시간은 총 실행 시간이 긴 순서로 정렬하여 `limit`개만 반환합니다.
+     *
+     * @param limit 반환할 쿼리 수입니다.
+     * @return SQL 실행 통계입니다.
+     */
+    public SqlStatsResponseDto getStats(int limit) {
+        List<QueryTiming> slowestQueries = Arrays.stream(statistics.getQueries())
+            .map(query -> toQueryTiming(query, statistics.getQueryStatistics(query)))
+            .sorted(Comparator.comparingLong(QueryTiming::getExecutionTotalTime).reversed())
+            .limit(Math.max(0, limit))
+            .toList();
+
+        return new SqlStatsResponseDto(
+            sqlStatementInspector.getStatementCount(),
+            statistics.getQueryExecutionCount(),
+            statistics.getQueryExecutionMaxTime(),
+            statistics.getQueryExecutionMaxTimeQueryString(),
+            statistics.getEntityLoadCount(),
+            statistics.getEntityFetchCount(),
+            statistics.getCollectionFetchCount(),
+            statistics.getTransactionCount(),
+            statistics.getSecondLevelCacheHitCount(),
+            statistics.getSecondLevelCacheMissCount(),
+            slowestQueries,
+            sqlStatementInspector.getNPlusOneSuspects()
+        );
+    }
+
+    /**
+     * ✅ 집계된 통계를 모두 초기화합니다. (부하 테스트 구간별로 측정할 때 사용합니다.)
+     */
+    public void clear() {
+        statistics.clear();
+        sqlStatementInspector.clear();
+    }
+
+    private static QueryTiming toQueryTiming(String query, QueryStatistics queryStatistics) {
+        return new QueryTiming(
+            query,
+            queryStatistics.getExecutionCount(),
+            queryStatistics.getExecutionTotalTime(),
+            queryStatistics.getExecutionAvgTime(),
+            queryStatistics.getExecutionMaxTime(),
+            queryStatistics.getExecutionRowCount()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.sparta.myselectshop.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * ✅ AfterCommit 클래스는 진행 중인 트랜잭션이 커밋된 뒤에 작업을 실행하는 유틸리티 클래스입니다.
+ *
+ *    ➡️ 캐시, 메모리 버퍼 등 데이터베이스 밖의 상태를 바꾸는 작업이 롤백된 변경을 반영하지 않도록 합니다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * ✅ 진행 중인 트랜잭션이 있으면 커밋 이후에, 없으면 즉시 작업을 실행합니다.
+     *
+     *    ➡️ 트랜잭션이 롤백되면 작업은 실행되지 않습니다.
+     *
+     * @param task 실행할 작업입니다.
+     */
+    public static void run(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,418 @@
+package com.sparta.myselectshop.util;
+
+import com.sparta.myselectshop.config.IdSequenceAligner;
+import com.sparta.myselectshop.entity.Folder;
+import com.sparta.myselectshop.entity.UserRoleEnum;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ BulkDataGenerator 클래스는 성능 테스트용 대량 데이터를 생성하는 컴포넌트입니다.
+ *
+ *    ➡️ `datagen` 프로필에서만 활성화되며, 애플리케이션 시작 시 사용자, 상품, 폴더, 상품-폴더 연결을 지정한 수만큼 생성합니다.
+ *    ➡️ 상품과 폴더의 소유자는 Zipf 분포로 고르므로, 소수의 사용자가 대부분의 상품과 폴더를 가진 실제 서비스와 비슷한 분포가 됩니다.
+ *       상품 ID는 생성 시각 순서를 따르며, 소유자는 ID 순서와 관계없이 섞여 있습니다.
+ *    ➡️ 엔티티를 거치지 않고 JDBC 배치로 직접 저장하거나(`datagen.mode=jdbc`),
+ *       `LOAD DATA INFILE`로 읽을 수 있는 CSV 파일로 기록합니다(`datagen.mode=csv`).
+ *    ➡️ 같은 시드로 실행하면 같은 데이터가 생성됩니다. 기존 데이터가 있으면 그 뒤의 ID부터 생성합니다.
+ *
+ *    ➡️ 실행: `./gradlew bootRun --args='--spring.profiles.active=datagen --spring.main.web-application-type=none'`
+ */
+@Slf4j(topic = "BulkDataGenerator")
+@Component // 이 클래스가 Spring의 컴포넌트임을 나타냅니다.
+@Profile("datagen") // datagen 프로필에서만 활성화됩니다.
+public class BulkDataGenerator implements ApplicationRunner {
+
+    private static final String[] BRANDS = {"Apple", "삼성전자", "LG전자", "소니", "로지텍", "샤오미", "다이슨", "나이키", "아디다스", "쿠쿠"};
+    private static final String[] NOUNS = {"무선 이어폰", "노트북", "모니터", "키보드", "마우스", "운동화", "청소기", "밥솥", "헤드폰", "스마트폰"};
+    private static final String[] FOLDER_NAMES = {"위시리스트", "생일 선물", "가전", "패션", "세일 대기", "장바구니", "나중에 보기", "육아", "캠핑", "주방"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final IdSequenceAligner idSequenceAligner;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${datagen.users:100000}")
+    private int userCount; // 생성할 사용자 수
+    @Value("${datagen.products:10000000}")
+    private int productCount; // 생성할 상품 수
+    @Value("${datagen.folders:1000000}")
+    private int folderCount; // 생성할 폴더 수
+    @Value("${datagen.product-folders:20000000}")
+    private long productFolderCount; // 생성할 상품-폴더 연결 수 (사용자별 가능한 조합 수를 넘으면 줄어듭니다.)
+    @Value("${datagen.zipf-exponent:1.1}")
+    private double zipfExponent; // 소유자 분포의 치우침 정도 (클수록 소수 사용자에게 몰립니다.)
+    @Value("${datagen.seed:42}")
+    private long seed; // 난수 시드
+    @Value("${datagen.batch-size:5000}")
+    private int batchSize; // JDBC 배치 한 번에 저장할 행 수
+    @Value("${datagen.mode:jdbc}")
+    private String mode; // jdbc: 데이터베이스에 직접 저장, csv: CSV 파일로 기록
+    @Value("${datagen.output-dir:build/datagen}")
+    private String outputDir; // csv 모드에서 파일을 기록할 디렉터리
+
+    public BulkDataGenerator(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder, IdSequenceAligner idSequenceAligner,
+        EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.idSequenceAligner = idSequenceAligner;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * ✅ 사용자, 폴더, 상품, 상품-폴더 연결 순서로 데이터를 생성합니다.
+     *
+     *    ➡️ 상품과 폴더의 소유자를 메모리에 기록해 두었다가, 같은 사용자의 상품과 폴더끼리만 연결합니다.
+     */
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        long started = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(seed);
+        boolean csv = "csv".equalsIgnoreCase(mode);
+        if (csv) {
+            Files.createDirectories(Path.of(outputDir));
+        }
+
+        long userBase = maxId("users");
+        long folderBase = maxId("folder");
+        long productBase = maxId("product");
+
+        // 1) 사용자
+        String password = passwordEncoder.encode("datagen1234"); // 모든 사용자가 같은 비밀번호를 사용합니다.
+        try (RowSink sink = sink(csv, "users", "id, username, password, email, role")) {
+            for (int u = 0; u < userCount; u++) {
+                long id = userBase + u + 1;
+                sink.add(id, "datagen" + id, password, "datagen" + id + "@datagen.local", UserRoleEnum.USER.name());
+            }
+        }
+        log.info("사용자 " + userCount + "명을 생성했습니다.");
+
+        // 2) 소유자 분포 : 사용자 순위를 무작위로 섞어, ID가 작은 사용자에게만 데이터가 몰리지 않도록 합니다.
+        ZipfSampler owners = new ZipfSampler(userCount, zipfExponent, random);
+
+        // 3) 폴더 : 사용자마다 폴더 이름이 겹치지 않도록 사용자별 순번을 붙입니다.
+        int[] folderOwner = new int[folderCount];
+        int[] foldersPerUser = new int[userCount];
+        try (RowSink sink = sink(csv, "folder", "id, name, normalized_name, user_id")) {
+            for (int f = 0; f < folderCount; f++) {
+                int owner = owners.next(random);
+                folderOwner[f] = owner;
+                String name = FOLDER_NAMES[random.nextInt(FOLDER_NAMES.length)] + " " + (++foldersPerUser[owner]);
+                sink.add(folderBase + f + 1, name, Folder.normalize(name), userBase + owner + 1);
+            }
+        }
+        log.info("폴더 " + folderCount + "개를 생성했습니다.");
+
+        // 4) 상품 : ID 순서대로 생성 시각이 증가하며, 최근 상품일수록 촘촘하게 생성됩니다.
+        int[] productOwner = new int[productCount];
+        LocalDateTime since = LocalDateTime.now().minusYears(2);
+        long spanSeconds = Duration.ofDays(730).toSeconds();
+        try (RowSink sink = sink(csv, "product",
+            "id, title, image, link, lprice, myprice, price_reached, alerted_price, user_id, created_at, modified_at")) {
+            for (int p = 0; p < productCount; p++) {
+                int owner = owners.next(random);
+                productOwner[p] = owner;
+                long id = productBase + p + 1;
+
+                int lprice = (int) Math.min(5_000_000, Math.round(Math.exp(10.5 + 1.2 * gaussian(random)))); // 로그 정규 분포 (중앙값 약 3.6만 원)
+                lprice = Math.max(100, lprice / 10 * 10);
+                int myprice = random.nextInt(10) < 6 ? 0 : Math.max(100, (int) (lprice * (0.7 + 0.4 * random.nextDouble())) / 10 * 10); // 60%는 희망가 미설정
+                boolean priceReached = myprice > 0 && lprice <= myprice;
+                Timestamp createdAt = Timestamp.valueOf(since.plusSeconds((long) (spanSeconds * Math.sqrt((p + random.nextDouble()) / productCount))));
+
+                sink.add(id,
+                    BRANDS[random.nextInt(BRANDS.length)] + " " + NOUNS[random.nextInt(NOUNS.length)] + " " + Long.toString(id, 36).toUpperCase(),
+                    "https://shopping-phinf.pstatic.net/main_" + (id % 100000) + "/" + id + ".jpg",
+                    "https://search.shopping.naver.com/gate.nhn?id=" + (80_000_000_000L + id),
+                    lprice, myprice, priceReached, 0, userBase + owner + 1, createdAt, createdAt);
+            }
+        }
+        log.info("상품 " + productCount + "개를 생성했습니다.");
+
+        // 5) 상품-폴더 연결
+        long links = generateProductFolders(random, csv, productOwner, folderOwner, productBase, folderBase);
+        log.info("상품-폴더 연결 " + links + "개를 생성했습니다.");
+
+        if (csv) {
+            log.info("CSV 파일을 " + Path.of(outputDir).toAbsolutePath() + "에 기록했습니다. "
+                + "LOAD DATA LOCAL INFILE '<파일>' INTO TABLE <테이블> FIELDS TERMINATED BY ',' ENCLOSED BY '\"' IGNORE 1 LINES (<헤더의 컬럼>) 로 읽을 수 있습니다. (첫 줄은 헤더입니다.)");
+        } else {
+            idSequenceAligner.align(); // 직접 지정한 ID 뒤로 시퀀스를 옮깁니다.
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions(); // JDBC로 저장했으므로 2차 캐시와 쿼리 캐시를 비웁니다.
+            analyze();
+        }
+        log.info("데이터 생성을 마쳤습니다. (" + Duration.ofNanos(System.nanoTime() - started).toSeconds() + "초)");
+    }
+
+    /**
+     * ✅ 같은 사용자의 상품과 폴더 사이에 중복 없는 연결을 생성합니다.
+     *
+     *    ➡️ 전체 연결 수를 사용자별 상품 수에 비례하여 나누며, 사용자별로 (상품, 폴더) 조합 수를 넘지 않습니다.
+     *    ➡️ 조합 번호를 조합 수와 서로소인 간격으로 건너뛰며 고르므로, 중복 확인 없이도 같은 연결이 두 번 생기지 않습니다.
+     *
+     * @return 생성한 연결 수
+     */
+    private long generateProductFolders(SplittableRandom random, boolean csv, int[] productOwner, int[] folderOwner,
+        long productBase, long folderBase) throws IOException {
+        int[][] productsByUser = groupByOwner(productOwner);
+        int[][] foldersByUser = groupByOwner(folderOwner);
+
+        long linkable = 0; // 폴더가 있는 사용자의 상품 수
+        for (int u = 0; u < userCount; u++) {
+            if (foldersByUser[u].length > 0) {
+                linkable += productsByUser[u].length;
+            }
+        }
+
+        long created = 0;
+        try (RowSink sink = sink(csv, "product_folder", "product_id, folder_id")) {
+            for (int u = 0; u < userCount && linkable > 0; u++) {
+                int[] products = productsByUser[u];
+                int[] folders = foldersByUser[u];
+                long combinations = (long) products.length * folders.length;
+                if (combinations == 0) {
+                    continue;
+                }
+                long target = Math.min(combinations, Math.round((double) productFolderCount * products.length / linkable));
+                long step = coprimeStep(combinations, random);
+                long index = random.nextLong(combinations);
+                for (long i = 0; i < target; i++) {
+                    sink.add(productBase + products[(int) (index / folders.length)] + 1,
+                        folderBase + folders[(int) (index % folders.length)] + 1);
+                    index = (index + step) % combinations;
+                }
+                created += target;
+            }
+        }
+        return created;
+    }
+
+    /**
+     * ✅ 소유자 배열을 사용자별 인덱스 목록으로 묶습니다. (계수 정렬)
+     */
+    private int[][] groupByOwner(int[] owners) {
+        int[] counts = new int[userCount];
+        for (int owner : owners) {
+            counts[owner]++;
+        }
+        int[][] grouped = new int[userCount][];
+        for (int u = 0; u < userCount; u++) {
+            grouped[u] = new int[counts[u]];
+            counts[u] = 0;
+        }
+        for (int i = 0; i < owners.length; i++) {
+            int owner = owners[i];
+            grouped[owner][counts[owner]++] = i;
+        }
+        return grouped;
+    }
+
+    /**
+     * ✅ `n`과 서로소인 무작위 간격을 고릅니다.
+     */
+    private static long coprimeStep(long n, SplittableRandom random) {
+        if (n == 1) {
+            return 1;
+        }
+        while (true) {
+            long step = 1 + random.nextLong(n - 1);
+            if (gcd(step, n) == 1) {
+                return step;
+            }
+        }
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    /**
+     * ✅ 표준 정규 분포를 따르는 난수를 만듭니다. (Box-Muller 변환)
+     */
+    private static double gaussian(SplittableRandom random) {
+        return Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    /**
+     * ✅ 생성한 데이터로 통계를 갱신하여, 실행 계획이 실제 데이터 분포를 반영하도록 합니다. (MySQL 전용)
+     */
+    private void analyze() {
+        try {
+            jdbcTemplate.execute("ANALYZE TABLE users, folder, product, product_folder");
+        } catch (DataAccessException e) {
+            log.warn("테이블 통계를 갱신하지 못했습니다. (MySQL이 아닌 데이터베이스일 수 있습니다.) : " + e.getMessage());
+        }
+    }
+
+    private RowSink sink(boolean csv, String table, String columns) throws IOException {
+        return csv
+            ? new CsvSink(Path.of(outputDir, table + ".csv"), columns)
+            : new JdbcSink(jdbcTemplate, table, columns, batchSize);
+    }
+
+    /**
+     * ✅ 생성한 행을 기록하는 대상입니다.
+     */
+    private interface RowSink extends AutoCloseable {
+        void add(Object... row) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    /**
+     * ✅ 행을 모아 JDBC 배치 insert로 저장합니다.
+     *
+     *    ➡️ MySQL에서는 JDBC URL에 `rewriteBatchedStatements=true`를 추가해야 배치가 다중 행 insert로 전송됩니다.
+     */
+    private static class JdbcSink implements RowSink {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final String sql;
+        private final int batchSize;
+        private final List<Object[]> rows;
+
+        JdbcSink(JdbcTemplate jdbcTemplate, String table, String columns, int batchSize) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.sql = "INSERT INTO " + table + " (" + columns + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.split(",").length, "?")) + ")";
+            this.batchSize = batchSize;
+            this.rows = new ArrayList<>(batchSize);
+        }
+
+        @Override
+        public void add(Object... row) {
+            rows.add(row);
+            if (rows.size() == batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+
+    /**
+     * ✅ 행을 `LOAD DATA INFILE`로 읽을 수 있는 CSV 파일에 기록합니다.
+     *
+     *    ➡️ 첫 줄은 컬럼 이름이므로, 읽을 때 `IGNORE 1 LINES`를 지정합니다.
+     */
+    private static class CsvSink implements RowSink {
+
+        private final BufferedWriter writer;
+
+        CsvSink(Path file, String columns) throws IOException {
+            this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            writer.write(columns.replace(" ", ""));
+            writer.write('\n');
+        }
+
+        @Override
+        public void add(Object... row) throws IOException {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(format(row[i]));
+            }
+            writer.write('\n');
+        }
+
+        private static String format(Object value) {
+            if (value instanceof Boolean bool) {
+                return bool ? "1" : "0";
+            }
+            if (value instanceof String string) {
+                return '"' + string.replace("\"", "\"\"") + '"';
+            }
+            return String.valueOf(value);
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    /**
+     * ✅ Zipf 분포로 사용자(소유자)를 고르는 샘플러입니다.
+     *
+     *    ➡️ 순위 r의 가중치는 1 / r^s 이며, 누적 가중치에서 이진 탐색으로 순위를 고릅니다.
+     *    ➡️ 순위와 사용자 번호의 대응은 무작위로 섞습니다.
+     */
+    private static class ZipfSampler {
+
+        private final double[] cumulative; // 순위별 누적 가중치
+        private final int[] userByRank; // 순위 -> 사용자 번호
+
+        ZipfSampler(int n, double exponent, SplittableRandom random) {
+            cumulative = new double[n];
+            double sum = 0;
+            for (int r = 0; r < n; r++) {
+                sum += 1 / Math.pow(r + 1, exponent);
+                cumulative[r] = sum;
+            }
+            userByRank = new int[n];
+            for (int i = 0; i < n; i++) {
+                userByRank[i] = i;
+            }
+            for (int i = n - 1; i > 0; i--) { // Fisher-Yates 셔플
+                int j = random.nextInt(i + 1);
+                int t = userByRank[i];
+                userByRank[i] = userByRank[j];
+                userByRank[j] = t;
+            }
+        }
+
+        int next(SplittableRandom random) {
+            double target = random.nextDouble() * cumulative[cumulative.length - 1];
+            int rank = Arrays.binarySearch(cumulative, target);
+            if (rank < 0) {
+                rank = -rank - 1;
+            }
+            return userByRank[Math.min(rank, userByRank.length - 1)];
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.sparta.myselectshop.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ KeysetCursorCodec 클래스는 keyset 스크롤 위치를 클라이언트에게 전달할 불투명한(opaque) 커서 문자열로 변환합니다.
+ *
+ *    ➡️ 마지막 항목의 정렬 키 값과 ID를 타입 정보와 함께 JSON으로 직렬화한 뒤 Base64(URL-safe)로 인코딩합니다.
+ *    ➡️ 커서를 만들 때 사용한 정렬 조건을 함께 기록하여, 정렬 조건이 바뀐 요청에 이전 커서가 쓰이지 않도록 검증합니다.
+ */
+@Component // Spring의 컴포넌트로 등록됩니다.
+@RequiredArgsConstructor // final 필드를 생성자 주입 방식으로 초기화합니다.
+public class KeysetCursorCodec {
+
+    private static final String SORT = "sort"; // 커서를 만든 정렬 조건
+    private static final String KEYS = "keys"; // 정렬 키 이름 -> [타입, 값]
+
+    private final ObjectMapper objectMapper; // 커서 JSON 직렬화를 위한 ObjectMapper
+
+    /**
+     * ✅ 스크롤 위치를 커서 문자열로 변환합니다.
+     *
+     * @param position `Window.positionAt(...)`으로 얻은 keyset 스크롤 위치입니다.
+     * @param sort 조회에 사용한 정렬 조건입니다.
+     * @return 다음 요청에 전달할 커서 문자열입니다.
+     */
+    public String encode(ScrollPosition position, Sort sort) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> key : ((KeysetScrollPosition) position).getKeys().entrySet()) {
+            keys.put(key.getKey(), toTypedValue(key.getValue()));
+        }
+
+        Map<String, Object> cursor = new LinkedHashMap<>();
+        cursor.put(SORT, sort.toString());
+        cursor.put(KEYS, keys);
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(cursor);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("커서를 생성할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * ✅ 커서 문자열을 스크롤 위치로 변환합니다.
+     *
+     * @param cursor 이전 응답에서 받은 커서 문자열입니다. null이면 첫 페이지 위치를 반환합니다.
+     * @param sort 이번 요청의 정렬 조건입니다.
+     * @return keyset 스크롤 위치
+     * @throws IllegalArgumentException 커서 형식이 잘못되었거나, 커서를 만든 정렬 조건과 다른 경우 발생하는 예외입니다.
+     */
+    public ScrollPosition decode(String cursor, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, Object> decoded;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            decoded = objectMapper.readValue(json, new TypeReference<Map<String, Object>>() {});
+        } catch (Exception e) {
+            throw new IllegalArgumentException("올바르지 않은 커서입니다.");
+        }
+
+        if (!sort.toString().equals(decoded.get(SORT)) || !(decoded.get(KEYS) instanceof Map<?, ?> typedKeys)) {
+            throw new IllegalArgumentException("정렬 조건이 변경되어 이전 커서를 사용할 수 없습니다.");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> key : typedKeys.entrySet()) {
+            keys.put(String.valueOf(key.getKey()), fromTypedValue(key.getValue()));
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * ✅ 정렬 키 값을 [타입, 문자열 값] 형태로 변환합니다.
+     *
+     *    ➡️ JSON으로 왕복하면서 LocalDateTime, Long 등의 타입 정보가 사라지지 않도록 타입을 함께 기록합니다.
+     */
+    private static String[] toTypedValue(Object value) {
+        if (value instanceof Long) {
+            return new String[]{"long", value.toString()};
+        } else if (value instanceof Integer) {
+            return new String[]{"int", value.toString()};
+        } else if (value instanceof String) {
+            return new String[]{"string", (String) value};
+        } else if (value instanceof LocalDateTime) {
+            return new String[]{"datetime", value.toString()};
+        } else if (value instanceof Boolean) {
+            return new String[]{"boolean", value.toString()};
+        }
+        throw new IllegalStateException("커서로 변환할 수 없는 정렬 키 타입입니다 : " + value);
+    }
+
+    /**
+     * ✅ [타입, 문자열 값] 형태의 정렬 키 값을 원래 타입으로 되돌립니다.
+     *
+     *    ➡️ 허용된 타입 외에는 변환하지 않으므로, 클라이언트가 임의의 타입을 주입할 수 없습니다.
+     */
+    private static Object fromTypedValue(Object typedValue) {
+        if (!(typedValue instanceof List<?> pair) || pair.size() != 2) {
+            throw new IllegalArgumentException("올바르지 않은 커서입니다.");
+        }
+        String type = String.valueOf(pair.get(0));
+        String value = String.valueOf(pair.get(1));
+        try {
+            return switch (type) {
+                case "long" -> Long.parseLong(value);
+                case "int" -> Integer.parseInt(value);
+                case "string" -> value;
+                case "datetime" -> LocalDateTime.parse(value);
+                case "boolean" -> Boolean.parseBoolean(value);
+                default -> throw new IllegalArgumentException("올바르지 않은 커서입니다.");
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("올바르지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.sparta.myselectshop.alert.service;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.myselectshop.alert.event.PriceDropEvent;
+import com.sparta.myselectshop.repository.ProductRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class) // @Mock 사용을 위해 Mockito 확장을 적용합니다.
+class PriceAlertServiceTest {
+
+    @Mock
+    PriceAlertNotifier priceAlertNotifier;
+
+    @Mock
+    ProductRepository productRepository;
+
+    /**
+     * ✅ 알림 큐가 가득 차면 이벤트를 버리고, 다음 갱신 때 다시 알림을 보낼 수 있도록 알림 기록을 지우는지 확인하는 테스트입니다.
+     */
+    @Test
+    @DisplayName("가격 알림 - 큐가 가득 찬 경우")
+    void test1() {
+        // given (크기가 1인 알림 큐)
+        PriceAlertService priceAlertService = new PriceAlertService(priceAlertNotifier, productRepository, 1);
+        PriceDropEvent queued = new PriceDropEvent(1L, 10L, "맥북", 90_000, 100_000);
+        PriceDropEvent dropped = new PriceDropEvent(1L, 20L, "아이패드", 50_000, 60_000);
+
+        // when (큐 크기보다 많은 이벤트 도착)
+        priceAlertService.onPriceDrop(queued);
+        priceAlertService.onPriceDrop(dropped);
+
+        // then (버린 이벤트의 알림 기록만 지움)
+        verify(productRepository).clearAlertedPrice(20L, 50_000);
+        verify(productRepository, never()).clearAlertedPrice(10L, 90_000);
+
+        // when (다이제스트 전송)
+        priceAlertService.sendDigests();
+
+        // then (큐에 들어간 이벤트만 전송)
+        verify(priceAlertNotifier).notify(1L, List.of(queued));
+    }
+
+    /**
+     * ✅ 큐에 여유가 있으면 알림 기록을 지우지 않는지 확인하는 테스트입니다.
+     */
+    @Test
+    @DisplayName("가격 알림 - 큐에 추가")
+    void test2() {
+        // given
+        PriceAlertService priceAlertService = new PriceAlertService(priceAlertNotifier, productRepository, 10);
+
+        // when
+        priceAlertService.onPriceDrop(new PriceDropEvent(1L, 10L, "맥북", 90_000, 100_000));
+
+        // then
+        verify(productRepository, never()).clearAlertedPrice(anyLong(), anyInt());
+    }
+
+    /**
+     * ✅ 다이제스트 전송에 실패하면, 다음 갱신 때 다시 알림을 보낼 수 있도록 해당 사용자의 알림 기록만 지우는지 확인하는 테스트입니다.
+     */
+    @Test
+    @DisplayName("가격 알림 - 전송 실패")
+    void test3() {
+        // given (사용자 1에게는 전송이 실패함)
+        PriceAlertService priceAlertService = new PriceAlertService(priceAlertNotifier, productRepository, 10);
+        PriceDropEvent failed = new PriceDropEvent(1L, 10L, "맥북", 90_000, 100_000);
+        PriceDropEvent sent = new PriceDropEvent(2L, 20L, "아이패드", 50_000, 60_000);
+        willThrow(new IllegalStateException("메일 서버 응답 없음"))
+            .given(priceAlertNotifier).notify(1L, List.of(failed));
+        priceAlertService.onPriceDrop(failed);
+        priceAlertService.onPriceDrop(sent);
+
+        // when
+        priceAlertService.sendDigests();
+
+        // then (다른 사용자에게는 전송하고, 실패한 사용자의 알림 기록만 지움)
+        verify(priceAlertNotifier).notify(2L, List.of(sent));
+        verify(productRepository).clearAlertedPrice(10L, 90_000);
+        verify(productRepository, never()).clearAlertedPrice(20L, 50_000);
+    }
+}
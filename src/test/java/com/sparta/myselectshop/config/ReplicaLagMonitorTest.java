@@ -0,0 +1,120 @@
+package com.sparta.myselectshop.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * ✅ ReplicaLagMonitorTest 클래스는 복제 지연에 따라 복제본을 읽을지 판단하는 `ReplicaLagMonitor`를 검증합니다.
+ *
+ *    ➡️ 복제본 대신 가짜(Mock) JdbcTemplate이 복제 상태 조회 결과를 돌려줍니다.
+ */
+class ReplicaLagMonitorTest {
+
+    JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(jdbcTemplate, 2);
+
+    /**
+     * ✅ 복제 지연이 허용 범위 안이면 복제본을 읽고, 넘으면 읽지 않는지 확인합니다.
+     */
+    @Test
+    @DisplayName("복제 지연 - 허용 범위")
+    void test1() {
+        // given & when (지연 1초)
+        given(jdbcTemplate.queryForList("SHOW REPLICA STATUS"))
+            .willReturn(List.of(Map.of("Seconds_Behind_Source", 1L)));
+        replicaLagMonitor.check();
+
+        // then
+        assertTrue(replicaLagMonitor.isReadable());
+
+        // given & when (지연 5초)
+        given(jdbcTemplate.queryForList("SHOW REPLICA STATUS"))
+            .willReturn(List.of(Map.of("Seconds_Behind_Source", 5L)));
+        replicaLagMonitor.check();
+
+        // then
+        assertFalse(replicaLagMonitor.isReadable());
+        assertEquals(5, replicaLagMonitor.getLagSeconds());
+    }
+
+    /**
+     * ✅ 복제가 멈추었거나(지연 값 없음) 복제본에 접속할 수 없으면 복제본을 읽지 않는지 확인합니다.
+     */
+    @Test
+    @DisplayName("복제 지연 - 복제 중단, 접속 실패")
+    void test2() {
+        // given & when (복제 중단: Seconds_Behind_Source가 NULL)
+        given(jdbcTemplate.queryForList("SHOW REPLICA STATUS"))
+            .willReturn(List.of(Collections.singletonMap("Seconds_Behind_Source", null)));
+        replicaLagMonitor.check();
+
+        // then
+        assertFalse(replicaLagMonitor.isReadable());
+
+        // given & when (접속 실패)
+        given(jdbcTemplate.queryForList("SHOW REPLICA STATUS"))
+            .willThrow(new DataAccessResourceFailureException("connection refused"));
+        replicaLagMonitor.check();
+
+        // then
+        assertFalse(replicaLagMonitor.isReadable());
+        assertEquals(-1, replicaLagMonitor.getLagSeconds());
+    }
+
+    /**
+     * ✅ 일시적인 오류로 복제 상태를 조회하지 못한 뒤에도, 다음 확인 때 복제 상태를 다시 조회하여 지연을 판단하는지 확인합니다.
+     */
+    @Test
+    @DisplayName("복제 지연 - 일시적인 오류 후 재조회")
+    void test3() {
+        // given (첫 조회는 일시적인 오류, 다음 조회는 지연 5초)
+        given(jdbcTemplate.queryForList("SHOW REPLICA STATUS"))
+            .willThrow(new QueryTimeoutException("pool timeout"))
+            .willReturn(List.of(Map.of("Seconds_Behind_Source", 5L)));
+
+        // when & then (지연을 알 수 없으면 읽지 않음)
+        replicaLagMonitor.check();
+        assertFalse(replicaLagMonitor.isReadable());
+
+        // when & then (다시 조회한 지연이 허용 범위를 넘으므로 읽지 않음)
+        replicaLagMonitor.check();
+        assertFalse(replicaLagMonitor.isReadable());
+        assertEquals(5, replicaLagMonitor.getLagSeconds());
+        verify(jdbcTemplate, times(2)).queryForList("SHOW REPLICA STATUS");
+    }
+
+    /**
+     * ✅ 복제 상태를 조회할 수 없는 데이터베이스(권한 부족 등)의 복제본은 읽지 않는지 확인합니다.
+     */
+    @Test
+    @DisplayName("복제 지연 - 상태 조회 불가")
+    void test4() {
+        // given (SHOW REPLICA STATUS 권한이 없음)
+        given(jdbcTemplate.queryForList("SHOW REPLICA STATUS"))
+            .willThrow(new BadSqlGrammarException("replica status", "SHOW REPLICA STATUS", null));
+
+        // when
+        replicaLagMonitor.check();
+        replicaLagMonitor.check();
+
+        // then (지연을 알 수 없으므로 읽지 않고, 매번 다시 조회함)
+        assertFalse(replicaLagMonitor.isReadable());
+        assertEquals(-1, replicaLagMonitor.getLagSeconds());
+        verify(jdbcTemplate, times(2)).queryForList("SHOW REPLICA STATUS");
+    }
+}
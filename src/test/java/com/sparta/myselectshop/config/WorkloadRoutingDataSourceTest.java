@@ -0,0 +1,277 @@
+package com.sparta.myselectshop.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.myselectshop.config.WorkloadRoutingDataSource.Workload;
+import com.sparta.myselectshop.entity.User;
+import com.sparta.myselectshop.security.UserDetailsImpl;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * ✅ WorkloadRoutingDataSourceTest 클래스는 `DataSourceConfig`가 만드는 DataSource가 작업 종류와 트랜잭션에 따라 올바른 풀을 고르는지 검증합니다.
+ *
+ *    ➡️ 실제 데이터베이스 대신 가짜(Mock) 풀을 사용하며, 어느 풀에서 커넥션을 얻었는지로 라우팅을 확인합니다.
+ *    ➡️ `LazyConnectionDataSourceProxy`를 거쳐 첫 SQL 문 시점에 커넥션을 얻으므로, 트랜잭션의 읽기 전용 여부가 반영되는지도 확인합니다.
+ *       운영 환경과 같이 `JpaTransactionManager`(Hibernate)로 시작한 트랜잭션에서도 확인합니다.
+ */
+class WorkloadRoutingDataSourceTest {
+
+    DataSource interactive = pool();
+    DataSource background = pool();
+    DataSource metrics = pool();
+    DataSource replica = pool();
+    ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+    ReadYourWritesTracker readYourWritesTracker = new ReadYourWritesTracker(5, 100);
+
+    DataSource dataSource;
+    DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        Map<Workload, DataSource> pools = new EnumMap<>(Workload.class);
+        pools.put(Workload.INTERACTIVE, interactive);
+        pools.put(Workload.BACKGROUND, background);
+        pools.put(Workload.METRICS, metrics);
+        pools.put(Workload.REPLICA_READ, replica);
+        dataSource = DataSourceConfig.routingDataSource(pools, lagMonitor, readYourWritesTracker);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        clearInvocations(interactive); // 기본 커넥션 설정을 확인하며 얻은 커넥션은 제외합니다.
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * ✅ 작업 종류를 지정하지 않으면 INTERACTIVE 풀, 지정하면 해당 풀을 사용하는지 확인합니다.
+     */
+    @Test
+    @DisplayName("작업 종류별 풀 선택")
+    void test1() throws SQLException {
+        // when
+        runInTransaction(false);
+        WorkloadRoutingDataSource.run(Workload.BACKGROUND, () -> runInTransaction(false));
+        WorkloadRoutingDataSource.run(Workload.METRICS, () -> runInTransaction(false));
+
+        // then
+        verify(interactive).getConnection();
+        verify(background).getConnection();
+        verify(metrics).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    /**
+     * ✅ REPLICA_READ는 읽기 전용 트랜잭션에서만 복제본을 사용하는지 확인합니다.
+     *
+     *      ➡️ 트랜잭션 시작 시점이 아니라 첫 SQL 문 시점에 커넥션을 얻어야 읽기 전용 여부를 알 수 있습니다.
+     */
+    @Test
+    @DisplayName("REPLICA_READ - 읽기 전용 트랜잭션만 복제본")
+    void test2() throws SQLException {
+        // given
+        given(lagMonitor.isReadable()).willReturn(true);
+
+        // when (읽기 전용 트랜잭션)
+        WorkloadRoutingDataSource.run(Workload.REPLICA_READ, () -> runInTransaction(true));
+
+        // then
+        verify(replica).getConnection();
+        verify(interactive, never()).getConnection();
+
+        // when (읽기/쓰기 트랜잭션)
+        WorkloadRoutingDataSource.run(Workload.REPLICA_READ, () -> runInTransaction(false));
+
+        // then
+        verify(interactive).getConnection();
+    }
+
+    /**
+     * ✅ 복제 지연이 허용 범위를 넘으면 읽기 전용 트랜잭션도 주 데이터베이스를 사용하는지 확인합니다.
+     */
+    @Test
+    @DisplayName("REPLICA_READ - 복제 지연 시 주 데이터베이스")
+    void test3() throws SQLException {
+        // given
+        given(lagMonitor.isReadable()).willReturn(false);
+
+        // when
+        WorkloadRoutingDataSource.run(Workload.REPLICA_READ, () -> runInTransaction(true));
+
+        // then
+        verify(interactive).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    /**
+     * ✅ 최근에 변경한 사용자의 조회는 주 데이터베이스를, 다른 사용자의 조회는 복제본을 사용하는지 확인합니다.
+     */
+    @Test
+    @DisplayName("REPLICA_READ - 최근에 변경한 사용자는 주 데이터베이스")
+    void test4() throws SQLException {
+        // given (사용자 1이 방금 변경함)
+        given(lagMonitor.isReadable()).willReturn(true);
+        readYourWritesTracker.markWritten(1L);
+
+        // when (사용자 1의 조회)
+        login(1L);
+        assertTrue(readYourWritesTracker.isCurrentUserSticky());
+        WorkloadRoutingDataSource.run(Workload.REPLICA_READ, () -> runInTransaction(true));
+
+        // then
+        verify(interactive).getConnection();
+        verify(replica, never()).getConnection();
+
+        // when (사용자 2의 조회)
+        login(2L);
+        assertFalse(readYourWritesTracker.isCurrentUserSticky());
+        WorkloadRoutingDataSource.run(Workload.REPLICA_READ, () -> runInTransaction(true));
+
+        // then
+        verify(replica).getConnection();
+    }
+
+    /**
+     * ✅ 복제본 풀이 없으면 REPLICA_READ도 주 데이터베이스를 사용하는지 확인합니다.
+     */
+    @Test
+    @DisplayName("REPLICA_READ - 복제본 미설정")
+    void test5() throws SQLException {
+        // given (복제본 없이 구성)
+        Map<Workload, DataSource> pools = new EnumMap<>(Workload.class);
+        pools.put(Workload.INTERACTIVE, interactive);
+        pools.put(Workload.BACKGROUND, background);
+        pools.put(Workload.METRICS, metrics);
+        dataSource = DataSourceConfig.routingDataSource(pools, null, readYourWritesTracker);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        clearInvocations(interactive);
+
+        // when
+        WorkloadRoutingDataSource.run(Workload.REPLICA_READ, () -> runInTransaction(true));
+
+        // then
+        verify(interactive).getConnection();
+    }
+
+    /**
+     * ✅ `JpaTransactionManager`로 시작한 트랜잭션에서도 REPLICA_READ가 읽기 전용 여부에 따라 풀을 고르는지 확인합니다.
+     *
+     *      ➡️ Hibernate는 트랜잭션을 시작할 때(읽기 전용 여부가 등록되기 전에) 커넥션을 얻으므로,
+     *         `LazyConnectionDataSourceProxy`가 실제 커넥션을 첫 SQL 문까지 미루는지가 중요합니다.
+     *      ➡️ 데이터베이스 없이 시작하도록 JDBC 메타데이터 조회를 끄고, Spring Boot와 같은 커넥션 처리 방식을 사용합니다.
+     */
+    @Test
+    @DisplayName("REPLICA_READ - JPA 트랜잭션")
+    void test6() throws SQLException {
+        // given (가짜 풀을 사용하는 EntityManagerFactory와 JpaTransactionManager)
+        given(lagMonitor.isReadable()).willReturn(true);
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(WorkloadRoutingDataSourceTest.class.getPackageName()); // 엔티티가 없는 패키지
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+            "hibernate.dialect", "org.hibernate.dialect.MySQLDialect",
+            "hibernate.boot.allow_jdbc_metadata_access", "false",
+            "hibernate.connection.handling_mode", "DELAYED_ACQUISITION_AND_HOLD"));
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        JpaTransactionManager jpaTransactionManager = new JpaTransactionManager(entityManagerFactory);
+
+        try {
+            // when (읽기 전용 트랜잭션)
+            WorkloadRoutingDataSource.run(Workload.REPLICA_READ,
+                () -> runInJpaTransaction(jpaTransactionManager, entityManagerFactory, true));
+
+            // then
+            verify(replica).getConnection();
+            verify(interactive, never()).getConnection();
+
+            // when (읽기/쓰기 트랜잭션)
+            WorkloadRoutingDataSource.run(Workload.REPLICA_READ,
+                () -> runInJpaTransaction(jpaTransactionManager, entityManagerFactory, false));
+
+            // then
+            verify(interactive).getConnection();
+        } finally {
+            factoryBean.destroy();
+        }
+    }
+
+    /**
+     * ✅ JPA 트랜잭션 안에서 Hibernate 세션의 커넥션으로 SQL 문을 하나 실행합니다. (이 시점에 실제 커넥션을 얻습니다.)
+     */
+    private void runInJpaTransaction(JpaTransactionManager jpaTransactionManager,
+        EntityManagerFactory entityManagerFactory, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(jpaTransactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        transactionTemplate.executeWithoutResult(status ->
+            EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory)
+                .unwrap(Session.class)
+                .doWork(Connection::createStatement));
+    }
+
+    /**
+     * ✅ 트랜잭션 안에서 SQL 문을 하나 실행합니다. (이 시점에 실제 커넥션을 얻습니다.)
+     */
+    private void runInTransaction(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                DataSourceUtils.getConnection(dataSource).createStatement();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * ✅ 주어진 ID의 사용자로 로그인한 상태를 만듭니다.
+     */
+    private void login(Long userId) {
+        User user = new User();
+        ReflectionTestUtils.setField(user, "id", userId);
+        UserDetailsImpl userDetails = new UserDetailsImpl(user);
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(userDetails, null, null));
+    }
+
+    /**
+     * ✅ 호출될 때마다 가짜 커넥션을 돌려주는 가짜 풀을 만듭니다.
+     */
+    private static DataSource pool() {
+        DataSource pool = mock(DataSource.class);
+        try {
+            given(pool.getConnection()).willAnswer(invocation -> mock(Connection.class));
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return pool;
+    }
+}
@@ -0,0 +1,43 @@
+package com.sparta.myselectshop.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FolderTest {
+
+    /**
+     * ✅ 조합형(NFD)으로 입력한 한글과 완성형(NFC) 한글을 같은 이름으로 정규화하는지 확인하는 테스트입니다.
+     */
+    @Test
+    @DisplayName("폴더 이름 정규화 - NFC")
+    void test1() {
+        String composed = "가방"; // 완성형
+        String decomposed = "가방"; // 조합형 (ㄱ ㅏ ㅂ ㅏ ㅇ)
+
+        assertEquals(Folder.normalize(composed), Folder.normalize(decomposed));
+        assertEquals("가방", Folder.normalize(decomposed));
+    }
+
+    /**
+     * ✅ 대소문자만 다른 이름을 같은 이름으로 정규화하는지 확인하는 테스트입니다.
+     */
+    @Test
+    @DisplayName("폴더 이름 정규화 - 대소문자")
+    void test2() {
+        assertEquals("macbook pro", Folder.normalize("MacBook PRO"));
+    }
+
+    /**
+     * ✅ 앞뒤 공백을 제거하고, 연속된 공백(탭, 줄바꿈, 전각 공백 포함)을 하나로 줄이는지 확인하는 테스트입니다.
+     */
+    @Test
+    @DisplayName("폴더 이름 정규화 - 공백")
+    void test3() {
+        assertEquals("a b c", Folder.normalize("  a   b\t\nc "));
+        assertEquals("a b", Folder.normalize("a　b"));
+        assertNull(Folder.normalize(null));
+    }
+}
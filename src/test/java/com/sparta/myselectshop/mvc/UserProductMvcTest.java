@@ -1,6 +1,8 @@
 package com.sparta.myselectshop.mvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.myselectshop.cache.FolderFragmentCache;
+import com.sparta.myselectshop.cache.UserVersionTracker;
 import com.sparta.myselectshop.config.WebSecurityConfig;
 import com.sparta.myselectshop.controller.ProductController;
 import com.sparta.myselectshop.controller.UserController;
@@ -10,6 +12,8 @@ import com.sparta.myselectshop.entity.UserRoleEnum;
 import com.sparta.myselectshop.security.UserDetailsImpl;
 import com.sparta.myselectshop.service.FolderService;
 import com.sparta.myselectshop.service.KakaoService;
+import com.sparta.myselectshop.service.PriceHistoryService;
+import com.sparta.myselectshop.service.ProductExportService;
 import com.sparta.myselectshop.service.ProductService;
 import com.sparta.myselectshop.service.UserService;
 
@@ -21,6 +25,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.test.web.servlet.MockMvc;
@@ -31,6 +36,10 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.security.Principal;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -77,6 +86,18 @@ class UserProductMvcTest {
     @MockBean
     FolderService folderService; // FolderService의 Mock 객체
 
+    @MockBean
+    PriceHistoryService priceHistoryService; // PriceHistoryService의 Mock 객체
+
+    @MockBean
+    ProductExportService productExportService; // ProductExportService의 Mock 객체
+
+    @MockBean
+    UserVersionTracker userVersionTracker; // UserVersionTracker의 Mock 객체
+
+    @MockBean
+    FolderFragmentCache folderFragmentCache; // FolderFragmentCache의 Mock 객체
+
     /**
      * ✅ 각 테스트 케이스 실행 전에 MockMvc 인스턴스를 설정합니다.
      *
@@ -177,4 +198,28 @@ class UserProductMvcTest {
             .andExpect(status().isOk())
             .andDo(print());
     }
-}
\ No newline at end of file
+
+    /**
+     * ✅ 폴더 탭 요청의 ETag 재검증을 테스트합니다.
+     *
+     *    ➡️ `If-None-Match`가 현재 ETag와 같으면 렌더링 없이 304(Not Modified)를 반환하는지 확인합니다.
+     */
+    @Test
+    @DisplayName("폴더 탭 ETag 재검증")
+    void test4() throws Exception {
+        // given
+        this.mockUserSetup(); // Mock 사용자 설정
+        String etag = "\"folders-test-1\"";
+        given(userVersionTracker.etag(any(), any())).willReturn(etag);
+
+        // when - then
+        mvc.perform(get("/api/user-folder")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .principal(mockPrincipal) // Mock 사용자 Principal 설정
+            )
+            .andExpect(status().isNotModified())
+            .andDo(print());
+
+        verify(folderFragmentCache, never()).render(any());
+    }
+}
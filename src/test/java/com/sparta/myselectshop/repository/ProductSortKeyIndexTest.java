@@ -0,0 +1,129 @@
+package com.sparta.myselectshop.repository;
+
+import com.sparta.myselectshop.entity.Product;
+import com.sparta.myselectshop.entity.ProductSortKey;
+import com.sparta.myselectshop.entity.User;
+import com.sparta.myselectshop.monitoring.RequestSqlStats;
+import com.sparta.myselectshop.service.ProductService;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ✅ ProductSortKeyIndexTest 클래스는 상품 목록의 정렬 기준마다 대응하는 복합 인덱스가 선언되고 실제로 사용되는지 검증하는 테스트입니다.
+ *
+ *    ➡️ `test1`, `test2`는 엔티티 선언과 정렬 기준 매핑만 확인하므로 데이터베이스를 조회하지 않습니다.
+ *    ➡️ `test3`은 Hibernate가 생성한 SQL 문으로 실행 중인 MySQL에 `EXPLAIN`을 실행합니다.
+ *       애플리케이션 설정의 MySQL에 접속할 수 있어야 하며, ID가 1인 사용자가 있어야 합니다.
+ */
+@SpringBootTest
+class ProductSortKeyIndexTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate; // 실행 계획(EXPLAIN)을 조회하기 위한 JdbcTemplate
+    @Autowired
+    ProductService productService; // 정렬 기준별 상품 목록 SQL 문을 생성하는 서비스
+    @Autowired
+    UserRepository userRepository;
+
+    /**
+     * ✅ 모든 정렬 기준에 `(user_id, 정렬 컬럼, id)` 인덱스가 선언되어 있는지 확인하는 테스트 메서드
+     *
+     *      ➡️ Product 엔티티의 `@Table(indexes = ...)`에서 정렬 기준의 인덱스 이름을 찾고, 컬럼 구성을 검증합니다.
+     */
+    @Test
+    @DisplayName("정렬 기준별 복합 인덱스 선언")
+    void test1() {
+        // given (Product 엔티티에 선언된 인덱스를 이름별로 모음)
+        Map<String, String> indexes = new HashMap<>();
+        for (Index index : Product.class.getAnnotation(Table.class).indexes()) {
+            indexes.put(index.name(), index.columnList().replace(" ", ""));
+        }
+
+        for (ProductSortKey sortKey : ProductSortKey.values()) {
+            // when (정렬 기준에 기대하는 인덱스 컬럼 구성)
+            String expected = sortKey == ProductSortKey.ID
+                ? "user_id,id"
+                : "user_id," + sortKey.getColumn() + ",id";
+
+            // then (같은 이름의 인덱스가 같은 컬럼 구성으로 선언되어 있는지 확인)
+            assertEquals(expected, indexes.get(sortKey.getIndexName()), sortKey.name());
+        }
+    }
+
+    /**
+     * ✅ 지원하지 않는 정렬 기준을 거부하는지 확인하는 테스트 메서드
+     */
+    @Test
+    @DisplayName("지원하지 않는 정렬 기준")
+    void test2() {
+        // when & then (정의되지 않은 필드명은 IllegalArgumentException을 발생시킴)
+        assertThrows(IllegalArgumentException.class, () -> ProductSortKey.from("password"));
+        assertThrows(IllegalArgumentException.class, () -> ProductSortKey.from(null));
+    }
+
+    /**
+     * ✅ 사용자별 상품 목록을 정렬 기준마다 조회할 때, Hibernate가 생성한 SQL 문이 정렬 기준의 인덱스를 사용하는지 확인하는 테스트 메서드
+     *
+     *      ➡️ `getProducts`를 실제로 호출하여 실행된 SQL 문을 캡처하고, 정렬 순서가 `(user_id, 정렬 컬럼, id)` 인덱스 순서와 같은지 확인합니다.
+     *      ➡️ 캡처한 SQL 문에 파라미터를 바인딩하여 MySQL 실행 계획(EXPLAIN)을 조회하고, 인덱스 사용과 filesort 여부를 검증합니다.
+     */
+    @Test
+    @DisplayName("정렬 기준별 생성 SQL과 실행 계획")
+    void test3() {
+        User user = userRepository.findById(1L).orElseThrow(); // 테스트용 유저를 가져옴
+
+        for (ProductSortKey sortKey : ProductSortKey.values()) {
+            // given & when (정렬 기준으로 상품 목록을 조회하며, 이 스레드가 실행한 SQL 문을 캡처)
+            RequestSqlStats stats = RequestSqlStats.measure("sort-" + sortKey.name(),
+                () -> productService.getProducts(user, 0, 10, sortKey.getProperty(), false));
+            String sql = stats.getStatements().stream()
+                .filter(statement -> statement.contains(" from product ") && statement.contains(" order by "))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(sortKey.name() + " : 상품 목록 조회 SQL 문이 실행되지 않았습니다."));
+
+            // then (정렬 순서가 인덱스 순서와 같은지 확인: 정렬 컬럼, id 모두 같은 방향)
+            String orderBy = sortKey == ProductSortKey.ID
+                ? "\\w+\\.id desc"
+                : "\\w+\\." + sortKey.getColumn() + " desc,\\s*\\w+\\.id desc";
+            assertTrue(Pattern.compile("order by " + orderBy + "\\b").matcher(sql).find(), sortKey.name() + " : " + sql);
+
+            // when (첫 번째 파라미터는 사용자 ID, 나머지는 페이지 크기로 바인딩하여 실행 계획 조회)
+            Object[] params = new Object[countParameters(sql)];
+            Arrays.fill(params, 10);
+            params[0] = user.getId();
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, params);
+
+            // then (정렬 기준의 인덱스를 사용하며, 별도의 정렬(filesort)을 수행하지 않는지 확인)
+            assertEquals(1, plan.size(), sortKey.name());
+            Map<String, Object> row = plan.get(0);
+            if (sortKey != ProductSortKey.ID) {
+                // ID 정렬은 user_id 외래 키 인덱스(암묵적으로 id 포함)로도 정렬 없이 조회될 수 있으므로 인덱스 이름은 확인하지 않습니다.
+                assertEquals(sortKey.getIndexName(), row.get("key"), sortKey.name());
+            }
+            String extra = String.valueOf(row.get("Extra"));
+            assertFalse(extra.contains("Using filesort"), sortKey.name() + " : " + extra);
+        }
+    }
+
+    /**
+     * ✅ SQL 문의 바인딩 파라미터(`?`) 수를 셉니다.
+     */
+    private static int countParameters(String sql) {
+        return (int) sql.chars().filter(c -> c == '?').count();
+    }
+}
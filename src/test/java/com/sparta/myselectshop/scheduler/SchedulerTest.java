@@ -0,0 +1,104 @@
+package com.sparta.myselectshop.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.myselectshop.cache.ItemFingerprintCache;
+import com.sparta.myselectshop.dto.ProductRequestDto;
+import com.sparta.myselectshop.entity.Product;
+import com.sparta.myselectshop.entity.User;
+import com.sparta.myselectshop.naver.dto.ItemDto;
+import com.sparta.myselectshop.naver.service.NaverApiService;
+import com.sparta.myselectshop.repository.ProductRepository;
+import com.sparta.myselectshop.service.ProductService;
+import java.util.List;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class) // @Mock 사용을 위해 Mockito 확장을 적용합니다.
+class SchedulerTest {
+
+    @Mock
+    NaverApiService naverApiService;
+
+    @Mock
+    ProductService productService;
+
+    @Mock
+    ProductRepository productRepository;
+
+    ItemFingerprintCache itemFingerprintCache = new ItemFingerprintCache(100); // 실제 지문 캐시를 사용합니다.
+
+    Scheduler scheduler;
+    Long productId = 100L; // 상품 ID
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new Scheduler(naverApiService, productService, productRepository, itemFingerprintCache);
+
+        // 가격 갱신 대상 상품 하나를 준비합니다.
+        Product product = new Product(new ProductRequestDto("맥북 프로", "image", "link", 3515000), new User());
+        ReflectionTestUtils.setField(product, "id", productId);
+        given(productRepository.findAll()).willReturn(List.of(product));
+    }
+
+    /**
+     * ✅ 검색한 아이템 정보가 마지막으로 반영한 정보와 같으면 갱신을 생략하는지 확인하는 테스트입니다.
+     */
+    @Test
+    @DisplayName("가격 갱신 - 같은 아이템 정보는 갱신 생략")
+    void test1() throws InterruptedException {
+        // given (마지막으로 반영한 아이템 정보와 같은 검색 결과)
+        ItemDto itemDto = item(3515000);
+        itemFingerprintCache.put(productId, itemDto);
+        given(naverApiService.searchItems("맥북 프로")).willReturn(List.of(item(3515000)));
+
+        // when (가격 갱신 실행)
+        scheduler.updatePrice();
+
+        // then (상품 조회/갱신을 하지 않음)
+        verify(productService, never()).updateBySearch(anyLong(), any());
+    }
+
+    /**
+     * ✅ 검색한 아이템의 가격이 바뀌면 상품을 갱신하고, 새 지문을 기록하는지 확인하는 테스트입니다.
+     */
+    @Test
+    @DisplayName("가격 갱신 - 가격이 바뀐 아이템은 갱신")
+    void test2() throws InterruptedException {
+        // given (마지막으로 반영한 아이템 정보와 가격만 다른 검색 결과)
+        itemFingerprintCache.put(productId, item(3515000));
+        ItemDto changed = item(3400000);
+        given(naverApiService.searchItems("맥북 프로")).willReturn(List.of(changed));
+
+        // when (가격 갱신 실행)
+        scheduler.updatePrice();
+
+        // then (상품을 갱신하고, 바뀐 아이템 정보의 지문을 기록함)
+        verify(productService).updateBySearch(productId, changed);
+        assertTrue(itemFingerprintCache.isUnchanged(productId, item(3400000)));
+        assertFalse(itemFingerprintCache.isUnchanged(productId, item(3515000)));
+    }
+
+    /**
+     * ✅ 네이버 검색 결과와 같은 형태의 아이템 정보를 만듭니다.
+     */
+    private ItemDto item(int lprice) {
+        return new ItemDto(new JSONObject()
+            .put("title", "맥북 프로")
+            .put("link", "link")
+            .put("image", "image")
+            .put("lprice", lprice));
+    }
+}
@@ -0,0 +1,88 @@
+package com.sparta.myselectshop.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.sparta.myselectshop.cache.UserVersionTracker;
+import com.sparta.myselectshop.config.ReadYourWritesTracker;
+import com.sparta.myselectshop.entity.User;
+import com.sparta.myselectshop.repository.FolderRepository;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class) // @Mock 사용을 위해 Mockito 확장을 적용합니다.
+class FolderServiceTest {
+
+    @Mock
+    FolderRepository folderRepository;
+
+    @Mock
+    UserVersionTracker userVersionTracker;
+
+    @Mock
+    CacheManager cacheManager;
+
+    @Mock
+    ReadYourWritesTracker readYourWritesTracker;
+
+    /**
+     * ✅ 정규화된 이름이 서로 다른 폴더 이름은 입력 순서대로 유지하는지 확인하는 테스트입니다.
+     */
+    @Test
+    @DisplayName("폴더 이름 중복 확인 - 중복 없음")
+    void test1() {
+        // when
+        Map<String, String> result = FolderService.normalizeDistinct(List.of("Shoes", "  가방 ", "My  Bag"));
+
+        // then
+        assertEquals(List.of("shoes", "가방", "my bag"), List.copyOf(result.keySet()));
+        assertEquals(List.of("Shoes", "  가방 ", "My  Bag"), List.copyOf(result.values()));
+    }
+
+    /**
+     * ✅ 대소문자, 공백, 유니코드 조합 방식만 다른 이름을 중복으로 판단하는지 확인하는 테스트입니다.
+     */
+    @Test
+    @DisplayName("폴더 이름 중복 확인 - 대소문자, 공백, NFC")
+    void test2() {
+        assertThrows(IllegalArgumentException.class,
+            () -> FolderService.normalizeDistinct(List.of("Shoes", "SHOES")));
+        assertThrows(IllegalArgumentException.class,
+            () -> FolderService.normalizeDistinct(List.of("my bag", " my   bag ")));
+        assertThrows(IllegalArgumentException.class,
+            () -> FolderService.normalizeDistinct(List.of("가방", "가방")));
+    }
+
+    /**
+     * ✅ 중복 확인 이후 다른 요청이 같은 이름의 폴더를 먼저 저장한 경우, 충돌한 폴더 이름만 알려주는지 확인하는 테스트입니다.
+     */
+    @Test
+    @DisplayName("폴더 추가 - 동시에 저장된 폴더 이름만 알림")
+    void test3() {
+        // given (확인 시점에는 중복이 없었지만, 저장 직전에 "Bag"이 먼저 저장됨)
+        User user = new User();
+        FolderService folderService = new FolderService(folderRepository, userVersionTracker, cacheManager, readYourWritesTracker);
+        given(folderRepository.findNormalizedNamesByUserAndNormalizedNameIn(eq(user), anyCollection()))
+            .willReturn(List.of())
+            .willReturn(List.of("bag"));
+        given(folderRepository.saveAll(anyList())).willThrow(new DataIntegrityViolationException("uk_folder_user_normalized_name"));
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> folderService.addFolders(List.of("Shoes", "Bag"), user));
+
+        // then
+        assertEquals("중복된 폴더명을 제거해주세요! 폴더명 : Bag", exception.getMessage());
+    }
+}
@@ -0,0 +1,154 @@
+package com.sparta.myselectshop.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.myselectshop.entity.User;
+import com.sparta.myselectshop.entity.UserRoleEnum;
+import com.sparta.myselectshop.jwt.JwtUtil;
+import com.sparta.myselectshop.repository.UserRepository;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class) // @Mock 사용을 위해 Mockito 확장을 적용합니다.
+class KakaoServiceTest {
+
+    private static final long TIMEOUT_MS = 200; // 테스트용 단계별 제한 시간(ms)
+
+    @Mock
+    PasswordEncoder passwordEncoder;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    RestTemplate restTemplate;
+
+    @Mock
+    JwtUtil jwtUtil;
+
+    ThreadPoolTaskExecutor executor; // 스레드 1개, 대기열이 없는 카카오 로그인 스레드 풀
+    KakaoService kakaoService;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.initialize();
+
+        kakaoService = new KakaoService(passwordEncoder, userRepository, restTemplate, jwtUtil, new ObjectMapper(),
+            executor, TIMEOUT_MS, TIMEOUT_MS, TIMEOUT_MS);
+        ReflectionTestUtils.setField(kakaoService, "authBaseUrl", "http://kauth.test");
+        ReflectionTestUtils.setField(kakaoService, "apiBaseUrl", "http://kapi.test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    /**
+     * ✅ 인가 코드로 토큰과 사용자 정보를 받아, 기존 회원의 JWT 토큰을 만드는지 확인하는 테스트입니다.
+     */
+    @Test
+    @DisplayName("카카오 로그인 - 성공")
+    void test1() throws Exception {
+        // given
+        User user = new User("kakaoUser", "password", "kakao@test.com", UserRoleEnum.USER, 1234L);
+        given(restTemplate.exchange(any(RequestEntity.class), eq(String.class)))
+            .willReturn(ResponseEntity.ok("{\"access_token\":\"token\"}"))
+            .willReturn(ResponseEntity.ok("{\"id\":1234,\"properties\":{\"nickname\":\"kakaoUser\"},"
+                + "\"kakao_account\":{\"email\":\"kakao@test.com\"}}"));
+        given(userRepository.findByKakaoId(1234L)).willReturn(Optional.of(user));
+        given(jwtUtil.createToken("kakaoUser", UserRoleEnum.USER)).willReturn("Bearer jwt");
+
+        // when
+        String token = kakaoService.kakaoLoginAsync("code").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals("Bearer jwt", token);
+    }
+
+    /**
+     * ✅ 카카오 응답이 제한 시간을 넘기면 `TimeoutException`으로 실패하고, 작업을 인터럽트하여 스레드를 반환하는지 확인하는 테스트입니다.
+     */
+    @Test
+    @DisplayName("카카오 로그인 - 제한 시간 초과")
+    void test2() throws Exception {
+        // given (토큰 요청이 인터럽트될 때까지 응답하지 않음)
+        CountDownLatch interrupted = new CountDownLatch(1);
+        given(restTemplate.exchange(any(RequestEntity.class), eq(String.class))).willAnswer(invocation -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            throw new IllegalStateException("interrupted");
+        });
+
+        // when
+        CompletableFuture<String> result = kakaoService.kakaoLoginAsync("code");
+
+        // then
+        ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, e.getCause());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "제한 시간이 지난 작업이 인터럽트되지 않았습니다.");
+    }
+
+    /**
+     * ✅ 스레드 풀이 가득 차면 예외를 던지지 않고, `RejectedExecutionException`으로 실패한 CompletableFuture를 반환하는지 확인하는 테스트입니다.
+     */
+    @Test
+    @DisplayName("카카오 로그인 - 스레드 풀 포화")
+    void test3() throws Exception {
+        // given (하나뿐인 스레드를 다른 작업이 사용 중)
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await(5, TimeUnit.SECONDS);
+
+        try {
+            // when
+            CompletableFuture<String> result = kakaoService.kakaoLoginAsync("code");
+
+            // then
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        } finally {
+            release.countDown();
+        }
+    }
+}
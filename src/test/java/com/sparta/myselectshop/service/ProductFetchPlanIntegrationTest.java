@@ -0,0 +1,189 @@
+package com.sparta.myselectshop.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.myselectshop.dto.ProductRequestDto;
+import com.sparta.myselectshop.dto.ProductResponseDto;
+import com.sparta.myselectshop.entity.Folder;
+import com.sparta.myselectshop.entity.Product;
+import com.sparta.myselectshop.entity.User;
+import com.sparta.myselectshop.monitoring.RequestSqlStats;
+import com.sparta.myselectshop.repository.FolderRepository;
+import com.sparta.myselectshop.repository.ProductRepository;
+import com.sparta.myselectshop.repository.UserRepository;
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ✅ ProductFetchPlanIntegrationTest 클래스는 상품 조회가 트랜잭션 밖에서 지연 로딩하지 않는지 검증하는 통합 테스트입니다.
+ *
+ *    ➡️ open-in-view를 끄면 트랜잭션 밖의 지연 로딩은 `LazyInitializationException`으로 실패하므로,
+ *       서비스 메서드를 트랜잭션 없이 호출하여 DTO 변환까지 서비스 안에서 끝나는지 확인합니다.
+ *    ➡️ 상품 수와 관계없이 폴더 정보를 정해진 수의 쿼리로 함께 조회하는지(N+1이 없는지) 실행된 SQL 문 수로 확인합니다.
+ *       SQL 문 수는 `RequestSqlStats.measure`로 테스트 스레드의 것만 셉니다. (스케줄러 등 다른 스레드의 SQL 문은 섞이지 않습니다.)
+ *    ➡️ 테스트 메서드에는 `@Transactional`을 붙이지 않습니다. 붙이면 테스트 전체가 하나의 세션이 되어 지연 로딩이 가려집니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS) // 테스트 인스턴스의 생성 단위를 클래스로 설정하여 클래스 당 한 번 생성되도록 함
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class) // 테스트 메서드 실행 순서를 지정할 수 있도록 설정
+class ProductFetchPlanIntegrationTest {
+
+    private static final int PRODUCT_COUNT = 5; // 폴더에 추가할 상품 수
+    private static final int MAX_STATEMENTS = 4; // 목록 조회 한 번에 허용하는 SQL 문 수 (상품 수와 무관해야 합니다.)
+
+    @Autowired
+    ProductService productService;
+    @Autowired
+    FolderService folderService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    ProductRepository productRepository;
+    @Autowired
+    FolderRepository folderRepository;
+    @Autowired
+    ProductExportService productExportService;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    User user;
+    Long folderId;
+
+    /**
+     * ✅ 테스트용 폴더를 만들고, 새로 등록한 상품들을 그 폴더에 추가합니다.
+     */
+    @BeforeAll
+    void setUp() {
+        user = userRepository.findById(1L).orElseThrow(); // 테스트용 유저를 가져옴
+
+        String folderName = "fetch-plan-" + System.nanoTime();
+        folderService.addFolders(List.of(folderName), user);
+        folderId = folderRepository.findAllByUser(user).stream()
+            .filter(folder -> folder.getName().equals(folderName))
+            .map(Folder::getId)
+            .findFirst()
+            .orElseThrow();
+
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            ProductResponseDto product = productService.createProduct(new ProductRequestDto(
+                "fetch plan " + i, "https://example.com/" + i + ".jpg", "https://example.com/" + i, 10000 + i), user);
+            productService.addFolder(product.getId(), folderId, user);
+        }
+    }
+
+    /**
+     * ✅ open-in-view가 꺼져 있어, 트랜잭션 밖의 지연 로딩이 실패하는지 확인합니다.
+     *
+     *      ➡️ 이 테스트가 실패하면 아래 테스트들이 트랜잭션 밖의 지연 로딩을 잡아내지 못합니다.
+     */
+    @Test
+    @Order(1)
+    @DisplayName("트랜잭션 밖의 지연 로딩은 실패")
+    void test1() {
+        // given (트랜잭션 없이 상품 엔티티를 조회)
+        Product product = productRepository.findAll(PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "id")))
+            .getContent().get(0);
+
+        // when & then (영속성 컨텍스트가 닫힌 뒤 폴더 목록에 접근하면 예외가 발생해야 함)
+        assertThrows(LazyInitializationException.class, () -> product.getProductFolderList().size());
+    }
+
+    /**
+     * ✅ 관심상품 목록 조회가 서비스 안에서 폴더까지 함께 조회하는지 확인합니다.
+     */
+    @Test
+    @Order(2)
+    @DisplayName("관심상품 목록 조회 - 폴더를 함께 조회")
+    void test2() {
+        // when
+        AtomicReference<Page<ProductResponseDto>> result = new AtomicReference<>();
+        RequestSqlStats stats = RequestSqlStats.measure("test2",
+            () -> result.set(productService.getProducts(user, 0, PRODUCT_COUNT, "id", false)));
+        Page<ProductResponseDto> productList = result.get();
+        int statements = stats.getStatementCount();
+
+        // then
+        assertEquals(PRODUCT_COUNT, productList.getContent().size());
+        productList.forEach(product -> assertFalse(product.getProductFolderList().isEmpty())); // 방금 추가한 폴더가 함께 조회됨
+        assertTrue(statements <= MAX_STATEMENTS, "SQL 문 " + statements + "개 실행 (N+1 의심)");
+    }
+
+    /**
+     * ✅ 폴더별 관심상품 목록 조회가 서비스 안에서 폴더까지 함께 조회하는지 확인합니다.
+     */
+    @Test
+    @Order(3)
+    @DisplayName("폴더별 관심상품 목록 조회 - 폴더를 함께 조회")
+    void test3() {
+        // when
+        AtomicReference<Page<ProductResponseDto>> result = new AtomicReference<>();
+        RequestSqlStats stats = RequestSqlStats.measure("test3",
+            () -> result.set(productService.getProductsInFolder(folderId, 0, PRODUCT_COUNT, "id", false, user)));
+        Page<ProductResponseDto> productList = result.get();
+        int statements = stats.getStatementCount();
+
+        // then
+        assertEquals(PRODUCT_COUNT, productList.getContent().size());
+        productList.forEach(product -> assertTrue(product.getProductFolderList().stream()
+            .anyMatch(folder -> folder.getId().equals(folderId))));
+        assertTrue(statements <= MAX_STATEMENTS, "SQL 문 " + statements + "개 실행 (N+1 의심)");
+    }
+
+    /**
+     * ✅ 커서 기반 목록 조회가 서비스 안에서 폴더까지 함께 조회하는지 확인합니다.
+     */
+    @Test
+    @Order(4)
+    @DisplayName("커서 기반 관심상품 목록 조회 - 폴더를 함께 조회")
+    void test4() {
+        // when
+        AtomicReference<List<ProductResponseDto>> result = new AtomicReference<>();
+        RequestSqlStats stats = RequestSqlStats.measure("test4", () -> result.set(productService.scrollProductsInFolder(
+            folderId, null, PRODUCT_COUNT, "id", false, false, user).getContent()));
+        List<ProductResponseDto> productList = result.get();
+        int statements = stats.getStatementCount();
+
+        // then
+        assertEquals(PRODUCT_COUNT, productList.size());
+        productList.forEach(product -> assertFalse(product.getProductFolderList().isEmpty()));
+        assertTrue(statements <= MAX_STATEMENTS, "SQL 문 " + statements + "개 실행 (N+1 의심)");
+    }
+
+    /**
+     * ✅ 관리자용 전체 상품 조회(JSON 배열 스트리밍)가 트랜잭션 밖에서 지연 로딩하지 않고 폴더 정보까지 기록하는지 확인합니다.
+     */
+    @Test
+    @Order(5)
+    @DisplayName("관리자용 전체 상품 조회 - 지연 로딩 없음")
+    void test5() throws IOException {
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        productExportService.export(ProductExportService.Format.JSON, out);
+        JsonNode productList = objectMapper.readTree(out.toByteArray());
+
+        // then (예외 없이 폴더 정보까지 기록됨)
+        assertTrue(productList.isArray());
+        boolean found = false;
+        for (JsonNode product : productList) {
+            for (JsonNode folder : product.get("productFolderList")) {
+                found |= folder.get("id").asLong() == folderId;
+            }
+        }
+        assertTrue(found, "폴더에 추가한 상품이 폴더 정보와 함께 기록되지 않았습니다.");
+    }
+}
@@ -1,22 +1,45 @@
 package com.sparta.myselectshop.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import com.sparta.myselectshop.alert.event.PriceDropEvent;
+import com.sparta.myselectshop.cache.ProductCountCache;
+import com.sparta.myselectshop.cache.UserVersionTracker;
+import com.sparta.myselectshop.config.ReadYourWritesTracker;
+import com.sparta.myselectshop.dto.ProductFolderBulkRequestDto;
+import com.sparta.myselectshop.dto.ProductFolderBulkResponseDto;
+import com.sparta.myselectshop.dto.ProductFolderMoveRequestDto;
 import com.sparta.myselectshop.dto.ProductMypriceRequestDto;
 import com.sparta.myselectshop.dto.ProductRequestDto;
 import com.sparta.myselectshop.dto.ProductResponseDto;
 import com.sparta.myselectshop.entity.Product;
 import com.sparta.myselectshop.entity.User;
+import com.sparta.myselectshop.naver.dto.ItemDto;
 import com.sparta.myselectshop.repository.FolderRepository;
+import com.sparta.myselectshop.repository.ProductFolderBatchRepository;
 import com.sparta.myselectshop.repository.ProductFolderRepository;
+import com.sparta.myselectshop.repository.ProductFolderRepository.ProductFolderIds;
 import com.sparta.myselectshop.repository.ProductRepository;
+import com.sparta.myselectshop.util.KeysetCursorCodec;
+import java.util.List;
 import java.util.Optional;
+import org.json.JSONObject;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.MessageSource;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class) // @Mock 사용을 위해 Mockito 확장을 적용합니다.
 class ProductServiceTest {
@@ -36,6 +59,30 @@ class ProductServiceTest {
     @Mock
     ProductFolderRepository productFolderRepository;
 
+    @Mock
+    MessageSource messageSource;
+
+    @Mock
+    PriceHistoryService priceHistoryService;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    KeysetCursorCodec keysetCursorCodec;
+
+    @Mock
+    ProductCountCache productCountCache;
+
+    @Mock
+    ProductFolderBatchRepository productFolderBatchRepository;
+
+    @Mock
+    UserVersionTracker userVersionTracker;
+
+    @Mock
+    ReadYourWritesTracker readYourWritesTracker;
+
     /**
      * ✅ 관심 상품의 희망가를 최저가 이상으로 설정하는 테스트입니다.
      *
@@ -65,7 +112,9 @@ class ProductServiceTest {
         Product product = new Product(requestProductDto, user);
 
         // ProductService 인스턴스 생성
-        ProductService productService = new ProductService(productRepository, folderRepository, productFolderRepository);
+        ProductService productService = new ProductService(productRepository, folderRepository, productFolderRepository,
+            messageSource, priceHistoryService, eventPublisher, keysetCursorCodec,
+            productCountCache, productFolderBatchRepository, userVersionTracker, readYourWritesTracker);
 
         // 가짜 productRepository에서 특정 productId로 상품을 찾을 때 해당 product를 반환하도록 설정
         given(productRepository.findById(productId)).willReturn(Optional.of(product));
@@ -94,7 +143,9 @@ class ProductServiceTest {
         requestMyPriceDto.setMyprice(myprice);
 
         // ProductService 인스턴스 생성
-        ProductService productService = new ProductService(productRepository, folderRepository, productFolderRepository);
+        ProductService productService = new ProductService(productRepository, folderRepository, productFolderRepository,
+            messageSource, priceHistoryService, eventPublisher, keysetCursorCodec,
+            productCountCache, productFolderBatchRepository, userVersionTracker, readYourWritesTracker);
 
         // when (테스트하려는 동작 실행)
         // 희망가가 최저가 미만일 경우 예외가 발생해야 함
@@ -109,4 +160,204 @@ class ProductServiceTest {
             exception.getMessage()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * ✅ 가격 갱신 시 가격 하락 알림 중복 방지가 동작하는지 확인하는 테스트입니다.
+     *
+     *      ➡️ 희망가 이하로 내려가면 알림을 보내고, 같은 가격으로 다시 갱신되면 보내지 않습니다.
+     *      ➡️ 최저가가 희망가 위로 회복된 뒤 다시 같은 가격으로 내려가면 알림을 다시 보냅니다.
+     */
+    @Test
+    @DisplayName("가격 갱신 - 하락, 회복, 재하락 알림")
+    void test3() {
+        // given (희망가 100,000원, 현재 최저가 120,000원인 상품)
+        Long productId = 300L;
+        Product product = new Product(new ProductRequestDto("맥북", "image", "link", 120_000), new User());
+        product.setMyprice(100_000);
+
+        ProductService productService = new ProductService(productRepository, folderRepository, productFolderRepository,
+            messageSource, priceHistoryService, eventPublisher, keysetCursorCodec,
+            productCountCache, productFolderBatchRepository, userVersionTracker, readYourWritesTracker);
+        given(productRepository.findById(productId)).willReturn(Optional.of(product));
+
+        // when & then (하락: 알림 발행)
+        productService.updateBySearch(productId, item(90_000));
+        verify(eventPublisher, times(1)).publishEvent(any(PriceDropEvent.class));
+        assertEquals(90_000, product.getAlertedPrice());
+
+        // when & then (같은 가격으로 다시 갱신: 중복 알림 없음)
+        productService.updateBySearch(productId, item(90_000));
+        verify(eventPublisher, times(1)).publishEvent(any(PriceDropEvent.class));
+
+        // when & then (희망가 위로 회복: 알림 없이 기록만 지움)
+        productService.updateBySearch(productId, item(110_000));
+        verify(eventPublisher, times(1)).publishEvent(any(PriceDropEvent.class));
+        assertEquals(0, product.getAlertedPrice());
+
+        // when & then (같은 가격으로 재하락: 다시 알림 발행)
+        productService.updateBySearch(productId, item(90_000));
+        verify(eventPublisher, times(2)).publishEvent(any(PriceDropEvent.class));
+    }
+
+    /**
+     * ✅ 여러 상품을 여러 폴더에 한 번에 추가하는 테스트입니다.
+     *
+     *      ➡️ 조회 이후 동시 요청이 같은 연결을 먼저 저장하여 `INSERT IGNORE`가 무시한 행은 추가된 수와 폴더별 상품 수 캐시에 포함하지 않습니다.
+     */
+    @Test
+    @DisplayName("상품 일괄 폴더 추가 - 동시에 저장된 연결은 건너뜀")
+    void test4() {
+        // given (상품 2개 x 폴더 1개, 두 번째 연결은 저장 직전에 다른 요청이 먼저 저장함)
+        User user = userWithId(1L);
+        ProductFolderBulkRequestDto requestDto = new ProductFolderBulkRequestDto();
+        ReflectionTestUtils.setField(requestDto, "productIds", List.of(1L, 2L));
+        ReflectionTestUtils.setField(requestDto, "folderIds", List.of(10L));
+
+        ProductService productService = new ProductService(productRepository, folderRepository, productFolderRepository,
+            messageSource, priceHistoryService, eventPublisher, keysetCursorCodec,
+            productCountCache, productFolderBatchRepository, userVersionTracker, readYourWritesTracker);
+        given(productRepository.countByIdInAndUserId(anyCollection(), eq(1L))).willReturn(2L);
+        given(folderRepository.countByIdInAndUserId(anyCollection(), eq(1L))).willReturn(1L);
+        given(productFolderRepository.findIdsByProductIdInAndFolderIdIn(anyCollection(), anyCollection()))
+            .willReturn(List.of());
+        given(productFolderBatchRepository.insertAll(anyList())).willReturn(new boolean[]{true, false});
+
+        // when
+        ProductFolderBulkResponseDto result = productService.addProductsToFolders(requestDto, user);
+
+        // then (실제로 저장된 1건만 추가된 것으로 반영)
+        assertEquals(1, result.getAdded());
+        assertEquals(1, result.getSkipped());
+        verify(productCountCache).productsAddedToFolder(1L, 10L, 1);
+    }
+
+    /**
+     * ✅ 여러 상품을 한 폴더에서 다른 폴더로 한 번에 옮기는 테스트입니다.
+     *
+     *      ➡️ 대상 폴더에 이미 있던 연결과, 동시 요청이 먼저 저장한 연결은 모두 건너뛴 것으로 반영합니다.
+     */
+    @Test
+    @DisplayName("상품 일괄 폴더 이동")
+    void test5() {
+        // given (상품 3개를 폴더 10에서 폴더 20으로 이동, 상품 1은 이미 폴더 20에 있고 상품 3은 동시에 저장됨)
+        User user = userWithId(1L);
+        ProductFolderMoveRequestDto requestDto = new ProductFolderMoveRequestDto();
+        ReflectionTestUtils.setField(requestDto, "productIds", List.of(1L, 2L, 3L));
+        ReflectionTestUtils.setField(requestDto, "fromFolderId", 10L);
+        ReflectionTestUtils.setField(requestDto, "toFolderId", 20L);
+
+        ProductService productService = new ProductService(productRepository, folderRepository, productFolderRepository,
+            messageSource, priceHistoryService, eventPublisher, keysetCursorCodec,
+            productCountCache, productFolderBatchRepository, userVersionTracker, readYourWritesTracker);
+        given(productRepository.countByIdInAndUserId(anyCollection(), eq(1L))).willReturn(3L);
+        given(folderRepository.countByIdInAndUserId(anyCollection(), eq(1L))).willReturn(2L);
+        given(productFolderRepository.deleteByFolderIdAndProductIdIn(eq(10L), anyCollection())).willReturn(3);
+        given(productFolderRepository.findIdsByProductIdInAndFolderIdIn(anyCollection(), anyCollection()))
+            .willReturn(List.of(productFolderIds(1L, 20L)));
+        given(productFolderBatchRepository.insertAll(anyList())).willReturn(new boolean[]{true, false});
+
+        // when
+        ProductFolderBulkResponseDto result = productService.moveProductsBetweenFolders(requestDto, user);
+
+        // then
+        assertEquals(1, result.getAdded());
+        assertEquals(2, result.getSkipped());
+        assertEquals(3, result.getRemoved());
+        verify(productCountCache).productsRemovedFromFolder(1L, 10L, 3);
+        verify(productCountCache).productsAddedToFolder(1L, 20L, 1);
+    }
+
+    /**
+     * ✅ 다른 사용자의 폴더가 포함되면 연결을 저장하지 않는지 확인하는 테스트입니다.
+     */
+    @Test
+    @DisplayName("상품 일괄 폴더 추가 - 다른 사용자의 폴더")
+    void test6() {
+        // given (폴더 2개 중 1개만 로그인한 사용자의 소유)
+        User user = userWithId(1L);
+        ProductFolderBulkRequestDto requestDto = new ProductFolderBulkRequestDto();
+        ReflectionTestUtils.setField(requestDto, "productIds", List.of(1L));
+        ReflectionTestUtils.setField(requestDto, "folderIds", List.of(10L, 11L));
+
+        ProductService productService = new ProductService(productRepository, folderRepository, productFolderRepository,
+            messageSource, priceHistoryService, eventPublisher, keysetCursorCodec,
+            productCountCache, productFolderBatchRepository, userVersionTracker, readYourWritesTracker);
+        given(productRepository.countByIdInAndUserId(anyCollection(), eq(1L))).willReturn(1L);
+        given(folderRepository.countByIdInAndUserId(anyCollection(), eq(1L))).willReturn(1L);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> productService.addProductsToFolders(requestDto, user));
+        verify(productFolderBatchRepository, never()).insertAll(anyList());
+    }
+
+    /**
+     * ✅ 희망가를 변경되지 않은 최저가 이상으로 올리면 가격 하락 알림을 보내는지 확인하는 테스트입니다.
+     *
+     *      ➡️ 최저가가 바뀌지 않으면 가격 갱신이 생략되므로, 희망가 변경 시점에 알림 여부를 확인해야 합니다.
+     */
+    @Test
+    @DisplayName("관심 상품 희망가 - 현재 최저가 이상으로 올리면 알림")
+    void test7() {
+        // given (희망가 100,000원, 현재 최저가 120,000원인 상품)
+        Long productId = 700L;
+        Product product = new Product(new ProductRequestDto("맥북", "image", "link", 120_000), new User());
+        product.setMyprice(100_000);
+        product.refreshPriceReached();
+
+        ProductMypriceRequestDto requestMyPriceDto = new ProductMypriceRequestDto();
+        requestMyPriceDto.setMyprice(130_000);
+
+        ProductService productService = new ProductService(productRepository, folderRepository, productFolderRepository,
+            messageSource, priceHistoryService, eventPublisher, keysetCursorCodec,
+            productCountCache, productFolderBatchRepository, userVersionTracker, readYourWritesTracker);
+        given(productRepository.findById(productId)).willReturn(Optional.of(product));
+
+        // when (희망가를 최저가 위로 올림)
+        productService.updateProduct(productId, requestMyPriceDto);
+
+        // then (알림 발행 및 기록)
+        verify(eventPublisher, times(1)).publishEvent(any(PriceDropEvent.class));
+        assertEquals(120_000, product.getAlertedPrice());
+
+        // when & then (같은 희망가로 다시 저장: 중복 알림 없음)
+        productService.updateProduct(productId, requestMyPriceDto);
+        verify(eventPublisher, times(1)).publishEvent(any(PriceDropEvent.class));
+    }
+
+    /**
+     * ✅ ID가 지정된 사용자를 만듭니다.
+     */
+    private User userWithId(Long id) {
+        User user = new User();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    /**
+     * ✅ 이미 존재하는 (상품 ID, 폴더 ID) 연결을 만듭니다.
+     */
+    private ProductFolderIds productFolderIds(Long productId, Long folderId) {
+        return new ProductFolderIds() {
+            @Override
+            public Long getProductId() {
+                return productId;
+            }
+
+            @Override
+            public Long getFolderId() {
+                return folderId;
+            }
+        };
+    }
+
+    /**
+     * ✅ 네이버 검색 결과와 같은 형태의 아이템 정보를 만듭니다.
+     */
+    private ItemDto item(int lprice) {
+        return new ItemDto(new JSONObject()
+            .put("title", "맥북")
+            .put("link", "link")
+            .put("image", "image")
+            .put("lprice", lprice));
+    }
+}